@@ -0,0 +1,133 @@
+package service;
+
+import model.Employee;
+import model.PayrollResult;
+import utils.PayrollMetrics;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * BatchPayrollProcessor runs payroll for the whole roster without console prompts.
+ * Hours worked are streamed from a timesheet CSV keyed by employee number and
+ * joined against the loaded roster one row at a time.
+ */
+public class BatchPayrollProcessor {
+    private static final Logger LOGGER = Logger.getLogger(BatchPayrollProcessor.class.getName());
+    private static final String[] OUTPUT_HEADER = {
+        "Employee #", "Name", "Hours Worked", "Gross Salary", "Total Allowances", "Total Deductions", "Net Salary"
+    };
+    private final PayrollCalculator payrollCalculator;
+
+    /**
+     * Creates a batch processor using the rate set in effect today.
+     */
+    public BatchPayrollProcessor() {
+        this(new PayrollCalculator());
+    }
+
+    /**
+     * Creates a batch processor using a specific calculator, e.g. one for a past pay period.
+     * @param payrollCalculator Calculator used for every employee of the run
+     */
+    public BatchPayrollProcessor(PayrollCalculator payrollCalculator) {
+        this.payrollCalculator = payrollCalculator;
+    }
+
+    /**
+     * Processes payroll for every employee listed in the timesheet file.
+     * The timesheet has a header line followed by rows of {@code employeeNumber,hoursWorked}.
+     * Rows with missing columns, unknown or repeated employee numbers, or invalid hours are rejected.
+     * @param employees Loaded employee roster
+     * @param timesheetPath Path to the timesheet CSV file
+     * @param outputPath Path of the payroll results CSV file to write
+     * @return Summary of the run including throughput and rejected rows
+     * @throws IOException if reading the timesheet or writing the results fails
+     * @throws CsvException if CSV parsing fails
+     */
+    public BatchRunSummary processTimesheet(List<Employee> employees, String timesheetPath, String outputPath)
+            throws IOException, CsvException {
+        long start = System.nanoTime();
+
+        Map<String, Employee> roster = new HashMap<>(employees.size() * 4 / 3 + 1);
+        for (Employee emp : employees) {
+            if (emp != null) roster.put(emp.getEmployeeNumber(), emp);
+        }
+
+        // One result buffer is refilled for every employee so the loop does not allocate results
+        PayrollResult result = new PayrollResult();
+        int processed = 0;
+        int rejected = 0;
+        try (
+            CSVReader reader = new CSVReader(new InputStreamReader(new FileInputStream(timesheetPath), StandardCharsets.UTF_8));
+            CSVWriter writer = new CSVWriter(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(outputPath), StandardCharsets.UTF_8)))
+        ) {
+            writer.writeNext(OUTPUT_HEADER);
+            String[] line;
+            boolean firstLine = true;
+            while ((line = reader.readNext()) != null) {
+                if (firstLine) {
+                    firstLine = false;
+                    continue;
+                }
+
+                if (line.length < 2) {
+                    LOGGER.log(Level.WARNING, "⚠ Invalid timesheet row: {0}", String.join("|", line));
+                    rejected++;
+                    continue;
+                }
+
+                double hoursWorked;
+                try {
+                    hoursWorked = Double.parseDouble(line[1].trim());
+                } catch (NumberFormatException e) {
+                    hoursWorked = -1;
+                }
+                if (hoursWorked < 0 || Double.isNaN(hoursWorked) || Double.isInfinite(hoursWorked)) {
+                    LOGGER.log(Level.WARNING, "⚠ Invalid hours worked for employee {0}: {1}", new Object[]{line[0], line[1]});
+                    rejected++;
+                    continue;
+                }
+
+                // Each employee is removed once paid so repeated rows are rejected
+                Employee emp = roster.remove(line[0].trim());
+                if (emp == null) {
+                    LOGGER.log(Level.WARNING, "⚠ Unknown or repeated employee number in timesheet: {0}", line[0]);
+                    rejected++;
+                    continue;
+                }
+
+                payrollCalculator.computePayroll(emp, hoursWorked, result);
+                writer.writeNext(new String[]{
+                    emp.getEmployeeNumber(), emp.getFullName(), formatAmount(hoursWorked), formatAmount(result.getGrossSalary()),
+                    formatAmount(result.getTotalAllowances()), formatAmount(result.getTotalDeductions()),
+                    formatAmount(result.getNetSalary())
+                });
+                processed++;
+            }
+        }
+
+        if (!roster.isEmpty()) {
+            LOGGER.log(Level.WARNING, "⚠ {0} employee(s) have no timesheet row and were not paid", roster.size());
+        }
+        PayrollMetrics.getDefault().recordTimesheetRowsRejected(rejected);
+        return new BatchRunSummary(processed, rejected, roster.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * Formats an amount with two decimal places for the results file.
+     * @param value The amount to format
+     * @return Formatted amount
+     */
+    private static String formatAmount(double value) {
+        return String.format("%.2f", value);
+    }
+}
@@ -0,0 +1,53 @@
+package service;
+
+/**
+ * BatchRunSummary holds the outcome of a non-interactive payroll run.
+ * Provides throughput figures so large cutoffs can be compared run to run.
+ */
+public class BatchRunSummary {
+    private final int employeesProcessed;
+    private final int rowsRejected;
+    private final int employeesWithoutTimesheet;
+    private final long wallTimeNanos;
+
+    /**
+     * Constructor for BatchRunSummary class.
+     * @param employeesProcessed Number of employees whose payroll was computed
+     * @param rowsRejected Number of timesheet rows that could not be used
+     * @param employeesWithoutTimesheet Number of roster employees with no timesheet row
+     * @param wallTimeNanos Elapsed wall time of the run in nanoseconds
+     */
+    public BatchRunSummary(int employeesProcessed, int rowsRejected, int employeesWithoutTimesheet, long wallTimeNanos) {
+        this.employeesProcessed = employeesProcessed;
+        this.rowsRejected = rowsRejected;
+        this.employeesWithoutTimesheet = employeesWithoutTimesheet;
+        this.wallTimeNanos = wallTimeNanos;
+    }
+
+    public int getEmployeesProcessed() { return employeesProcessed; }
+    public int getRowsRejected() { return rowsRejected; }
+    public int getEmployeesWithoutTimesheet() { return employeesWithoutTimesheet; }
+    public long getWallTimeNanos() { return wallTimeNanos; }
+
+    /**
+     * Computes the throughput of the run.
+     * @return Employees processed per second of wall time
+     */
+    public double getEmployeesPerSecond() {
+        return wallTimeNanos == 0 ? 0.0 : employeesProcessed / (wallTimeNanos / 1_000_000_000.0);
+    }
+
+    /**
+     * Displays the throughput summary of the run.
+     */
+    public void display() {
+        System.out.println("\n📊 Batch Payroll Summary");
+        System.out.println("-------------------------------------------------");
+        System.out.printf("Employees Processed: %d%n", employeesProcessed);
+        System.out.printf("Rows Rejected: %d%n", rowsRejected);
+        System.out.printf("Employees Without Timesheet: %d%n", employeesWithoutTimesheet);
+        System.out.printf("Wall Time: %.3f s%n", wallTimeNanos / 1_000_000_000.0);
+        System.out.printf("Throughput: %.1f employees/s%n", getEmployeesPerSecond());
+        System.out.println("-------------------------------------------------\n");
+    }
+}
@@ -0,0 +1,43 @@
+package model;
+
+/**
+ * DeductionBreakdown holds the mandatory deductions for one gross salary.
+ * Instances are immutable, so one breakdown can be shared by every employee with the same gross salary.
+ */
+public final class DeductionBreakdown {
+    private final double grossSalary;
+    private final double sss;
+    private final double philHealth;
+    private final double pagIbig;
+    private final double withholdingTax;
+
+    /**
+     * Constructor for DeductionBreakdown class.
+     * @param grossSalary Gross salary the deductions were computed for
+     * @param sss SSS contribution
+     * @param philHealth PhilHealth contribution
+     * @param pagIbig Pag-IBIG contribution
+     * @param withholdingTax Withholding tax on the gross salary less contributions
+     */
+    public DeductionBreakdown(double grossSalary, double sss, double philHealth, double pagIbig, double withholdingTax) {
+        this.grossSalary = grossSalary;
+        this.sss = sss;
+        this.philHealth = philHealth;
+        this.pagIbig = pagIbig;
+        this.withholdingTax = withholdingTax;
+    }
+
+    public double getGrossSalary() { return grossSalary; }
+    public double getSss() { return sss; }
+    public double getPhilHealth() { return philHealth; }
+    public double getPagIbig() { return pagIbig; }
+    public double getWithholdingTax() { return withholdingTax; }
+
+    /**
+     * Computes the sum of all deductions.
+     * @return Total deductions
+     */
+    public double getTotalDeductions() {
+        return sss + philHealth + pagIbig + withholdingTax;
+    }
+}
@@ -0,0 +1,93 @@
+package utils;
+
+import model.DeductionBreakdown;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DeductionCache remembers the deduction breakdown of recently seen gross salaries.
+ * Employees who share a position and salary often end up with the same gross amount,
+ * and a hit skips the SSS, PhilHealth, Pag-IBIG and tax calculators entirely.
+ * The cache is a fixed array of slots chosen by hashing the salary; a new salary overwrites
+ * whatever its slot held, so memory never grows past the capacity. Slots hold immutable
+ * breakdowns, which makes lookups safe from any number of threads without locking.
+ * A cache belongs to one rate set, so results from different rules never mix.
+ */
+public final class DeductionCache {
+    private final RateSet rates;
+    private final DeductionBreakdown[] slots;
+    private final int shift;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache for a rate set.
+     * @param rates Contribution and tax rules the cached breakdowns follow
+     * @param capacity Number of slots, rounded up to a power of two
+     */
+    public DeductionCache(RateSet rates, int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Deduction cache capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+        this.rates = rates;
+        this.slots = new DeductionBreakdown[size];
+        this.shift = 64 - Integer.numberOfTrailingZeros(size);
+    }
+
+    /**
+     * Retrieves the deductions for a gross salary, computing and caching them on a miss.
+     * @param grossSalary Gross salary of the employee
+     * @return Deduction breakdown, identical to computing it with the rate set
+     */
+    public DeductionBreakdown get(double grossSalary) {
+        long bits = Double.doubleToLongBits(grossSalary);
+        int slot = shift == 64 ? 0 : (int) ((bits * 0x9E3779B97F4A7C15L) >>> shift);
+        DeductionBreakdown cached = slots[slot];
+        if (cached != null && Double.doubleToLongBits(cached.getGrossSalary()) == bits) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        DeductionBreakdown computed = rates.calculateDeductions(grossSalary);
+        slots[slot] = computed;
+        return computed;
+    }
+
+    /**
+     * Retrieves the rate set the cache was built for.
+     * @return Rate set
+     */
+    public RateSet getRates() {
+        return rates;
+    }
+
+    public int getCapacity() { return slots.length; }
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+
+    /**
+     * Computes the share of lookups answered from the cache.
+     * @return Hit rate between 0 and 1, or 0 before the first lookup
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : hitCount / (double) total;
+    }
+
+    /**
+     * Displays the hit and miss counts of the cache.
+     */
+    public void display() {
+        System.out.println("\n📊 Deduction Cache");
+        System.out.println("-------------------------------------------------");
+        System.out.printf("Capacity: %d%n", slots.length);
+        System.out.printf("Hits: %d%n", getHits());
+        System.out.printf("Misses: %d%n", getMisses());
+        System.out.printf("Hit Rate: %.1f%%%n", getHitRate() * 100);
+        System.out.println("-------------------------------------------------\n");
+    }
+}
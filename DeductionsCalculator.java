@@ -4,17 +4,24 @@ package utils;
  * Utility class for calculating various mandatory deductions.
  * This class adheres to OOP principles by encapsulating deduction calculation logic.
  * The supported deductions include Pag-IBIG, PhilHealth, SSS, and tax.
+ * Every deduction uses the current rate set of the default {@link RateRegistry}.
  */
 public class DeductionsCalculator {
 
+    /** Pag-IBIG contribution rate of the built-in rate set, {@link RateSet#defaults()}. */
+    public static final double PAGIBIG_RATE = 0.03;
+
+    /** Maximum monthly Pag-IBIG contribution in the built-in rate set. */
+    public static final double PAGIBIG_CAP = 100;
+
     /**
      * Calculates the Pag-IBIG contribution based on the gross salary.
-     * The maximum contribution is capped at PHP 100.
+     * The contribution is capped at the rate set's maximum, PHP 100 in the built-in rate set.
      * @param grossSalary The gross salary of the employee.
      * @return The computed Pag-IBIG contribution.
      */
     public static double calculatePagIbig(double grossSalary) {
-        return Math.min(grossSalary * 0.03, 100);
+        return RateRegistry.getDefault().getCurrent().calculatePagIbig(grossSalary);
     }
 
     /**
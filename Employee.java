@@ -68,10 +68,12 @@ public class Employee {
 
     // Getter methods for all fields
     public String getFullName() {
-        return firstName + " " + lastName;
+        return getFirstName() + " " + getLastName();
     }
 
     public String getEmployeeNumber() { return employeeNumber; }
+    public String getLastName() { return lastName; }
+    public String getFirstName() { return firstName; }
     public String getBirthDate() { return birthDate; }
     public String getAddress() { return address; }
     public String getContactNumber() { return contactNumber; }
@@ -92,15 +94,16 @@ public class Employee {
      * @return Total compensation as a double
      */
     public double getTotalCompensation() {
-        return basicSalary + riceSubsidy + phoneAllowance + clothingAllowance;
+        return getBasicSalary() + getRiceSubsidy() + getPhoneAllowance() + getClothingAllowance();
     }
 
     @Override
     public String toString() {
         return String.format(
                 "Employee Number: %s\nName: %s\nBirthdate: %s\nAddress: %s\nPhone Number: %s\nTIN#: %s\nSSS#: %s\nPhilHealth#: %s\nPag-IBIG#: %s\nStatus: %s\nPosition: %s\nSupervisor: %s\nBasic Salary: PHP %.2f\nRice Subsidy: PHP %.2f\nPhone Allowance: PHP %.2f\nClothing Allowance: PHP %.2f\nTotal Compensation: PHP %.2f",
-                employeeNumber, getFullName(), birthDate, address, contactNumber, tinNumber, sssNumber, philHealthNumber,
-                pagIbigNumber, employmentStatus, position, supervisor, basicSalary, riceSubsidy, phoneAllowance, clothingAllowance,
+                getEmployeeNumber(), getFullName(), getBirthDate(), getAddress(), getContactNumber(), getTinNumber(),
+                getSssNumber(), getPhilHealthNumber(), getPagIbigNumber(), getEmploymentStatus(), getPosition(),
+                getSupervisor(), getBasicSalary(), getRiceSubsidy(), getPhoneAllowance(), getClothingAllowance(),
                 getTotalCompensation()
         );
     }
@@ -0,0 +1,172 @@
+package service;
+
+import utils.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * EmployeeFileWatcher reloads the employee master file into a {@link PayrollSystem} whenever it changes.
+ * A background thread watches the file's directory; once the file has been quiet for a short settle
+ * time, it is parsed again and published as the next roster generation. Employees are parsed onto
+ * the heap rather than read from a mapping of the file, so payroll that is already running keeps
+ * the roster it started with unchanged, and a file that cannot be read leaves the current roster
+ * in place. Whatever produces the file should write it elsewhere and move it into place;
+ * a writer that pauses longer than the settle time in the middle of the file gets half a file loaded.
+ */
+public class EmployeeFileWatcher implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(EmployeeFileWatcher.class.getName());
+    private static final long DEFAULT_SETTLE_MILLIS = 200; // Editors and exports write a file in several steps
+
+    private final PayrollSystem payrollSystem;
+    private final Path file;
+    private final long settleMillis;
+    private final WatchService watchService;
+    private final LatencyHistogram reloadLatency = new LatencyHistogram();
+    private final AtomicLong reloads = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private Thread thread;
+
+    private EmployeeFileWatcher(PayrollSystem payrollSystem, Path file, long settleMillis) throws IOException {
+        this.payrollSystem = payrollSystem;
+        this.file = file;
+        this.settleMillis = settleMillis;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    /**
+     * Starts watching an employee file with the default settle time.
+     * @param payrollSystem System whose roster is replaced on every change
+     * @param filePath Path to the CSV file containing employee data
+     * @return The running watcher; close it to stop watching
+     * @throws IOException if the file's directory cannot be watched
+     */
+    public static EmployeeFileWatcher start(PayrollSystem payrollSystem, String filePath) throws IOException {
+        return start(payrollSystem, filePath, DEFAULT_SETTLE_MILLIS);
+    }
+
+    /**
+     * Starts watching an employee file.
+     * @param payrollSystem System whose roster is replaced on every change
+     * @param filePath Path to the CSV file containing employee data
+     * @param settleMillis How long the file must stay unchanged before it is reloaded
+     * @return The running watcher; close it to stop watching
+     * @throws IOException if the file's directory cannot be watched
+     */
+    public static EmployeeFileWatcher start(PayrollSystem payrollSystem, String filePath, long settleMillis)
+            throws IOException {
+        EmployeeFileWatcher watcher = new EmployeeFileWatcher(payrollSystem, Paths.get(filePath).toAbsolutePath(), settleMillis);
+        watcher.thread = new Thread(watcher::watch, "employee-file-watcher");
+        watcher.thread.setDaemon(true);
+        watcher.thread.start();
+        return watcher;
+    }
+
+    /**
+     * Waits for changes to the watched file and reloads it after each burst of changes.
+     */
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                long lastChange = drain(key) ? System.nanoTime() : 0;
+
+                // Keep collecting events until the file has been quiet for the settle time
+                while ((key = watchService.poll(settleMillis, TimeUnit.MILLISECONDS)) != null) {
+                    if (drain(key)) lastChange = System.nanoTime();
+                }
+                if (lastChange != 0) reload(lastChange);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+
+    /**
+     * Consumes the events of a watch key.
+     * @return true if any event concerned the watched file
+     */
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    /**
+     * Parses the file again and publishes it, keeping the current roster if that fails.
+     * @param lastChange When the last change of the burst was seen, from {@link System#nanoTime()}
+     */
+    private void reload(long lastChange) {
+        long previous = payrollSystem.getRoster().getGeneration();
+        try {
+            payrollSystem.loadEmployeeDataStreamed(file.toString());
+        } catch (IOException | RuntimeException e) {
+            failures.incrementAndGet();
+            LOGGER.log(Level.WARNING, "⚠ Could not reload {0}, still using roster generation {1}: {2}",
+                new Object[]{file, previous, e.getMessage()});
+            return;
+        }
+        long latency = System.nanoTime() - lastChange;
+        reloadLatency.record(latency);
+        reloads.incrementAndGet();
+        Roster current = payrollSystem.getRoster();
+        System.out.printf("🔄 Roster generation %d published: %,d employees, parsed in %d ms, %d ms after the last change%n",
+            current.getGeneration(), current.size(), current.getLoadTimeNanos() / 1_000_000, latency / 1_000_000);
+    }
+
+    /**
+     * Retrieves the number of successful reloads.
+     * @return Reload count
+     */
+    public long getReloads() {
+        return reloads.get();
+    }
+
+    /**
+     * Retrieves the number of reloads that failed and kept the previous roster.
+     * @return Failure count
+     */
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * Retrieves the time from the last change of the file to the new roster being published,
+     * including the settle time.
+     * @return Reload latency histogram
+     */
+    public LatencyHistogram getReloadLatency() {
+        return reloadLatency;
+    }
+
+    /**
+     * Stops watching the file. A reload in progress finishes first.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close(); // Wakes the watching thread
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package service;
+
+import model.Employee;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * EmployeeIndex provides constant-time lookups into a loaded roster.
+ * Employees are indexed by employee number, TIN, SSS and PhilHealth number, and grouped by
+ * supervisor so a whole team can be found without scanning the roster.
+ * The index is immutable once built and safe to share between threads.
+ */
+public class EmployeeIndex {
+    private static final Logger LOGGER = Logger.getLogger(EmployeeIndex.class.getName());
+
+    private final Map<String, Employee> byEmployeeNumber;
+    private final Map<String, Employee> byTinNumber;
+    private final Map<String, Employee> bySssNumber;
+    private final Map<String, Employee> byPhilHealthNumber;
+    private final Map<String, List<Employee>> bySupervisor;
+    private final long buildTimeNanos;
+
+    /**
+     * Builds the indexes over a roster. Blank identifiers are not indexed, and when an identifier
+     * is repeated the first employee keeps it and a warning is logged.
+     * @param employees Roster to index
+     */
+    public EmployeeIndex(List<Employee> employees) {
+        long start = System.nanoTime();
+        int capacity = employees.size() * 4 / 3 + 1;
+        byEmployeeNumber = new HashMap<>(capacity);
+        byTinNumber = new HashMap<>(capacity);
+        bySssNumber = new HashMap<>(capacity);
+        byPhilHealthNumber = new HashMap<>(capacity);
+        Map<String, List<Employee>> teams = new HashMap<>();
+        int duplicates = 0;
+
+        for (Employee emp : employees) {
+            if (emp == null) continue;
+            duplicates += put(byEmployeeNumber, "employee number", emp.getEmployeeNumber(), emp);
+            duplicates += put(byTinNumber, "TIN", emp.getTinNumber(), emp);
+            duplicates += put(bySssNumber, "SSS number", emp.getSssNumber(), emp);
+            duplicates += put(byPhilHealthNumber, "PhilHealth number", emp.getPhilHealthNumber(), emp);
+
+            String supervisor = emp.getSupervisor();
+            if (supervisor != null && !supervisor.isEmpty()) {
+                teams.computeIfAbsent(supervisor, key -> new ArrayList<>()).add(emp);
+            }
+        }
+
+        if (duplicates > 0) {
+            LOGGER.log(Level.WARNING, "⚠ {0} duplicate identifier(s) found while indexing employees", duplicates);
+        }
+        for (Map.Entry<String, List<Employee>> team : teams.entrySet()) {
+            team.setValue(Collections.unmodifiableList(team.getValue()));
+        }
+        bySupervisor = teams;
+        buildTimeNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Checks that no two employees of a roster share an employee number. Runs that keep their
+     * state by employee number call this first, so a repeated number cannot make them skip an employee.
+     * @param employees Roster to check, null entries are skipped
+     * @throws IllegalArgumentException naming the first employee number that is repeated
+     */
+    public static void requireUniqueEmployeeNumbers(List<Employee> employees) {
+        Set<String> seen = new HashSet<>(employees.size() * 4 / 3 + 1);
+        for (Employee emp : employees) {
+            if (emp != null && !seen.add(emp.getEmployeeNumber())) {
+                throw new IllegalArgumentException("Employee number " + emp.getEmployeeNumber()
+                    + " appears more than once in the roster");
+            }
+        }
+    }
+
+    /**
+     * Adds an employee to one unique index.
+     * @return 1 if the key was already taken by another employee, otherwise 0
+     */
+    private static int put(Map<String, Employee> index, String name, String key, Employee emp) {
+        if (key == null || key.isEmpty()) return 0;
+        Employee existing = index.putIfAbsent(key, emp);
+        if (existing == null) return 0;
+        LOGGER.log(Level.FINE, "Duplicate {0} {1}: employees {2} and {3}",
+            new Object[]{name, key, existing.getEmployeeNumber(), emp.getEmployeeNumber()});
+        return 1;
+    }
+
+    /**
+     * Finds an employee by employee number.
+     * @param employeeNumber Employee's unique number
+     * @return The employee, or null if not found
+     */
+    public Employee findByEmployeeNumber(String employeeNumber) {
+        return byEmployeeNumber.get(employeeNumber);
+    }
+
+    /**
+     * Finds an employee by TIN.
+     * @param tinNumber Employee's TIN number as written in the employee file
+     * @return The employee, or null if not found
+     */
+    public Employee findByTinNumber(String tinNumber) {
+        return byTinNumber.get(tinNumber);
+    }
+
+    /**
+     * Finds an employee by SSS number.
+     * @param sssNumber Employee's SSS number as written in the employee file
+     * @return The employee, or null if not found
+     */
+    public Employee findBySssNumber(String sssNumber) {
+        return bySssNumber.get(sssNumber);
+    }
+
+    /**
+     * Finds an employee by PhilHealth number.
+     * @param philHealthNumber Employee's PhilHealth number as written in the employee file
+     * @return The employee, or null if not found
+     */
+    public Employee findByPhilHealthNumber(String philHealthNumber) {
+        return byPhilHealthNumber.get(philHealthNumber);
+    }
+
+    /**
+     * Retrieves the direct reports of a supervisor.
+     * @param supervisor Supervisor's name as written in the employee file (e.g., "Garcia, Manuel III")
+     * @return Read-only list of direct reports, empty if none
+     */
+    public List<Employee> getDirectReports(String supervisor) {
+        return bySupervisor.getOrDefault(supervisor, Collections.emptyList());
+    }
+
+    /**
+     * Retrieves the direct reports of an employee, matching the "Last, First" supervisor format.
+     * @param supervisor Employee whose direct reports are wanted
+     * @return Read-only list of direct reports, empty if none
+     */
+    public List<Employee> getDirectReports(Employee supervisor) {
+        return getDirectReports(supervisor.getLastName() + ", " + supervisor.getFirstName());
+    }
+
+    /**
+     * Retrieves the time taken to build the indexes.
+     * @return Build time in nanoseconds
+     */
+    public long getBuildTimeNanos() {
+        return buildTimeNanos;
+    }
+}
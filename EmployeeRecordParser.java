@@ -0,0 +1,93 @@
+package service;
+
+import model.Employee;
+import utils.PayrollMetrics;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Converts rows of the employee master file into Employee objects.
+ * Shared by every loader so all of them accept and reject rows the same way.
+ */
+final class EmployeeRecordParser {
+    private static final Logger LOGGER = Logger.getLogger(PayrollSystem.class.getName());
+
+    /** Minimum number of columns in a valid employee row. */
+    static final int MIN_COLUMNS = 19;
+
+    private EmployeeRecordParser() {
+    }
+
+    /**
+     * Parses one CSV row into an Employee.
+     * @param line Columns of the row
+     * @return Parsed employee, or null if the row does not have enough columns
+     */
+    static Employee parse(String[] line) {
+        if (line.length < MIN_COLUMNS) {
+            PayrollMetrics.getDefault().recordRowRejected();
+            LOGGER.log(Level.WARNING, "⚠ Invalid data format (Columns found: {0}): {1}",
+                new Object[]{line.length, String.join("|", line)});
+            return null;
+        }
+
+        String employeeNumber = line[0].trim();
+        String lastName = line[1].trim();
+        String firstName = line[2].trim();
+        String birthDate = line[3].trim();
+        String address = line[4].trim();
+        String contactNumber = line[5].trim();
+        String tinNumber = line[6].trim();
+        String sssNumber = line[7].trim();
+        String philHealthNumber = line[8].trim();
+        String pagIbigNumber = line[9].trim();
+        String employmentStatus = line[10].trim();
+        String position = line[11].trim();
+        String supervisor = line[12].trim();
+
+        double basicSalary = parseDouble(line[13]);
+        double riceSubsidy = parseDouble(line[14]);
+        double phoneAllowance = parseDouble(line[15]);
+        double clothingAllowance = parseDouble(line[16]);
+
+        return new Employee(employeeNumber, lastName, firstName, birthDate, address, contactNumber,
+            tinNumber, sssNumber, philHealthNumber, pagIbigNumber, employmentStatus, position, supervisor,
+            basicSalary, riceSubsidy, phoneAllowance, clothingAllowance);
+    }
+
+    /**
+     * Parses a string to a double while handling formatting issues.
+     * Thousands separators are only stripped when present, so plain numbers are not copied.
+     * @param value The string to parse
+     * @return Parsed double value or 0.0 if parsing fails
+     */
+    static double parseDouble(String value) {
+        try {
+            return parseAmount(value);
+        } catch (NumberFormatException e) {
+            reportUnparsed(value);
+            return 0.0;
+        }
+    }
+
+    /**
+     * Parses an amount, stripping thousands separators and surrounding whitespace.
+     * @param value The string to parse
+     * @return Parsed double value
+     * @throws NumberFormatException if the value is not a number
+     */
+    static double parseAmount(String value) {
+        String cleanedValue = value.indexOf(',') < 0 ? value.trim() : value.replace(",", "").trim();
+        return Double.parseDouble(cleanedValue);
+    }
+
+    /**
+     * Counts and logs an amount that could not be parsed and was read as 0.0.
+     * @param value The value that failed to parse
+     */
+    static void reportUnparsed(String value) {
+        PayrollMetrics.getDefault().recordParseFallback();
+        LOGGER.log(Level.WARNING, "⚠ Error parsing numeric value: {0}", value);
+    }
+}
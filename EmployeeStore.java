@@ -0,0 +1,330 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * EmployeeStore keeps a roster in columns instead of one object per employee.
+ * Salary and allowances sit in contiguous double arrays that payroll can scan in a tight loop,
+ * and repeated values such as position, status and supervisor are stored once and referenced
+ * by code. Salary and total allowances are also kept in whole centavos for fixed-point payroll.
+ * Existing callers can keep working with {@link Employee} through lightweight views.
+ * The store is filled by one thread and may then be read by any number of threads.
+ */
+public class EmployeeStore {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final double CENTAVO_TOLERANCE = 1e-6; // Same tolerance as utils.Money
+
+    private int size;
+    private String[] employeeNumbers;
+    private String[] lastNames;
+    private String[] firstNames;
+    private String[] birthDates;
+    private String[] addresses;
+    private String[] contactNumbers;
+    private String[] tinNumbers;
+    private String[] sssNumbers;
+    private String[] philHealthNumbers;
+    private String[] pagIbigNumbers;
+    private int[] employmentStatusCodes;
+    private int[] positionCodes;
+    private int[] supervisorCodes;
+    private double[] basicSalaries;
+    private double[] riceSubsidies;
+    private double[] phoneAllowances;
+    private double[] clothingAllowances;
+    private long[] basicSalaryCentavos;
+    private long[] totalAllowanceCentavos;
+    private boolean wholeCentavos = true; // False once any amount has a fraction of a centavo
+
+    private final StringDictionary employmentStatuses = new StringDictionary();
+    private final StringDictionary positions = new StringDictionary();
+    private final StringDictionary supervisors = new StringDictionary();
+
+    /**
+     * Creates an empty store.
+     */
+    public EmployeeStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty store sized for an expected number of employees.
+     * @param capacity Expected number of employees
+     */
+    public EmployeeStore(int capacity) {
+        allocate(Math.max(capacity, 1));
+    }
+
+    /**
+     * Builds a store from a list of employees, skipping null entries.
+     * @param employees Employees to copy into the store
+     * @return The filled store
+     */
+    public static EmployeeStore of(List<Employee> employees) {
+        EmployeeStore store = new EmployeeStore(employees.size());
+        for (Employee employee : employees) {
+            if (employee != null) store.add(employee);
+        }
+        return store;
+    }
+
+    /**
+     * Appends an employee to the store.
+     * @param employee Employee to copy into the store
+     * @return Index of the employee in the store
+     */
+    public int add(Employee employee) {
+        if (size == basicSalaries.length) grow();
+        int index = size++;
+        employeeNumbers[index] = employee.getEmployeeNumber();
+        lastNames[index] = employee.getLastName();
+        firstNames[index] = employee.getFirstName();
+        birthDates[index] = employee.getBirthDate();
+        addresses[index] = employee.getAddress();
+        contactNumbers[index] = employee.getContactNumber();
+        tinNumbers[index] = employee.getTinNumber();
+        sssNumbers[index] = employee.getSssNumber();
+        philHealthNumbers[index] = employee.getPhilHealthNumber();
+        pagIbigNumbers[index] = employee.getPagIbigNumber();
+        employmentStatusCodes[index] = employmentStatuses.encode(employee.getEmploymentStatus());
+        positionCodes[index] = positions.encode(employee.getPosition());
+        supervisorCodes[index] = supervisors.encode(employee.getSupervisor());
+        basicSalaries[index] = employee.getBasicSalary();
+        riceSubsidies[index] = employee.getRiceSubsidy();
+        phoneAllowances[index] = employee.getPhoneAllowance();
+        clothingAllowances[index] = employee.getClothingAllowance();
+        basicSalaryCentavos[index] = toCentavos(employee.getBasicSalary());
+        totalAllowanceCentavos[index] = toCentavos(employee.getRiceSubsidy()) + toCentavos(employee.getPhoneAllowance())
+            + toCentavos(employee.getClothingAllowance());
+        return index;
+    }
+
+    /**
+     * Retrieves the number of employees in the store.
+     * @return Number of employees
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves a lightweight Employee view of one row. The view reads from the store on every call.
+     * @param index Row of the employee
+     * @return Employee view
+     */
+    public Employee get(int index) {
+        checkIndex(index);
+        return new EmployeeView(this, index);
+    }
+
+    /**
+     * Presents the store as a read-only list of Employee views for existing callers.
+     * @return List view of the store
+     */
+    public List<Employee> asList() {
+        return new EmployeeListView();
+    }
+
+    /**
+     * Releases unused capacity once the store is fully loaded.
+     */
+    public void trimToSize() {
+        if (size < basicSalaries.length) resize(Math.max(size, 1));
+    }
+
+    // Column accessors by row, used by payroll loops
+    public String getEmployeeNumber(int index) { return employeeNumbers[index]; }
+    public String getLastName(int index) { return lastNames[index]; }
+    public String getFirstName(int index) { return firstNames[index]; }
+    public String getBirthDate(int index) { return birthDates[index]; }
+    public String getAddress(int index) { return addresses[index]; }
+    public String getContactNumber(int index) { return contactNumbers[index]; }
+    public String getTinNumber(int index) { return tinNumbers[index]; }
+    public String getSssNumber(int index) { return sssNumbers[index]; }
+    public String getPhilHealthNumber(int index) { return philHealthNumbers[index]; }
+    public String getPagIbigNumber(int index) { return pagIbigNumbers[index]; }
+    public String getEmploymentStatus(int index) { return employmentStatuses.decode(employmentStatusCodes[index]); }
+    public String getPosition(int index) { return positions.decode(positionCodes[index]); }
+    public String getSupervisor(int index) { return supervisors.decode(supervisorCodes[index]); }
+    public double getBasicSalary(int index) { return basicSalaries[index]; }
+    public double getRiceSubsidy(int index) { return riceSubsidies[index]; }
+    public double getPhoneAllowance(int index) { return phoneAllowances[index]; }
+    public double getClothingAllowance(int index) { return clothingAllowances[index]; }
+    public long getBasicSalaryCentavos(int index) { return basicSalaryCentavos[index]; }
+    public long getTotalAllowanceCentavos(int index) { return totalAllowanceCentavos[index]; }
+
+    // Distinct value counts of the deduplicated columns
+    public int getDistinctEmploymentStatuses() { return employmentStatuses.size(); }
+    public int getDistinctPositions() { return positions.size(); }
+    public int getDistinctSupervisors() { return supervisors.size(); }
+
+    // Codes of the deduplicated columns by row, from 0 to the distinct count, for grouping without comparing strings
+    public int getEmploymentStatusCode(int index) { return employmentStatusCodes[index]; }
+    public int getPositionCode(int index) { return positionCodes[index]; }
+    public int getSupervisorCode(int index) { return supervisorCodes[index]; }
+    public String decodeEmploymentStatus(int code) { return employmentStatuses.decode(code); }
+    public String decodePosition(int code) { return positions.decode(code); }
+    public String decodeSupervisor(int code) { return supervisors.decode(code); }
+
+    /**
+     * Calculates the total of allowances of one row.
+     * @param index Row of the employee
+     * @return Sum of rice subsidy, phone and clothing allowances
+     */
+    public double getTotalAllowances(int index) {
+        return riceSubsidies[index] + phoneAllowances[index] + clothingAllowances[index];
+    }
+
+    /**
+     * Checks whether every amount in the store is a whole number of centavos.
+     * The centavo columns are rounded half up; when this returns false, callers that round
+     * another way must convert the peso columns themselves.
+     * @return True if the centavo columns hold every amount exactly
+     */
+    public boolean hasOnlyWholeCentavos() {
+        return wholeCentavos;
+    }
+
+    /**
+     * Converts a peso amount to the nearest whole centavo, rounding half up, and notes any fraction of a centavo.
+     */
+    private long toCentavos(double pesos) {
+        double scaled = pesos * 100;
+        long centavos = Math.round(scaled);
+        if (Math.abs(scaled - centavos) >= CENTAVO_TOLERANCE) wholeCentavos = false;
+        return centavos;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for store of size " + size);
+        }
+    }
+
+    private void allocate(int capacity) {
+        employeeNumbers = new String[capacity];
+        lastNames = new String[capacity];
+        firstNames = new String[capacity];
+        birthDates = new String[capacity];
+        addresses = new String[capacity];
+        contactNumbers = new String[capacity];
+        tinNumbers = new String[capacity];
+        sssNumbers = new String[capacity];
+        philHealthNumbers = new String[capacity];
+        pagIbigNumbers = new String[capacity];
+        employmentStatusCodes = new int[capacity];
+        positionCodes = new int[capacity];
+        supervisorCodes = new int[capacity];
+        basicSalaries = new double[capacity];
+        riceSubsidies = new double[capacity];
+        phoneAllowances = new double[capacity];
+        clothingAllowances = new double[capacity];
+        basicSalaryCentavos = new long[capacity];
+        totalAllowanceCentavos = new long[capacity];
+    }
+
+    private void grow() {
+        resize(basicSalaries.length + (basicSalaries.length >> 1) + 1);
+    }
+
+    private void resize(int capacity) {
+        employeeNumbers = Arrays.copyOf(employeeNumbers, capacity);
+        lastNames = Arrays.copyOf(lastNames, capacity);
+        firstNames = Arrays.copyOf(firstNames, capacity);
+        birthDates = Arrays.copyOf(birthDates, capacity);
+        addresses = Arrays.copyOf(addresses, capacity);
+        contactNumbers = Arrays.copyOf(contactNumbers, capacity);
+        tinNumbers = Arrays.copyOf(tinNumbers, capacity);
+        sssNumbers = Arrays.copyOf(sssNumbers, capacity);
+        philHealthNumbers = Arrays.copyOf(philHealthNumbers, capacity);
+        pagIbigNumbers = Arrays.copyOf(pagIbigNumbers, capacity);
+        employmentStatusCodes = Arrays.copyOf(employmentStatusCodes, capacity);
+        positionCodes = Arrays.copyOf(positionCodes, capacity);
+        supervisorCodes = Arrays.copyOf(supervisorCodes, capacity);
+        basicSalaries = Arrays.copyOf(basicSalaries, capacity);
+        riceSubsidies = Arrays.copyOf(riceSubsidies, capacity);
+        phoneAllowances = Arrays.copyOf(phoneAllowances, capacity);
+        clothingAllowances = Arrays.copyOf(clothingAllowances, capacity);
+        basicSalaryCentavos = Arrays.copyOf(basicSalaryCentavos, capacity);
+        totalAllowanceCentavos = Arrays.copyOf(totalAllowanceCentavos, capacity);
+    }
+
+    /**
+     * Stores each distinct string once and hands out small integer codes for it.
+     */
+    private static final class StringDictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                values.add(value);
+                codes.put(value, code);
+            }
+            return code;
+        }
+
+        String decode(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    /**
+     * Read-only list of Employee views over the store.
+     */
+    private final class EmployeeListView extends AbstractList<Employee> implements RandomAccess {
+        @Override
+        public Employee get(int index) {
+            return EmployeeStore.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Flyweight Employee that reads every field from one row of the store.
+     */
+    private static final class EmployeeView extends Employee {
+        private final EmployeeStore store;
+        private final int index;
+
+        EmployeeView(EmployeeStore store, int index) {
+            super(null, null, null, null, null, null, null, null, null, null, null, null, null, 0, 0, 0, 0);
+            this.store = store;
+            this.index = index;
+        }
+
+        @Override public String getEmployeeNumber() { return store.getEmployeeNumber(index); }
+        @Override public String getLastName() { return store.getLastName(index); }
+        @Override public String getFirstName() { return store.getFirstName(index); }
+        @Override public String getBirthDate() { return store.getBirthDate(index); }
+        @Override public String getAddress() { return store.getAddress(index); }
+        @Override public String getContactNumber() { return store.getContactNumber(index); }
+        @Override public String getTinNumber() { return store.getTinNumber(index); }
+        @Override public String getSssNumber() { return store.getSssNumber(index); }
+        @Override public String getPhilHealthNumber() { return store.getPhilHealthNumber(index); }
+        @Override public String getPagIbigNumber() { return store.getPagIbigNumber(index); }
+        @Override public String getEmploymentStatus() { return store.getEmploymentStatus(index); }
+        @Override public String getPosition() { return store.getPosition(index); }
+        @Override public String getSupervisor() { return store.getSupervisor(index); }
+        @Override public double getBasicSalary() { return store.getBasicSalary(index); }
+        @Override public double getRiceSubsidy() { return store.getRiceSubsidy(index); }
+        @Override public double getPhoneAllowance() { return store.getPhoneAllowance(index); }
+        @Override public double getClothingAllowance() { return store.getClothingAllowance(index); }
+    }
+}
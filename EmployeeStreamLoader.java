@@ -0,0 +1,186 @@
+package service;
+
+import model.Employee;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvException;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * EmployeeStreamLoader streams the employee master file instead of loading it all at once.
+ * A reader thread cuts the file into chunks of raw rows, worker threads turn chunks into
+ * Employee objects, and the consumer receives employees in file order. Only a bounded number
+ * of chunks is in flight, so memory stays flat however large the file is, and payroll can
+ * start on the first employees while the rest of the file is still being read.
+ */
+public class EmployeeStreamLoader implements Iterator<Employee>, AutoCloseable {
+    private static final int CHUNK_SIZE = 1024; // Rows parsed per worker task
+    private static final Future<List<Employee>> END_OF_FILE = CompletableFuture.completedFuture(Collections.emptyList());
+
+    private final CSVReader reader;
+    private final ExecutorService parsers;
+    private final BlockingQueue<Future<List<Employee>>> chunks;
+    private final Thread readerThread;
+    private Iterator<Employee> currentChunk = Collections.emptyIterator();
+    private boolean finished;
+
+    /**
+     * Opens the employee file and starts reading it in the background.
+     * @param filePath Path to the CSV file containing employee data
+     * @param workers Number of parser threads
+     * @throws IOException if the file cannot be opened
+     */
+    public EmployeeStreamLoader(String filePath, int workers) throws IOException {
+        this.reader = new CSVReader(new InputStreamReader(new FileInputStream(filePath), StandardCharsets.UTF_8));
+        this.parsers = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "employee-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Enough queued chunks to keep every worker busy while the consumer catches up
+        this.chunks = new ArrayBlockingQueue<>(workers * 2);
+        this.readerThread = new Thread(this::readChunks, "employee-reader");
+        this.readerThread.setDaemon(true);
+        this.readerThread.start();
+    }
+
+    /**
+     * Opens the employee file as an ordered stream of employees parsed by every available core.
+     * Close the stream to stop reading early.
+     * @param filePath Path to the CSV file containing employee data
+     * @return Stream of employees in file order
+     * @throws IOException if the file cannot be opened
+     */
+    public static Stream<Employee> stream(String filePath) throws IOException {
+        return stream(filePath, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Opens the employee file as an ordered stream of employees.
+     * @param filePath Path to the CSV file containing employee data
+     * @param workers Number of parser threads
+     * @return Stream of employees in file order
+     * @throws IOException if the file cannot be opened
+     */
+    public static Stream<Employee> stream(String filePath, int workers) throws IOException {
+        EmployeeStreamLoader loader = new EmployeeStreamLoader(filePath, workers);
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(loader, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(loader::close);
+    }
+
+    /**
+     * Reads raw rows into chunks and hands each chunk to the parser pool.
+     * Blocks when the consumer falls behind, which is what bounds memory.
+     */
+    private void readChunks() {
+        try {
+            reader.readNext(); // Skip the header line
+            List<String[]> rows = new ArrayList<>(CHUNK_SIZE);
+            String[] line;
+            while ((line = reader.readNext()) != null) {
+                rows.add(line);
+                if (rows.size() == CHUNK_SIZE) {
+                    submit(rows);
+                    rows = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!rows.isEmpty()) submit(rows);
+            chunks.put(END_OF_FILE);
+        } catch (InterruptedException | RejectedExecutionException e) {
+            Thread.currentThread().interrupt(); // Closed by the consumer
+        } catch (IOException | CsvException e) {
+            CompletableFuture<List<Employee>> failure = new CompletableFuture<>();
+            failure.completeExceptionally(e);
+            try {
+                chunks.put(failure);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Queues a chunk of raw rows for parsing.
+     * @param rows Raw rows to parse
+     * @throws InterruptedException if the loader is closed while waiting for space
+     */
+    private void submit(List<String[]> rows) throws InterruptedException {
+        chunks.put(parsers.submit(() -> {
+            List<Employee> employees = new ArrayList<>(rows.size());
+            for (String[] row : rows) {
+                Employee employee = EmployeeRecordParser.parse(row);
+                if (employee != null) employees.add(employee);
+            }
+            return employees;
+        }));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentChunk.hasNext()) {
+            if (finished) return false;
+            try {
+                Future<List<Employee>> chunk = chunks.take();
+                if (chunk == END_OF_FILE) {
+                    finished = true;
+                    close();
+                    return false;
+                }
+                currentChunk = chunk.get().iterator();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while loading employee data", e);
+            } catch (ExecutionException e) {
+                finished = true;
+                close();
+                Throwable cause = e.getCause();
+                throw cause instanceof IOException
+                    ? new UncheckedIOException((IOException) cause)
+                    : new UncheckedIOException(new IOException("❌ Error loading employee data: " + cause.getMessage(), cause));
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Employee next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return currentChunk.next();
+    }
+
+    /**
+     * Stops the reader and parser threads and closes the file.
+     */
+    @Override
+    public void close() {
+        readerThread.interrupt();
+        parsers.shutdownNow();
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // Nothing left to read from the file
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package service;
+
+import model.Employee;
+import model.EmployeeStore;
+import model.PayrollResult;
+import utils.Money;
+import utils.PayrollMetrics;
+import utils.RateRegistry;
+import utils.RateSet;
+import utils.SSSContributionTable;
+import utils.TaxTable;
+
+import java.math.RoundingMode;
+
+/**
+ * FixedPointPayrollCalculator computes payroll in whole centavos.
+ * Contribution brackets, rates and tax thresholds are converted from a rate set once, so
+ * the per-employee path is integer arithmetic with no allocation. Each amount is rounded to
+ * the centavo exactly once with the configured rounding mode, which makes every total equal
+ * the sum of the amounts printed on payslips and remittance reports.
+ *
+ * Speed against {@link PayrollCalculator}: over a columnar {@link EmployeeStore}, which already
+ * holds centavos, this calculator runs at parity. Over {@link Employee} objects it is still about
+ * 20% slower (FixedPointBenchmark, 1M employees: 53 ns against 44 ns per employee), because the
+ * basic salary and three allowances have to be converted from pesos for every employee. Bulk runs
+ * should go through {@link #computeNetSalaries(EmployeeStore, double[], long[])}.
+ */
+public class FixedPointPayrollCalculator {
+    private static final long HOURS_SCALE = 100;            // Hours are kept in hundredths
+    private static final long DEFAULT_HOURS_DIVISOR = Math.round(PayrollCalculator.DEFAULT_STANDARD_MONTHLY_HOURS * HOURS_SCALE);
+    private static final double MAX_MONTHLY_HOURS = 744;    // 31 days of 24 hours
+    private static final long MAX_HALF_UP_SALARY = 1_000_000_000_000L; // Centavos; keeps the half-up path within a long at 168 hours
+    private static final int LINEAR_SCAN_BOUNDS = 8;        // Bracket tables up to this size are scanned, not searched
+
+    private final RateSet rates;
+    private final RoundingMode roundingMode;
+    private final double standardMonthlyHours;
+    private final long hoursDivisor;      // Standard monthly hours in hundredths
+    private final long maxHalfUpSalary;   // Largest basic salary in centavos the half-up path handles
+    private final boolean halfUp;         // Rounding half up and the tax table suits the half-up path
+    private final PayrollMetrics metrics = PayrollMetrics.getDefault();
+
+    private final long[] sssUpperBounds;
+    private final long[] sssContributions;
+    private final long sssMaxContribution;
+    private final double sssInverseWidth; // 1 / width of every bracket after the first, or 0 if uneven
+
+    private final long philHealthPpm; // Premium rate times employee share
+    private final long pagIbigPpm;
+    private final long pagIbigCap;
+
+    private final long[] taxUpperBounds;
+    private final long[] taxBase;
+    private final long[] taxRatePpm;
+    private final long[] taxExcessOver;
+
+    /**
+     * Creates a calculator using the rate set in effect today, rounding half up.
+     */
+    public FixedPointPayrollCalculator() {
+        this(RateRegistry.getDefault().getCurrent(), RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Creates a calculator for a rate set and the default standard month.
+     * @param rates Contribution and tax rules to apply
+     * @param roundingMode Rounding applied whenever an amount falls between two centavos
+     */
+    public FixedPointPayrollCalculator(RateSet rates, RoundingMode roundingMode) {
+        this(rates, roundingMode, PayrollCalculator.DEFAULT_STANDARD_MONTHLY_HOURS);
+    }
+
+    /**
+     * Creates a calculator for a rate set and standard month.
+     * @param rates Contribution and tax rules to apply
+     * @param roundingMode Rounding applied whenever an amount falls between two centavos
+     * @param standardMonthlyHours Work hours in a standard month, to the hundredth of an hour
+     */
+    public FixedPointPayrollCalculator(RateSet rates, RoundingMode roundingMode, double standardMonthlyHours) {
+        double scaledHours = standardMonthlyHours * HOURS_SCALE;
+        if (!(scaledHours >= 1) || Math.abs(scaledHours - Math.rint(scaledHours)) > 1e-6) {
+            throw new IllegalArgumentException("Standard monthly hours must be positive hundredths of an hour: "
+                + standardMonthlyHours);
+        }
+        this.rates = rates;
+        this.roundingMode = roundingMode;
+        this.standardMonthlyHours = standardMonthlyHours;
+        this.hoursDivisor = Math.round(scaledHours);
+        // A shorter month raises gross pay per centavo of salary, so the half-up path takes lower salaries
+        this.maxHalfUpSalary = Math.min(MAX_HALF_UP_SALARY, MAX_HALF_UP_SALARY / DEFAULT_HOURS_DIVISOR * hoursDivisor);
+
+        SSSContributionTable sss = rates.getSssTable();
+        int brackets = sss.getBracketCount();
+        sssUpperBounds = new long[brackets];
+        sssContributions = new long[brackets];
+        for (int i = 0; i < brackets; i++) {
+            sssUpperBounds[i] = toInclusiveBound(sss.getUpperBound(i));
+            sssContributions[i] = Money.ofPesos(sss.getContribution(i), roundingMode);
+        }
+        sssMaxContribution = Money.ofPesos(sss.getMaxContribution(), roundingMode);
+        long width = commonWidth(sssUpperBounds);
+        sssInverseWidth = width > 0 ? 1.0 / width : 0;
+
+        philHealthPpm = Money.toPpm(rates.getPhilHealthRate() * rates.getPhilHealthEmployeeShare());
+        pagIbigPpm = Money.toPpm(rates.getPagIbigRate());
+        pagIbigCap = Money.ofPesos(rates.getPagIbigCap(), roundingMode);
+
+        TaxTable tax = rates.getTaxTable();
+        int taxBrackets = tax.getBracketCount();
+        taxUpperBounds = new long[taxBrackets - 1];
+        taxBase = new long[taxBrackets];
+        taxRatePpm = new long[taxBrackets];
+        taxExcessOver = new long[taxBrackets];
+        for (int i = 0; i < taxBrackets; i++) {
+            if (i < taxBrackets - 1) taxUpperBounds[i] = toInclusiveBound(tax.getUpperBound(i));
+            taxBase[i] = Money.ofPesos(tax.getBaseTax(i), roundingMode);
+            taxRatePpm[i] = Money.toPpm(tax.getRate(i));
+            taxExcessOver[i] = Money.ofPesos(tax.getExcessOver(i), roundingMode);
+        }
+        this.halfUp = roundingMode == RoundingMode.HALF_UP && taxProductsNonNegative();
+    }
+
+    /**
+     * Checks that the tax on the excess over a bracket's threshold is never negative, which the
+     * half-up path relies on: every bracket that charges a rate has a non-negative rate and a
+     * threshold no higher than the lowest income in the bracket. The bottom bracket has no lowest
+     * income, since taxable income can be negative, so it must charge no rate at all.
+     */
+    private boolean taxProductsNonNegative() {
+        for (int i = 0; i < taxRatePpm.length; i++) {
+            if (taxRatePpm[i] == 0) continue;
+            if (taxRatePpm[i] < 0 || i == 0 || taxExcessOver[i] > taxUpperBounds[i - 1] + 1) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Converts an inclusive peso bound to the largest centavo amount that does not exceed it,
+     * so {@code amount <= bound} gives the same answer in centavos as in pesos.
+     */
+    private static long toInclusiveBound(double bound) {
+        long centavos = Math.round(bound * Money.CENTAVOS_PER_PESO);
+        return Money.toPesos(centavos) > bound ? centavos - 1 : centavos;
+    }
+
+    /**
+     * Checks whether every bracket after the first has the same width.
+     * @return The common width, or 0 when brackets are not evenly spaced
+     */
+    private static long commonWidth(long[] upperBounds) {
+        if (upperBounds.length < 3) return 0;
+        long width = upperBounds[2] - upperBounds[1];
+        for (int i = 3; i < upperBounds.length; i++) {
+            if (upperBounds[i] - upperBounds[i - 1] != width) return 0;
+        }
+        return width;
+    }
+
+    /**
+     * Retrieves the rate set this calculator applies.
+     * @return Contribution and tax rules
+     */
+    public RateSet getRates() {
+        return rates;
+    }
+
+    /**
+     * Retrieves the work hours in a standard month, used to derive the hourly rate.
+     * @return Standard monthly hours
+     */
+    public double getStandardMonthlyHours() {
+        return standardMonthlyHours;
+    }
+
+    /**
+     * Retrieves the rounding mode this calculator applies.
+     * @return Rounding mode
+     */
+    public RoundingMode getRoundingMode() {
+        return roundingMode;
+    }
+
+    /**
+     * Computes the gross salary for the hours worked.
+     * @param basicSalary Monthly basic salary in centavos
+     * @param hoursWorked Total hours worked, to the hundredth of an hour
+     * @return Gross salary in centavos
+     */
+    public long computeGrossSalary(long basicSalary, double hoursWorked) {
+        long hours = Math.round(hoursWorked * HOURS_SCALE);
+        return Money.divide(basicSalary * hours, hoursDivisor, roundingMode);
+    }
+
+    /**
+     * Looks up the SSS contribution.
+     * @param grossSalary Gross salary in centavos
+     * @return SSS contribution in centavos
+     */
+    public long computeSSS(long grossSalary) {
+        int bracket;
+        if (grossSalary <= sssUpperBounds[0]) {
+            bracket = 0;
+        } else if (sssInverseWidth > 0) {
+            // Estimate with a multiplication instead of a division, then correct against the bounds
+            long estimate = (long) ((grossSalary - sssUpperBounds[0] - 1) * sssInverseWidth) + 1;
+            bracket = (int) Math.min(estimate, sssUpperBounds.length);
+            while (bracket > 1 && sssUpperBounds[bracket - 1] >= grossSalary) bracket--;
+            while (bracket < sssUpperBounds.length && sssUpperBounds[bracket] < grossSalary) bracket++;
+        } else {
+            bracket = findBracket(sssUpperBounds, grossSalary);
+        }
+        return bracket < sssUpperBounds.length ? sssContributions[bracket] : sssMaxContribution;
+    }
+
+    /**
+     * Computes the PhilHealth contribution (employee share).
+     * @param grossSalary Gross salary in centavos
+     * @return PhilHealth contribution in centavos
+     */
+    public long computePhilHealth(long grossSalary) {
+        return Money.multiply(grossSalary, philHealthPpm, roundingMode);
+    }
+
+    /**
+     * Computes the Pag-IBIG contribution, capped at the configured maximum.
+     * @param grossSalary Gross salary in centavos
+     * @return Pag-IBIG contribution in centavos
+     */
+    public long computePagIbig(long grossSalary) {
+        return Math.min(Money.multiply(grossSalary, pagIbigPpm, roundingMode), pagIbigCap);
+    }
+
+    /**
+     * Computes the withholding tax.
+     * @param taxableIncome Taxable income in centavos
+     * @return Withholding tax in centavos
+     */
+    public long computeTax(long taxableIncome) {
+        int bracket = findBracket(taxUpperBounds, taxableIncome);
+        if (taxRatePpm[bracket] == 0) return taxBase[bracket];
+        return taxBase[bracket] + Money.multiply(taxableIncome - taxExcessOver[bracket], taxRatePpm[bracket], roundingMode);
+    }
+
+    /**
+     * Finds the first bracket whose inclusive upper bound is not below the amount.
+     * Short tables, like the tax table, are scanned by counting the bounds below the amount,
+     * which compiles to compares without branches; a binary search over a handful of bounds
+     * mispredicts on almost every employee.
+     */
+    private static int findBracket(long[] upperBounds, long amount) {
+        if (upperBounds.length <= LINEAR_SCAN_BOUNDS) {
+            int bracket = 0;
+            for (long bound : upperBounds) bracket += bound < amount ? 1 : 0;
+            return bracket;
+        }
+        int low = 0;
+        int high = upperBounds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (upperBounds[mid] < amount) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Computes the net salary of an employee in centavos.
+     * @param employee Employee whose salary is being calculated
+     * @param hoursWorked Total hours worked by the employee
+     * @return Net salary after deductions, including allowances
+     */
+    public long computeNetSalary(Employee employee, double hoursWorked) {
+        long allowances = Money.ofPesos(employee.getRiceSubsidy(), roundingMode)
+            + Money.ofPesos(employee.getPhoneAllowance(), roundingMode)
+            + Money.ofPesos(employee.getClothingAllowance(), roundingMode);
+        return computeNetSalaryFast(Money.ofPesos(employee.getBasicSalary(), roundingMode), allowances, hoursWorked);
+    }
+
+    /**
+     * Computes a net salary from amounts already in centavos, on the half-up path whenever it applies.
+     */
+    private long computeNetSalaryFast(long basicSalary, long allowances, double hoursWorked) {
+        boolean inRange = hoursWorked >= 0 && hoursWorked <= MAX_MONTHLY_HOURS && basicSalary >= 0 && basicSalary <= maxHalfUpSalary;
+        return halfUp && inRange
+            ? computeNetSalaryHalfUp(basicSalary, allowances, hoursWorked)
+            : computeNetSalary(basicSalary, allowances, hoursWorked);
+    }
+
+    /**
+     * Computes a net salary from amounts already in centavos.
+     */
+    private long computeNetSalary(long basicSalary, long allowances, double hoursWorked) {
+        long grossSalary = computeGrossSalary(basicSalary, hoursWorked);
+        long sss = computeSSS(grossSalary);
+        long philHealth = computePhilHealth(grossSalary);
+        long pagIbig = computePagIbig(grossSalary);
+        long tax = computeTax(grossSalary - (sss + philHealth + pagIbig));
+        return grossSalary - (sss + philHealth + pagIbig + tax) + allowances;
+    }
+
+    /**
+     * Computes the same net salary as {@link #computeNetSalary(long, long, double)} when rounding half up,
+     * for non-negative hours and salaries within a month's range. Every amount is then non-negative and
+     * small enough that each rounding, hours included, is one addition and one division by a constant,
+     * with no sign or overflow checks. Only used when the tax table keeps the tax on the excess
+     * non-negative, see {@link #taxProductsNonNegative()}.
+     * The default standard month divides by a constant too; any other month by the calculator's divisor.
+     */
+    private long computeNetSalaryHalfUp(long basicSalary, long allowances, double hoursWorked) {
+        long hours = (long) (hoursWorked * HOURS_SCALE + 0.5);
+        long grossSalary = hoursDivisor == DEFAULT_HOURS_DIVISOR
+            ? (basicSalary * hours + DEFAULT_HOURS_DIVISOR / 2) / DEFAULT_HOURS_DIVISOR
+            : (basicSalary * hours + hoursDivisor / 2) / hoursDivisor;
+        long sss = computeSSS(grossSalary);
+        long philHealth = (grossSalary * philHealthPpm + Money.PPM / 2) / Money.PPM;
+        long pagIbig = Math.min((grossSalary * pagIbigPpm + Money.PPM / 2) / Money.PPM, pagIbigCap);
+        long taxableIncome = grossSalary - (sss + philHealth + pagIbig);
+        int bracket = findBracket(taxUpperBounds, taxableIncome);
+        long tax = taxBase[bracket] + ((taxableIncome - taxExcessOver[bracket]) * taxRatePpm[bracket] + Money.PPM / 2) / Money.PPM;
+        return grossSalary - (sss + philHealth + pagIbig + tax) + allowances;
+    }
+
+    /**
+     * Computes every payroll component for the employee into an existing result.
+     * Amounts are exact centavos converted to pesos, so payslips show the same figures the totals add up.
+     * @param employee Employee whose salary is being calculated
+     * @param hoursWorked Total hours worked by the employee
+     * @param result Result to fill
+     * @return The filled result
+     */
+    public PayrollResult computePayroll(Employee employee, double hoursWorked, PayrollResult result) {
+        long allowances = Money.ofPesos(employee.getRiceSubsidy(), roundingMode)
+            + Money.ofPesos(employee.getPhoneAllowance(), roundingMode)
+            + Money.ofPesos(employee.getClothingAllowance(), roundingMode);
+        long grossSalary = computeGrossSalary(Money.ofPesos(employee.getBasicSalary(), roundingMode), hoursWorked);
+        long sss = computeSSS(grossSalary);
+        long philHealth = computePhilHealth(grossSalary);
+        long pagIbig = computePagIbig(grossSalary);
+        long tax = computeTax(grossSalary - (sss + philHealth + pagIbig));
+        long netSalary = grossSalary - (sss + philHealth + pagIbig + tax) + allowances;
+
+        return result.set(employee, hoursWorked, employee.getBasicSalary() / standardMonthlyHours, Money.toPesos(grossSalary),
+            Money.toPesos(sss), Money.toPesos(philHealth), Money.toPesos(pagIbig), Money.toPesos(tax),
+            Money.toPesos(allowances), Money.toPesos(netSalary));
+    }
+
+    /**
+     * Computes the net salary of every employee in a columnar store.
+     * Reads the store's centavo columns, so the loop is integer arithmetic throughout. If the store
+     * holds fractions of a centavo, each row's pesos are converted with this calculator's rounding
+     * mode instead, as for a single employee.
+     * @param store Roster held in columns
+     * @param hoursWorked Hours worked per row of the store
+     * @param netSalaries Receives the net salary of each row in centavos
+     * @return Total net salary of the roster in centavos
+     */
+    public long computeNetSalaries(EmployeeStore store, double[] hoursWorked, long[] netSalaries) {
+        int size = store.size();
+        if (hoursWorked.length < size || netSalaries.length < size) {
+            throw new IllegalArgumentException("Hours and net salary arrays must cover all " + size + " employees");
+        }
+        long total = 0;
+        if (store.hasOnlyWholeCentavos()) {
+            for (int i = 0; i < size; i++) {
+                netSalaries[i] = computeNetSalaryFast(store.getBasicSalaryCentavos(i), store.getTotalAllowanceCentavos(i),
+                    hoursWorked[i]);
+                total += netSalaries[i];
+            }
+        } else {
+            // The centavo columns rounded the fractions half up; convert them this calculator's way instead
+            for (int i = 0; i < size; i++) {
+                long allowances = Money.ofPesos(store.getRiceSubsidy(i), roundingMode)
+                    + Money.ofPesos(store.getPhoneAllowance(i), roundingMode)
+                    + Money.ofPesos(store.getClothingAllowance(i), roundingMode);
+                netSalaries[i] = computeNetSalary(Money.ofPesos(store.getBasicSalary(i), roundingMode), allowances, hoursWorked[i]);
+                total += netSalaries[i];
+            }
+        }
+        metrics.recordEmployeesComputed(size);
+        return total;
+    }
+}
@@ -0,0 +1,386 @@
+package service;
+
+import model.Employee;
+import model.PayrollResult;
+import utils.RateSet;
+import utils.SSSContributionTable;
+import utils.TaxTable;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * IncrementalPayroll keeps the last computed payroll of every employee together with a hash
+ * of the inputs it was computed from, so a rerun only recomputes employees whose record or
+ * hours changed. Totals are kept in whole centavos and adjusted as results are replaced,
+ * which keeps them exact no matter how many corrections are applied.
+ * The state can be saved to a file and loaded by the next run; it is discarded when the
+ * rates or standard monthly hours in effect differ from those it was computed with.
+ */
+public class IncrementalPayroll {
+    private static final Logger LOGGER = Logger.getLogger(IncrementalPayroll.class.getName());
+    private static final int MAGIC = 0x4D504849; // "MPHI"
+    private static final int FORMAT_VERSION = 1;
+    private static final long HASH_SEED = 0x2545F4914F6CDD1DL;
+    private static final long MIX_1 = 0x9E3779B97F4A7C15L;
+    private static final long MIX_2 = 0xBF58476D1CE4E5B9L;
+
+    private final PayrollCalculator payrollCalculator;
+    private final long ratesFingerprint;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final PayrollResult scratch = new PayrollResult();
+    private int generation;
+
+    private long totalGrossCentavos;
+    private long totalAllowancesCentavos;
+    private long totalDeductionsCentavos;
+    private long totalNetCentavos;
+
+    /**
+     * Creates an empty state; the first update computes every employee.
+     * @param payrollCalculator Calculator used for recomputed employees
+     */
+    public IncrementalPayroll(PayrollCalculator payrollCalculator) {
+        this.payrollCalculator = payrollCalculator;
+        this.ratesFingerprint = fingerprint(payrollCalculator);
+    }
+
+    /**
+     * Loads the state saved by a previous run.
+     * A missing, corrupt or outdated file gives an empty state, so the next update is a full run.
+     * @param path Path of the state file
+     * @param payrollCalculator Calculator used for recomputed employees
+     * @return The loaded state
+     * @throws IOException if the file exists but cannot be read
+     */
+    public static IncrementalPayroll load(Path path, PayrollCalculator payrollCalculator) throws IOException {
+        IncrementalPayroll state = new IncrementalPayroll(payrollCalculator);
+        if (!Files.isRegularFile(path)) return state;
+
+        byte[] bytes = Files.readAllBytes(path);
+        if (bytes.length < 8) return state;
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - 8);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        in.skipNBytes(bytes.length - 8);
+        if (in.readLong() != crc.getValue()) {
+            LOGGER.log(Level.WARNING, "⚠ Ignoring corrupt payroll state {0}", path);
+            return state;
+        }
+
+        in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - 8));
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) return state;
+        if (in.readLong() != state.ratesFingerprint) {
+            LOGGER.log(Level.INFO, "Rates or standard hours changed since {0} was saved; recomputing all employees", path);
+            return state;
+        }
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String employeeNumber = in.readUTF();
+            Entry entry = new Entry(in.readLong(), in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(),
+                in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+            state.put(employeeNumber, entry);
+        }
+        return state;
+    }
+
+    /**
+     * Saves the state so the next run can recompute incrementally.
+     * The file is written to a temporary file first and moved into place, so a crash never leaves a partial state.
+     * @param path Path of the state file
+     * @throws IOException if writing fails
+     */
+    public void save(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try (OutputStream file = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(file, 1 << 16), crc))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(ratesFingerprint);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Entry> item : entries.entrySet()) {
+                Entry entry = item.getValue();
+                out.writeUTF(item.getKey());
+                out.writeLong(entry.inputHash);
+                out.writeDouble(entry.hoursWorked);
+                out.writeDouble(entry.grossSalary);
+                out.writeDouble(entry.sss);
+                out.writeDouble(entry.philHealth);
+                out.writeDouble(entry.pagIbig);
+                out.writeDouble(entry.withholdingTax);
+                out.writeDouble(entry.totalAllowances);
+                out.writeDouble(entry.netSalary);
+            }
+            out.flush();
+            out.writeLong(crc.getValue());
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Brings the state up to date with the roster and hours of this run.
+     * Employees whose inputs hash the same as last time keep their result; employees without
+     * hours are removed from the payroll.
+     * @param employees Current roster
+     * @param hoursWorked Hours worked by employee number
+     * @return Summary naming the employees whose payroll changed
+     * @throws IllegalArgumentException if an employee number appears more than once in the roster;
+     *         the state is left unchanged
+     */
+    public IncrementalRunSummary update(List<Employee> employees, Map<String, Double> hoursWorked) {
+        EmployeeIndex.requireUniqueEmployeeNumbers(employees);
+        long start = System.nanoTime();
+        int current = ++generation;
+        List<String> changed = new ArrayList<>();
+        int unchanged = 0;
+
+        for (Employee employee : employees) {
+            if (employee == null) continue; // Skip null entries
+            Double hours = hoursWorked.get(employee.getEmployeeNumber());
+            if (hours == null) continue;
+
+            if (apply(employee, hours)) {
+                changed.add(employee.getEmployeeNumber());
+            } else {
+                unchanged++;
+            }
+            entries.get(employee.getEmployeeNumber()).generation = current;
+        }
+
+        int removed = 0;
+        for (Iterator<Entry> it = entries.values().iterator(); it.hasNext(); ) {
+            Entry entry = it.next();
+            if (entry.generation != current) {
+                subtract(entry);
+                it.remove();
+                removed++;
+            }
+        }
+        return new IncrementalRunSummary(changed, unchanged, removed, System.nanoTime() - start);
+    }
+
+    /**
+     * Applies a correction to a single employee's record or hours, leaving everyone else untouched.
+     * @param employee Corrected employee record
+     * @param hoursWorked Corrected hours worked
+     * @return true if the payroll was recomputed, false if the inputs had not changed
+     */
+    public boolean applyCorrection(Employee employee, double hoursWorked) {
+        return apply(employee, hoursWorked);
+    }
+
+    /**
+     * Removes an employee from the payroll.
+     * @param employeeNumber Employee's unique number
+     * @return true if the employee was on the payroll
+     */
+    public boolean remove(String employeeNumber) {
+        Entry entry = entries.remove(employeeNumber);
+        if (entry == null) return false;
+        subtract(entry);
+        return true;
+    }
+
+    /**
+     * Retrieves the stored net salary of an employee.
+     * @param employeeNumber Employee's unique number
+     * @return Net salary including allowances, or NaN if the employee is not on the payroll
+     */
+    public double getNetSalary(String employeeNumber) {
+        Entry entry = entries.get(employeeNumber);
+        return entry == null ? Double.NaN : entry.netSalary;
+    }
+
+    /**
+     * Retrieves the number of employees on the payroll.
+     * @return Employee count
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public double getTotalGrossSalary() { return totalGrossCentavos / 100.0; }
+    public double getTotalAllowances() { return totalAllowancesCentavos / 100.0; }
+    public double getTotalDeductions() { return totalDeductionsCentavos / 100.0; }
+    public double getTotalNetSalary() { return totalNetCentavos / 100.0; }
+
+    /**
+     * Recomputes an employee if its inputs changed.
+     * @return true if the payroll was recomputed
+     */
+    private boolean apply(Employee employee, double hoursWorked) {
+        long inputHash = inputHash(employee, hoursWorked);
+        Entry previous = entries.get(employee.getEmployeeNumber());
+        if (previous != null && previous.inputHash == inputHash) return false;
+
+        PayrollResult result = payrollCalculator.computePayroll(employee, hoursWorked, scratch);
+        Entry entry = new Entry(inputHash, hoursWorked, result.getGrossSalary(), result.getSss(), result.getPhilHealth(),
+            result.getPagIbig(), result.getWithholdingTax(), result.getTotalAllowances(), result.getNetSalary());
+        if (previous != null) subtract(previous);
+        put(employee.getEmployeeNumber(), entry);
+        return true;
+    }
+
+    /**
+     * Stores an entry and adds it to the totals.
+     */
+    private void put(String employeeNumber, Entry entry) {
+        entry.generation = generation;
+        entries.put(employeeNumber, entry);
+        totalGrossCentavos += centavos(entry.grossSalary);
+        totalAllowancesCentavos += centavos(entry.totalAllowances);
+        totalDeductionsCentavos += centavos(entry.getTotalDeductions());
+        totalNetCentavos += centavos(entry.netSalary);
+    }
+
+    /**
+     * Takes an entry out of the totals.
+     */
+    private void subtract(Entry entry) {
+        totalGrossCentavos -= centavos(entry.grossSalary);
+        totalAllowancesCentavos -= centavos(entry.totalAllowances);
+        totalDeductionsCentavos -= centavos(entry.getTotalDeductions());
+        totalNetCentavos -= centavos(entry.netSalary);
+    }
+
+    private static long centavos(double amount) {
+        return Math.round(amount * 100);
+    }
+
+    /**
+     * Computes a 64-bit hash of every field of the employee and the hours worked.
+     * @param employee Employee record
+     * @param hoursWorked Hours worked
+     * @return Hash of the payroll inputs
+     */
+    static long inputHash(Employee employee, double hoursWorked) {
+        long hash = HASH_SEED;
+        hash = hash(hash, employee.getEmployeeNumber());
+        hash = hash(hash, employee.getLastName());
+        hash = hash(hash, employee.getFirstName());
+        hash = hash(hash, employee.getBirthDate());
+        hash = hash(hash, employee.getAddress());
+        hash = hash(hash, employee.getContactNumber());
+        hash = hash(hash, employee.getTinNumber());
+        hash = hash(hash, employee.getSssNumber());
+        hash = hash(hash, employee.getPhilHealthNumber());
+        hash = hash(hash, employee.getPagIbigNumber());
+        hash = hash(hash, employee.getEmploymentStatus());
+        hash = hash(hash, employee.getPosition());
+        hash = hash(hash, employee.getSupervisor());
+        hash = hash(hash, Double.doubleToLongBits(employee.getBasicSalary()));
+        hash = hash(hash, Double.doubleToLongBits(employee.getRiceSubsidy()));
+        hash = hash(hash, Double.doubleToLongBits(employee.getPhoneAllowance()));
+        hash = hash(hash, Double.doubleToLongBits(employee.getClothingAllowance()));
+        hash = hash(hash, Double.doubleToLongBits(hoursWorked));
+        hash = (hash ^ (hash >>> 32)) * MIX_1;
+        return hash ^ (hash >>> 29);
+    }
+
+    /**
+     * Fingerprints a calculator by its standard month and the full contents of its rate set:
+     * every SSS and tax bracket and the PhilHealth and Pag-IBIG rates and cap. Any change to the
+     * hourly rate basis, a bracket or a rate invalidates saved results, even under the same version.
+     */
+    private static long fingerprint(PayrollCalculator payrollCalculator) {
+        RateSet rates = payrollCalculator.getRates();
+        long hash = hash(HASH_SEED, rates.getVersion());
+        hash = hash(hash, Double.doubleToLongBits(payrollCalculator.getStandardMonthlyHours()));
+
+        SSSContributionTable sss = rates.getSssTable();
+        hash = hash(hash, sss.getBracketCount());
+        for (int bracket = 0; bracket < sss.getBracketCount(); bracket++) {
+            hash = hash(hash, Double.doubleToLongBits(sss.getUpperBound(bracket)));
+            hash = hash(hash, Double.doubleToLongBits(sss.getContribution(bracket)));
+        }
+        hash = hash(hash, Double.doubleToLongBits(sss.getMaxContribution()));
+
+        hash = hash(hash, Double.doubleToLongBits(rates.getPhilHealthRate()));
+        hash = hash(hash, Double.doubleToLongBits(rates.getPhilHealthEmployeeShare()));
+        hash = hash(hash, Double.doubleToLongBits(rates.getPagIbigRate()));
+        hash = hash(hash, Double.doubleToLongBits(rates.getPagIbigCap()));
+
+        TaxTable tax = rates.getTaxTable();
+        hash = hash(hash, tax.getBracketCount());
+        for (int bracket = 0; bracket < tax.getBracketCount(); bracket++) {
+            hash = hash(hash, Double.doubleToLongBits(tax.getUpperBound(bracket)));
+            hash = hash(hash, Double.doubleToLongBits(tax.getBaseTax(bracket)));
+            hash = hash(hash, Double.doubleToLongBits(tax.getRate(bracket)));
+            hash = hash(hash, Double.doubleToLongBits(tax.getExcessOver(bracket)));
+        }
+        return hash;
+    }
+
+    /**
+     * Mixes a string into the hash four characters at a time.
+     */
+    private static long hash(long hash, String value) {
+        if (value == null) return hash(hash, -1L);
+        int length = value.length();
+        int i = 0;
+        for (; i + 4 <= length; i += 4) {
+            hash = hash(hash, value.charAt(i) | (long) value.charAt(i + 1) << 16
+                | (long) value.charAt(i + 2) << 32 | (long) value.charAt(i + 3) << 48);
+        }
+        long tail = 0;
+        for (int shift = 0; i < length; i++, shift += 16) {
+            tail |= (long) value.charAt(i) << shift;
+        }
+        // Length marks where one field ends, so "ab","c" and "a","bc" hash differently
+        return hash(hash(hash, tail), length);
+    }
+
+    private static long hash(long hash, long value) {
+        return Long.rotateLeft(hash ^ value * MIX_1, 31) * MIX_2;
+    }
+
+    /**
+     * The stored payroll of one employee.
+     */
+    private static final class Entry {
+        private final long inputHash;
+        private final double hoursWorked;
+        private final double grossSalary;
+        private final double sss;
+        private final double philHealth;
+        private final double pagIbig;
+        private final double withholdingTax;
+        private final double totalAllowances;
+        private final double netSalary;
+        private int generation;
+
+        Entry(long inputHash, double hoursWorked, double grossSalary, double sss, double philHealth, double pagIbig,
+              double withholdingTax, double totalAllowances, double netSalary) {
+            this.inputHash = inputHash;
+            this.hoursWorked = hoursWorked;
+            this.grossSalary = grossSalary;
+            this.sss = sss;
+            this.philHealth = philHealth;
+            this.pagIbig = pagIbig;
+            this.withholdingTax = withholdingTax;
+            this.totalAllowances = totalAllowances;
+            this.netSalary = netSalary;
+        }
+
+        double getTotalDeductions() {
+            return sss + philHealth + pagIbig + withholdingTax;
+        }
+    }
+}
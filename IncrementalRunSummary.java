@@ -0,0 +1,49 @@
+package service;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * IncrementalRunSummary holds the outcome of an incremental payroll update.
+ * Lists the employees whose payroll changed so only their payslips and rows need rewriting.
+ */
+public class IncrementalRunSummary {
+    private final List<String> changedEmployees;
+    private final int employeesUnchanged;
+    private final int employeesRemoved;
+    private final long wallTimeNanos;
+
+    /**
+     * Constructor for IncrementalRunSummary class.
+     * @param changedEmployees Employee numbers whose payroll was recomputed
+     * @param employeesUnchanged Number of employees whose stored payroll was kept
+     * @param employeesRemoved Number of employees dropped because they had no hours this run
+     * @param wallTimeNanos Elapsed wall time of the update in nanoseconds
+     */
+    public IncrementalRunSummary(List<String> changedEmployees, int employeesUnchanged, int employeesRemoved,
+                                 long wallTimeNanos) {
+        this.changedEmployees = Collections.unmodifiableList(changedEmployees);
+        this.employeesUnchanged = employeesUnchanged;
+        this.employeesRemoved = employeesRemoved;
+        this.wallTimeNanos = wallTimeNanos;
+    }
+
+    public List<String> getChangedEmployees() { return changedEmployees; }
+    public int getEmployeesRecomputed() { return changedEmployees.size(); }
+    public int getEmployeesUnchanged() { return employeesUnchanged; }
+    public int getEmployeesRemoved() { return employeesRemoved; }
+    public long getWallTimeNanos() { return wallTimeNanos; }
+
+    /**
+     * Displays the outcome of the update.
+     */
+    public void display() {
+        System.out.println("\n📊 Incremental Payroll Summary");
+        System.out.println("-------------------------------------------------");
+        System.out.printf("Employees Recomputed: %d%n", changedEmployees.size());
+        System.out.printf("Employees Unchanged: %d%n", employeesUnchanged);
+        System.out.printf("Employees Removed: %d%n", employeesRemoved);
+        System.out.printf("Wall Time: %.3f ms%n", wallTimeNanos / 1_000_000.0);
+        System.out.println("-------------------------------------------------\n");
+    }
+}
@@ -0,0 +1,71 @@
+package service;
+
+/**
+ * JournalRunSummary holds the outcome of a journaled payroll run, including how much of the
+ * run's time went into forcing the journal to disk.
+ */
+public class JournalRunSummary {
+    private final int employeesComputed;
+    private final int employeesSkipped;
+    private final long journalBytes;
+    private final long journalSyncs;
+    private final long syncNanos;
+    private final long wallTimeNanos;
+
+    /**
+     * Constructor for JournalRunSummary class.
+     * @param employeesComputed Number of employees computed and committed by this run
+     * @param employeesSkipped Number of employees skipped because an earlier run already issued their payslip
+     * @param journalBytes Bytes appended to the journal
+     * @param journalSyncs Number of times the journal was forced to disk
+     * @param syncNanos Time spent writing and forcing the journal in nanoseconds
+     * @param wallTimeNanos Elapsed wall time of the run in nanoseconds
+     */
+    public JournalRunSummary(int employeesComputed, int employeesSkipped, long journalBytes, long journalSyncs,
+                             long syncNanos, long wallTimeNanos) {
+        this.employeesComputed = employeesComputed;
+        this.employeesSkipped = employeesSkipped;
+        this.journalBytes = journalBytes;
+        this.journalSyncs = journalSyncs;
+        this.syncNanos = syncNanos;
+        this.wallTimeNanos = wallTimeNanos;
+    }
+
+    public int getEmployeesComputed() { return employeesComputed; }
+    public int getEmployeesSkipped() { return employeesSkipped; }
+    public long getJournalBytes() { return journalBytes; }
+    public long getJournalSyncs() { return journalSyncs; }
+    public long getSyncNanos() { return syncNanos; }
+    public long getWallTimeNanos() { return wallTimeNanos; }
+
+    /**
+     * Computes the throughput of the run.
+     * @return Employees computed per second of wall time
+     */
+    public double getEmployeesPerSecond() {
+        return wallTimeNanos == 0 ? 0.0 : employeesComputed / (wallTimeNanos / 1_000_000_000.0);
+    }
+
+    /**
+     * Computes the journal write throughput while it was being written and forced.
+     * @return Megabytes written per second of journal write time
+     */
+    public double getJournalMegabytesPerSecond() {
+        return syncNanos == 0 ? 0.0 : journalBytes / 1_000_000.0 / (syncNanos / 1_000_000_000.0);
+    }
+
+    /**
+     * Displays the outcome of the run.
+     */
+    public void display() {
+        System.out.println("\n📊 Journaled Payroll Summary");
+        System.out.println("-------------------------------------------------");
+        System.out.printf("Employees Computed: %d%n", employeesComputed);
+        System.out.printf("Employees Skipped (already issued): %d%n", employeesSkipped);
+        System.out.printf("Journal: %,d bytes in %d syncs, %.1f MB/s%n", journalBytes, journalSyncs,
+            getJournalMegabytesPerSecond());
+        System.out.printf("Journal Time: %.3f s of %.3f s%n", syncNanos / 1_000_000_000.0, wallTimeNanos / 1_000_000_000.0);
+        System.out.printf("Throughput: %.1f employees/s%n", getEmployeesPerSecond());
+        System.out.println("-------------------------------------------------\n");
+    }
+}
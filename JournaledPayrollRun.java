@@ -0,0 +1,113 @@
+package service;
+
+import model.Employee;
+import model.PayrollResult;
+import utils.PayslipWriter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * JournaledPayrollRun computes payroll for a roster and records every result and issued
+ * payslip in a {@link PayrollJournal}, so a run that dies halfway can be restarted and
+ * carries on after the last committed employee instead of starting over.
+ * <p>
+ * For each employee the result is journaled, the payslip is written and then the
+ * payslip-issued marker is journaled. Every {@code batchSize} employees the payslips are
+ * forced to disk and then the journal, in that order, so a durable marker always names a
+ * payslip that is on disk. A crash can lose at most the last uncommitted batch, whose
+ * employees are simply computed again on restart. Payslips written to one batched file are
+ * resumed with {@link PayslipWriter#resumeFile}, which cuts off the uncommitted batch first.
+ */
+public class JournaledPayrollRun {
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    private final PayrollCalculator payrollCalculator;
+    private final int batchSize;
+
+    /**
+     * Creates a run that commits the journal every {@link #DEFAULT_BATCH_SIZE} employees.
+     * @param payrollCalculator Calculator used for every employee
+     */
+    public JournaledPayrollRun(PayrollCalculator payrollCalculator) {
+        this(payrollCalculator, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a run with its own commit interval.
+     * @param payrollCalculator Calculator used for every employee
+     * @param batchSize Employees per journal commit; 1 forces the journal to disk after every employee
+     */
+    public JournaledPayrollRun(PayrollCalculator payrollCalculator, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+        }
+        this.payrollCalculator = payrollCalculator;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Computes payroll for every employee whose payslip the journal does not already record as issued.
+     * The journal keeps employees by number, so a roster that repeats an employee number is rejected
+     * before anything is computed.
+     * @param employees Roster of the pay period
+     * @param hoursWorked Hours worked per employee, aligned with the roster
+     * @param journal Journal of the pay period, opened and recovered
+     * @param payslips Writer for the payslips, or null if payslips are issued elsewhere. A batched file must
+     *                 continue the journal: new for a new journal, otherwise reopened with {@link PayslipWriter#resumeFile}
+     * @return Summary of the run
+     * @throws IOException if writing a payslip or the journal fails; the run may be restarted
+     * @throws IllegalArgumentException if the batched payslip file does not end where the journal's issued payslips do,
+     *         or an employee number appears more than once in the roster
+     */
+    public JournalRunSummary run(List<Employee> employees, double[] hoursWorked, PayrollJournal journal,
+                                 PayslipWriter payslips) throws IOException {
+        if (hoursWorked.length != employees.size()) {
+            throw new IllegalArgumentException("Hours worked (" + hoursWorked.length
+                + ") does not match roster size (" + employees.size() + ")");
+        }
+        EmployeeIndex.requireUniqueEmployeeNumbers(employees);
+        if (payslips != null && payslips.getFileLength() != journal.getPayslipFileLength()) {
+            throw new IllegalArgumentException("Payslip file has " + payslips.getFileLength() + " bytes, but the journal issued "
+                + journal.getPayslipFileLength() + " bytes of payslips; reopen it with PayslipWriter.resumeFile");
+        }
+        long start = System.nanoTime();
+        long bytesBefore = journal.getBytesWritten();
+        long syncsBefore = journal.getSyncs();
+        long syncNanosBefore = journal.getSyncNanos();
+        PayrollResult scratch = new PayrollResult();
+        int computed = 0;
+        int skipped = 0;
+        int uncommitted = 0;
+
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            if (employee == null) continue; // Skip null entries
+            if (journal.isIssued(employee.getEmployeeNumber())) {
+                skipped++;
+                continue;
+            }
+
+            PayrollResult result = payrollCalculator.computePayroll(employee, hoursWorked[i], scratch);
+            journal.appendResult(result);
+            if (payslips != null) payslips.write(result);
+            journal.appendPayslipIssued(employee.getEmployeeNumber(), payslips != null ? payslips.getFileLength() : 0);
+            computed++;
+            if (++uncommitted == batchSize) {
+                commit(journal, payslips);
+                uncommitted = 0;
+            }
+        }
+        commit(journal, payslips);
+
+        return new JournalRunSummary(computed, skipped, journal.getBytesWritten() - bytesBefore,
+            journal.getSyncs() - syncsBefore, journal.getSyncNanos() - syncNanosBefore, System.nanoTime() - start);
+    }
+
+    /**
+     * Makes the batch durable: payslips first, then the journal records that point at them.
+     */
+    private static void commit(PayrollJournal journal, PayslipWriter payslips) throws IOException {
+        if (payslips != null) payslips.force();
+        journal.sync();
+    }
+}
@@ -1,11 +1,19 @@
 package main;
 
+import service.BatchPayrollProcessor;
+import service.EmployeeFileWatcher;
+import service.PayrollCalculator;
+import service.PayrollHttpServer;
 import service.PayrollSystem;
 import model.Employee;
 import service.PayrollProcessor;
+import utils.PayrollMetrics;
+import utils.RateRegistry;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.Scanner;
 import java.io.IOException;
+import java.nio.file.Paths;
 import com.opencsv.exceptions.CsvException;
 
 /**
@@ -14,17 +22,48 @@ import com.opencsv.exceptions.CsvException;
  */
 public class Main {
 
+    private static final String EMPLOYEE_DATA_PATH = "src/data/employee_data.csv";
+    private static final String RATES_DIRECTORY = "src/data/rates";
+    private static final String DEFAULT_BATCH_OUTPUT_PATH = "payroll_output.csv";
+    private static final String METRICS_REPORT_PATH = "payroll_metrics.json";
+
     /**
      * Entry point of the MotorPHPayrollSystem application.
-     * @param args Command-line arguments (not used).
+     * Runs interactively by default, as a batch when started with
+     * {@code --batch <timesheet.csv> [output.csv]}, or as an HTTP service with {@code --serve [port]}.
+     * @param args Command-line arguments.
      */
     public static void main(String[] args) {
+        PayrollMetrics.getDefault().registerMBean();
+        try {
+            run(args);
+        } finally {
+            writeMetricsReport();
+        }
+    }
+
+    /**
+     * Runs the application in interactive or batch mode.
+     * @param args Command-line arguments.
+     */
+    private static void run(String[] args) {
+        if (args.length >= 2 && "--batch".equals(args[0])) {
+            runBatch(args[1], args.length >= 3 ? args[2] : DEFAULT_BATCH_OUTPUT_PATH);
+            return;
+        }
+        if (args.length >= 1 && "--serve".equals(args[0])) {
+            int port = args.length >= 2 ? parsePort(args[1]) : PayrollHttpServer.DEFAULT_PORT;
+            if (port >= 0) runServer(port);
+            return;
+        }
+
         PayrollSystem payrollSystem = new PayrollSystem();
         PayrollProcessor payrollProcessor = new PayrollProcessor();
 
         try {
-            // Load employee data from CSV file
-            payrollSystem.loadEmployeeData("src/data/employee_data.csv");
+            // Load contribution schedules, then employee data from CSV file
+            RateRegistry.getDefault().loadDirectory(RATES_DIRECTORY);
+            payrollSystem.loadEmployeeDataCached(EMPLOYEE_DATA_PATH);
 
             // Display loaded employees
             payrollSystem.displayEmployees();
@@ -53,4 +92,87 @@ public class Main {
             System.err.println("❌ Error loading employee data: " + e.getMessage());
         }
     }
+
+    /**
+     * Runs payroll for every employee using hours from a timesheet file, without prompts.
+     * @param timesheetPath Path to the timesheet CSV file
+     * @param outputPath Path of the payroll results CSV file
+     */
+    private static void runBatch(String timesheetPath, String outputPath) {
+        PayrollSystem payrollSystem = new PayrollSystem();
+        BatchPayrollProcessor batchProcessor = new BatchPayrollProcessor();
+
+        try {
+            RateRegistry.getDefault().loadDirectory(RATES_DIRECTORY);
+            payrollSystem.loadEmployeeDataCached(EMPLOYEE_DATA_PATH);
+            batchProcessor.processTimesheet(payrollSystem.getEmployees(), timesheetPath, outputPath).display();
+            System.out.println("✅ Payroll results written to " + outputPath);
+        } catch (IOException | CsvException e) {
+            System.err.println("❌ Error running batch payroll: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses the port argument of {@code --serve}.
+     * @param value Port number as given on the command line
+     * @return The port, or -1 after reporting an invalid one
+     */
+    private static int parsePort(String value) {
+        try {
+            int port = Integer.parseInt(value.trim());
+            if (port >= 0 && port <= 65535) return port;
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        System.err.println("❌ Invalid port: " + value + " (expected a number from 0 to 65535)");
+        return -1;
+    }
+
+    /**
+     * Serves payroll previews over HTTP until the process is stopped.
+     * The employee file is reloaded whenever it changes, and the metrics report is written
+     * when the JVM shuts down.
+     * @param port Port to listen on
+     */
+    private static void runServer(int port) {
+        try {
+            // Send small responses as soon as they are written instead of waiting on delayed ACKs
+            if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+                System.setProperty("sun.net.httpserver.nodelay", "true");
+            }
+            RateRegistry.getDefault().loadDirectory(RATES_DIRECTORY);
+            PayrollSystem payrollSystem = new PayrollSystem();
+            PayrollHttpServer server = new PayrollHttpServer(payrollSystem, EMPLOYEE_DATA_PATH, new PayrollCalculator(), port);
+            server.start();
+            EmployeeFileWatcher watcher = EmployeeFileWatcher.start(payrollSystem, EMPLOYEE_DATA_PATH);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    watcher.close();
+                } catch (IOException e) {
+                    System.err.println("⚠ Could not stop watching employee data: " + e.getMessage());
+                }
+                server.close();
+                writeMetricsReport();
+            }));
+            System.out.println("✅ Payroll service listening on http://localhost:" + server.getPort()
+                + " (" + server.getRoster().size() + " employees)");
+            new CountDownLatch(1).await();
+        } catch (IOException e) {
+            System.err.println("❌ Error starting payroll service: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the end-of-run metrics report next to the working directory.
+     */
+    private static void writeMetricsReport() {
+        try {
+            PayrollMetrics.getDefault().writeReport(Paths.get(METRICS_REPORT_PATH));
+            System.out.println("📊 Run metrics written to " + METRICS_REPORT_PATH);
+        } catch (IOException e) {
+            System.err.println("⚠ Could not write run metrics: " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,354 @@
+package service;
+
+import model.Employee;
+import utils.PayrollMetrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * MappedEmployeeLoader loads the employee master file through a memory-mapped view of the file.
+ * Records are split directly on the mapped bytes. Only plain RFC 4180 quoting is handled there:
+ * a quoted field starts and ends with its quotes and escapes quotes by doubling them, and there
+ * are no backslashes and no carriage returns inside quotes. opencsv reads anything else its own
+ * way (backslash escapes, quotes in the middle of a field, text after a closing quote), so a file
+ * that uses any of it is loaded through {@link EmployeeStreamLoader} instead.
+ * Salary and allowance columns are parsed straight from bytes into doubles, while text columns
+ * such as address and TIN are only decoded into Strings when their getter is called.
+ * Loaded employees keep the mapping alive for as long as they are referenced, and see any change
+ * made to the file in place meanwhile, so only load files that are replaced rather than rewritten.
+ */
+public final class MappedEmployeeLoader {
+    private static final Logger LOGGER = Logger.getLogger(PayrollSystem.class.getName());
+    private static final long WINDOW_SIZE = 1L << 30; // Largest region mapped at once
+    private static final int TEXT_FIELDS = 13;        // Columns 0-12 are text, 13-16 are amounts
+    private static final int MAX_FIELDS = 64;         // Extra columns are counted but not kept
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final long INCOMPLETE = -1;        // Record runs past the mapped window
+    private static final long UNSUPPORTED = -2;       // Record needs opencsv's own quoting rules
+
+    private MappedEmployeeLoader() {
+    }
+
+    /**
+     * Loads every valid employee row of a CSV file.
+     * Rows with fewer than 19 columns are skipped with a warning, as with the opencsv loader.
+     * Files with quoting outside the plain subset are loaded through opencsv; their employees
+     * own their text.
+     * @param filePath Path to the CSV file containing employee data
+     * @return Employees in file order
+     * @throws IOException if the file cannot be read, or opencsv rejects it
+     */
+    public static List<Employee> load(String filePath) throws IOException {
+        List<Employee> employees = new ArrayList<>();
+        List<Runnable> warnings = new ArrayList<>(); // Reported once the whole file has been read here
+        int[] starts = new int[MAX_FIELDS];
+        int[] ends = new int[MAX_FIELDS];
+
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long windowStart = 0;
+            MappedByteBuffer buffer = map(channel, windowStart, fileSize);
+            int position = 0;
+            boolean header = true;
+
+            while (windowStart + position < fileSize) {
+                boolean lastWindow = windowStart + buffer.limit() >= fileSize;
+                long record = scanRecord(buffer, position, lastWindow, starts, ends);
+                if (record == UNSUPPORTED) {
+                    LOGGER.log(Level.FINE, "Quoting near offset {0} needs opencsv, loading {1} through it",
+                        new Object[]{windowStart + position, filePath});
+                    return loadWithOpencsv(filePath);
+                }
+                if (record == INCOMPLETE) {
+                    // The record runs past the mapped window: remap starting at the record
+                    if (position == 0) {
+                        throw new IOException("❌ Employee record larger than " + WINDOW_SIZE + " bytes at offset " + windowStart);
+                    }
+                    windowStart += position;
+                    buffer = map(channel, windowStart, fileSize);
+                    position = 0;
+                    continue;
+                }
+
+                int next = (int) record;
+                int fieldCount = (int) (record >>> 32);
+                position = next;
+                if (header) {
+                    header = false;
+                    continue;
+                }
+
+                if (fieldCount < EmployeeRecordParser.MIN_COLUMNS) {
+                    String row = describeRow(buffer, starts, ends, Math.min(fieldCount, MAX_FIELDS));
+                    warnings.add(() -> {
+                        PayrollMetrics.getDefault().recordRowRejected();
+                        LOGGER.log(Level.WARNING, "⚠ Invalid data format (Columns found: {0}): {1}",
+                            new Object[]{fieldCount, row});
+                    });
+                    continue;
+                }
+                employees.add(toEmployee(buffer, starts, ends, warnings));
+            }
+        }
+        warnings.forEach(Runnable::run);
+        return employees;
+    }
+
+    /**
+     * Loads a file through opencsv, for files whose quoting the byte splitter does not handle.
+     * @param filePath Path to the CSV file containing employee data
+     * @return Employees in file order
+     * @throws IOException if the file cannot be read or opencsv rejects it
+     */
+    private static List<Employee> loadWithOpencsv(String filePath) throws IOException {
+        List<Employee> employees = new ArrayList<>();
+        try (Stream<Employee> rows = EmployeeStreamLoader.stream(filePath)) {
+            rows.forEach(employees::add);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return employees;
+    }
+
+    /**
+     * Maps the next window of the file.
+     */
+    private static MappedByteBuffer map(FileChannel channel, long start, long fileSize) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, fileSize - start));
+    }
+
+    /**
+     * Splits one record into fields. A field's range covers its raw bytes, including any
+     * surrounding quotes, so quoted fields can be unescaped when they are decoded.
+     * A quote anywhere but at the very start of a field, a closing quote followed by anything
+     * but a separator or line break, a backslash, a carriage return inside quotes or an
+     * unterminated quote make the record unsupported.
+     * @param buffer Mapped window
+     * @param position Offset where the record starts
+     * @param lastWindow Whether the window reaches the end of the file
+     * @param starts Receives the start offset of each field
+     * @param ends Receives the end offset of each field
+     * @return The field count in the upper 32 bits and the offset after the record in the lower
+     *         32 bits, {@link #INCOMPLETE} if the record is not complete within this window, or
+     *         {@link #UNSUPPORTED} if it needs opencsv's own quoting rules
+     */
+    private static long scanRecord(MappedByteBuffer buffer, int position, boolean lastWindow, int[] starts, int[] ends) {
+        int limit = buffer.limit();
+        int fieldCount = 0;
+        int fieldStart = position;
+        boolean quoted = false;
+        int i = position;
+
+        while (i < limit) {
+            byte b = buffer.get(i);
+            if (b == '\\') {
+                return UNSUPPORTED;
+            } else if (quoted) {
+                if (b == '"') {
+                    if (i + 1 >= limit) {
+                        if (!lastWindow) return INCOMPLETE;
+                    } else {
+                        byte after = buffer.get(i + 1);
+                        if (after == '"') {
+                            i += 2; // Escaped quote
+                            continue;
+                        }
+                        if (after != ',' && after != '\n' && after != '\r') return UNSUPPORTED;
+                    }
+                    quoted = false;
+                } else if (b == '\r') {
+                    return UNSUPPORTED; // opencsv turns line breaks inside quotes into a bare \n
+                }
+                i++;
+            } else if (b == '"') {
+                if (i != fieldStart) return UNSUPPORTED;
+                quoted = true;
+                i++;
+            } else if (b == ',') {
+                fieldCount = endField(starts, ends, fieldCount, fieldStart, i);
+                fieldStart = ++i;
+            } else if (b == '\n' || b == '\r') {
+                fieldCount = endField(starts, ends, fieldCount, fieldStart, i);
+                if (b == '\r') {
+                    if (i + 1 >= limit && !lastWindow) return INCOMPLETE;
+                    if (i + 1 < limit && buffer.get(i + 1) == '\n') i++;
+                }
+                return ((long) fieldCount << 32) | (i + 1);
+            } else {
+                i++;
+            }
+        }
+
+        if (!lastWindow) return INCOMPLETE;
+        if (quoted) return UNSUPPORTED; // opencsv rejects the file
+        fieldCount = endField(starts, ends, fieldCount, fieldStart, limit);
+        return ((long) fieldCount << 32) | limit;
+    }
+
+    /**
+     * Records the range of a completed field.
+     * @return The new field count
+     */
+    private static int endField(int[] starts, int[] ends, int fieldCount, int start, int end) {
+        if (fieldCount < MAX_FIELDS) {
+            starts[fieldCount] = start;
+            ends[fieldCount] = end;
+        }
+        return fieldCount + 1;
+    }
+
+    /**
+     * Builds a lazily decoded employee from the field ranges of a record.
+     */
+    private static Employee toEmployee(MappedByteBuffer buffer, int[] starts, int[] ends, List<Runnable> warnings) {
+        int[] textFields = new int[TEXT_FIELDS * 2];
+        for (int field = 0; field < TEXT_FIELDS; field++) {
+            textFields[field * 2] = starts[field];
+            textFields[field * 2 + 1] = ends[field];
+        }
+        return new MappedEmployee(buffer, textFields,
+            parseAmount(buffer, starts[13], ends[13], warnings), parseAmount(buffer, starts[14], ends[14], warnings),
+            parseAmount(buffer, starts[15], ends[15], warnings), parseAmount(buffer, starts[16], ends[16], warnings));
+    }
+
+    /**
+     * Parses an amount such as {@code "90,000"} or {@code 1500.50} directly from bytes.
+     * Values that cannot be represented exactly this way fall back to Double.parseDouble,
+     * so results always match the opencsv loader.
+     */
+    private static double parseAmount(MappedByteBuffer buffer, int start, int end, List<Runnable> warnings) {
+        int i = start;
+        int last = end;
+        while (i < last && (buffer.get(i) & 0xFF) <= ' ') i++;
+        while (last > i && (buffer.get(last - 1) & 0xFF) <= ' ') last--;
+        if (last - i >= 2 && buffer.get(i) == '"' && buffer.get(last - 1) == '"') {
+            i++;
+            last--;
+            while (i < last && (buffer.get(i) & 0xFF) <= ' ') i++;
+            while (last > i && (buffer.get(last - 1) & 0xFF) <= ' ') last--;
+        }
+
+        boolean negative = false;
+        if (i < last && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < last; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                if (++digits > 15) return parseAmountSlow(buffer, start, end, warnings);
+                if (fractionDigits >= 0) fractionDigits++;
+            } else if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else if (b != ',') {
+                return parseAmountSlow(buffer, start, end, warnings);
+            }
+        }
+        if (digits == 0 || mantissa >= MAX_EXACT_MANTISSA) return parseAmountSlow(buffer, start, end, warnings);
+
+        // Both operands are exact doubles, so one division gives the correctly rounded value
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses an amount through the same path as the opencsv loader, including its 0.0 fallback.
+     * The warning is queued, so nothing is reported twice if the file goes to opencsv after all.
+     */
+    private static double parseAmountSlow(MappedByteBuffer buffer, int start, int end, List<Runnable> warnings) {
+        String value = decode(buffer, start, end);
+        try {
+            return EmployeeRecordParser.parseAmount(value);
+        } catch (NumberFormatException e) {
+            warnings.add(() -> EmployeeRecordParser.reportUnparsed(value));
+            return 0.0;
+        }
+    }
+
+    /**
+     * Decodes a field into a trimmed String, removing surrounding quotes and unescaping doubled quotes.
+     * The field was accepted by {@link #scanRecord}, so a quoted field ends with its closing quote.
+     */
+    static String decode(MappedByteBuffer buffer, int start, int end) {
+        if (end - start >= 2 && buffer.get(start) == '"') {
+            String content = toString(buffer, start + 1, end - 1);
+            return (content.indexOf('"') >= 0 ? content.replace("\"\"", "\"") : content).trim();
+        }
+        return toString(buffer, start, end).trim();
+    }
+
+    /**
+     * Copies a byte range out of the mapping as UTF-8 text.
+     */
+    private static String toString(MappedByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Joins the decoded fields of a rejected row for the warning message.
+     */
+    private static String describeRow(MappedByteBuffer buffer, int[] starts, int[] ends, int fieldCount) {
+        StringBuilder row = new StringBuilder();
+        for (int field = 0; field < fieldCount; field++) {
+            if (field > 0) row.append('|');
+            row.append(decode(buffer, starts[field], ends[field]));
+        }
+        return row.toString();
+    }
+
+    /**
+     * Employee whose text columns stay in the mapped file until they are read.
+     */
+    private static final class MappedEmployee extends Employee {
+        private final MappedByteBuffer buffer;
+        private final int[] textFields; // Start and end offset of each text column
+
+        MappedEmployee(MappedByteBuffer buffer, int[] textFields, double basicSalary, double riceSubsidy,
+                       double phoneAllowance, double clothingAllowance) {
+            super(null, null, null, null, null, null, null, null, null, null, null, null, null,
+                basicSalary, riceSubsidy, phoneAllowance, clothingAllowance);
+            this.buffer = buffer;
+            this.textFields = textFields;
+        }
+
+        private String text(int field) {
+            return decode(buffer, textFields[field * 2], textFields[field * 2 + 1]);
+        }
+
+        @Override public String getEmployeeNumber() { return text(0); }
+        @Override public String getLastName() { return text(1); }
+        @Override public String getFirstName() { return text(2); }
+        @Override public String getBirthDate() { return text(3); }
+        @Override public String getAddress() { return text(4); }
+        @Override public String getContactNumber() { return text(5); }
+        @Override public String getTinNumber() { return text(6); }
+        @Override public String getSssNumber() { return text(7); }
+        @Override public String getPhilHealthNumber() { return text(8); }
+        @Override public String getPagIbigNumber() { return text(9); }
+        @Override public String getEmploymentStatus() { return text(10); }
+        @Override public String getPosition() { return text(11); }
+        @Override public String getSupervisor() { return text(12); }
+    }
+}
@@ -0,0 +1,142 @@
+package utils;
+
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money arithmetic on whole centavos held in a {@code long}.
+ * Every operation that can lose a fraction of a centavo takes an explicit rounding mode,
+ * so totals always equal the sum of the amounts that were reported. Methods are static and
+ * work on primitives, so the payroll hot path does not allocate.
+ * Rates are expressed in parts per million (e.g., 3% is 30,000 ppm).
+ */
+public final class Money {
+    /** Centavos in one peso. */
+    public static final long CENTAVOS_PER_PESO = 100;
+
+    /** Parts per million in a rate of 1.0. */
+    public static final long PPM = 1_000_000;
+
+    // Amounts read from files are decimal; anything this close to a whole centavo is that centavo
+    private static final double CENTAVO_TOLERANCE = 1e-6;
+
+    private Money() {
+    }
+
+    /**
+     * Converts a peso amount to centavos.
+     * Amounts that are a whole number of centavos up to floating-point error convert exactly;
+     * anything finer is rounded with the given mode.
+     * @param pesos Amount in pesos
+     * @param mode Rounding applied to fractions of a centavo
+     * @return Amount in centavos
+     */
+    public static long ofPesos(double pesos, RoundingMode mode) {
+        // Amounts read from files are almost always whole centavos; keep that check small enough to inline
+        double scaled = pesos * CENTAVOS_PER_PESO;
+        double rounded = Math.rint(scaled);
+        double error = scaled - rounded;
+        if (error < CENTAVO_TOLERANCE && error > -CENTAVO_TOLERANCE) return (long) rounded;
+        return roundFraction(pesos, scaled, mode);
+    }
+
+    /**
+     * Rounds a centavo amount that holds a real fraction of a centavo.
+     */
+    private static long roundFraction(double pesos, double scaled, RoundingMode mode) {
+        double nearest = Math.rint(scaled);
+
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        boolean tie = Math.abs(fraction - 0.5) < CENTAVO_TOLERANCE;
+        long down = (long) floor;
+        boolean negative = scaled < 0;
+        switch (mode) {
+            case FLOOR: return down;
+            case CEILING: return down + 1;
+            case DOWN: return negative ? down + 1 : down;
+            case UP: return negative ? down : down + 1;
+            case HALF_UP: return tie ? (negative ? down : down + 1) : (long) nearest;
+            case HALF_DOWN: return tie ? (negative ? down + 1 : down) : (long) nearest;
+            case HALF_EVEN: return tie ? ((down & 1) == 0 ? down : down + 1) : (long) nearest;
+            default: throw new ArithmeticException("Rounding necessary for " + pesos + " pesos");
+        }
+    }
+
+    /**
+     * Converts centavos to pesos for display or for code that still works in doubles.
+     * @param centavos Amount in centavos
+     * @return Amount in pesos
+     */
+    public static double toPesos(long centavos) {
+        return centavos / (double) CENTAVOS_PER_PESO;
+    }
+
+    /**
+     * Converts a rate to parts per million, rejecting rates that cannot be represented exactly.
+     * @param rate Rate as a fraction (e.g., 0.03)
+     * @return Rate in parts per million
+     */
+    public static long toPpm(double rate) {
+        double scaled = rate * PPM;
+        long ppm = Math.round(scaled);
+        if (Math.abs(scaled - ppm) > CENTAVO_TOLERANCE) {
+            throw new IllegalArgumentException("Rate " + rate + " is finer than one part per million");
+        }
+        return ppm;
+    }
+
+    /**
+     * Applies a rate to an amount.
+     * @param centavos Amount in centavos
+     * @param ppm Rate in parts per million
+     * @param mode Rounding applied to fractions of a centavo
+     * @return Amount times rate, in centavos
+     */
+    public static long multiply(long centavos, long ppm, RoundingMode mode) {
+        return divide(Math.multiplyExact(centavos, ppm), PPM, mode);
+    }
+
+    /**
+     * Divides with an explicit rounding mode.
+     * @param dividend Value to divide
+     * @param divisor Value to divide by
+     * @param mode Rounding applied to the remainder
+     * @return Rounded quotient
+     */
+    public static long divide(long dividend, long divisor, RoundingMode mode) {
+        if (mode == RoundingMode.HALF_UP && dividend >= 0 && divisor > 0 && dividend <= Long.MAX_VALUE - divisor) {
+            return (dividend + (divisor >> 1)) / divisor; // Common case in one division
+        }
+
+        long quotient = dividend / divisor;
+        long remainder = dividend - quotient * divisor;
+        if (remainder == 0) return quotient;
+
+        long step = (dividend ^ divisor) < 0 ? -1 : 1; // Direction away from zero
+        long absRemainder = Math.abs(remainder);
+        long rest = Math.abs(divisor) - absRemainder;
+        switch (mode) {
+            case DOWN: return quotient;
+            case UP: return quotient + step;
+            case FLOOR: return step < 0 ? quotient - 1 : quotient;
+            case CEILING: return step > 0 ? quotient + 1 : quotient;
+            case HALF_UP: return absRemainder >= rest ? quotient + step : quotient;
+            case HALF_DOWN: return absRemainder > rest ? quotient + step : quotient;
+            case HALF_EVEN:
+                if (absRemainder != rest) return absRemainder > rest ? quotient + step : quotient;
+                return (quotient & 1) == 0 ? quotient : quotient + step;
+            default: throw new ArithmeticException("Rounding necessary for " + dividend + " / " + divisor);
+        }
+    }
+
+    /**
+     * Formats centavos as pesos with two decimals, e.g. {@code -1234.05}.
+     * @param centavos Amount in centavos
+     * @return Formatted amount
+     */
+    public static String format(long centavos) {
+        long whole = Math.abs(centavos / CENTAVOS_PER_PESO);
+        long fraction = Math.abs(centavos % CENTAVOS_PER_PESO);
+        return (centavos < 0 ? "-" : "") + whole + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
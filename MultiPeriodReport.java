@@ -0,0 +1,210 @@
+package service;
+
+import model.PayrollRollup;
+import utils.Money;
+import com.opencsv.CSVWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * MultiPeriodReport holds the simulation of the same scenarios over several pay periods: one
+ * {@link SimulationReport} per period, and each scenario's totals over all periods. Scenarios are
+ * compared with the baseline within each period and over all periods, and each period with the
+ * one before it. Amounts are in centavos; employee counts over all periods count every employee
+ * once per period.
+ */
+public class MultiPeriodReport {
+    private static final String[] CSV_HEADER = {
+        "Scenario", "Period", "Employees", "Gross Salary", "Total Deductions", "Net Salary", "Net Delta",
+        "Change From Previous Period"
+    };
+    private static final String ALL_PERIODS = "All periods";
+
+    private final List<String> periods;
+    private final List<SimulationReport> reports;
+    private final List<PayrollScenario> scenarios;
+    private final List<PayrollRollup> totals;
+    private final long wallTimeNanos;
+
+    /**
+     * Constructor for MultiPeriodReport class.
+     * @param periods Name of each pay period, in order
+     * @param reports Simulation of each period, aligned with the names
+     * @param wallTimeNanos Elapsed wall time of the whole simulation in nanoseconds
+     */
+    MultiPeriodReport(List<String> periods, List<SimulationReport> reports, long wallTimeNanos) {
+        this.periods = Collections.unmodifiableList(new ArrayList<>(periods));
+        this.reports = Collections.unmodifiableList(reports);
+        this.wallTimeNanos = wallTimeNanos;
+
+        SimulationReport first = reports.get(0);
+        List<PayrollScenario> scenarios = new ArrayList<>();
+        scenarios.add(first.getBaseline().getScenario());
+        for (ScenarioResult result : first.getScenarios()) scenarios.add(result.getScenario());
+        this.scenarios = Collections.unmodifiableList(scenarios);
+
+        List<PayrollRollup> totals = new ArrayList<>(scenarios.size());
+        for (int i = 0; i < scenarios.size(); i++) {
+            PayrollRollup total = new PayrollRollup(ALL_PERIODS);
+            for (SimulationReport report : reports) total.merge(resultOf(report, i).getTotal());
+            totals.add(total);
+        }
+        this.totals = Collections.unmodifiableList(totals);
+    }
+
+    public List<String> getPeriods() { return periods; }
+    public List<SimulationReport> getReports() { return reports; }
+    public long getWallTimeNanos() { return wallTimeNanos; }
+
+    /**
+     * Lists the simulated scenarios.
+     * @return The baseline followed by the other scenarios, in the order they were given
+     */
+    public List<PayrollScenario> getScenarios() { return scenarios; }
+
+    /**
+     * Gets the simulation of one pay period.
+     * @param period Index of the period
+     * @return Report comparing every scenario with the baseline in that period
+     */
+    public SimulationReport getReport(int period) {
+        return reports.get(period);
+    }
+
+    /**
+     * Totals a scenario over all periods.
+     * @param scenario The baseline or one of the simulated scenarios
+     * @return Rollup of the scenario over every period
+     */
+    public PayrollRollup getTotal(PayrollScenario scenario) {
+        return totals.get(indexOf(scenario));
+    }
+
+    /**
+     * Gets a scenario's totals in one period.
+     * @param scenario The baseline or one of the simulated scenarios
+     * @param period Index of the period
+     * @return Rollup of the scenario in that period
+     */
+    public PayrollRollup getTotal(PayrollScenario scenario, int period) {
+        return resultOf(reports.get(period), indexOf(scenario)).getTotal();
+    }
+
+    /**
+     * Calculates how much a scenario changes the total net pay over all periods.
+     * @param scenario One of the simulated scenarios
+     * @return Scenario net pay minus baseline net pay over every period, in centavos
+     */
+    public long getNetDelta(PayrollScenario scenario) {
+        return getTotal(scenario).getNetSalary() - totals.get(0).getNetSalary();
+    }
+
+    /**
+     * Calculates how much a scenario changes the total deductions over all periods.
+     * @param scenario One of the simulated scenarios
+     * @return Scenario deductions minus baseline deductions over every period, in centavos
+     */
+    public long getDeductionsDelta(PayrollScenario scenario) {
+        return getTotal(scenario).getTotalDeductions() - totals.get(0).getTotalDeductions();
+    }
+
+    /**
+     * Compares a scenario's net pay in one period with the period before it.
+     * @param scenario The baseline or one of the simulated scenarios
+     * @param period Index of the period
+     * @return Net pay of the period minus net pay of the previous period in centavos, 0 for the first period
+     */
+    public long getNetChange(PayrollScenario scenario, int period) {
+        if (period == 0) return 0;
+        return getTotal(scenario, period).getNetSalary() - getTotal(scenario, period - 1).getNetSalary();
+    }
+
+    /**
+     * Writes every scenario's totals per period and over all periods as CSV, with the net delta
+     * against the baseline and the net change from the previous period.
+     * @param out Destination of the CSV output
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Writer out) throws IOException {
+        CSVWriter writer = new CSVWriter(out);
+        writer.writeNext(CSV_HEADER);
+        for (PayrollScenario scenario : scenarios) {
+            for (int period = 0; period < periods.size(); period++) {
+                PayrollRollup total = getTotal(scenario, period);
+                PayrollRollup baseline = getTotal(scenarios.get(0), period);
+                writer.writeNext(toRow(scenario.getName(), periods.get(period), total,
+                    total.getNetSalary() - baseline.getNetSalary(), Money.format(getNetChange(scenario, period))));
+            }
+            writer.writeNext(toRow(scenario.getName(), ALL_PERIODS, getTotal(scenario), getNetDelta(scenario), ""));
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes every scenario's totals per period and over all periods to a CSV file.
+     * @param path Path of the CSV file to write
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Path path) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeCsv(out);
+        }
+    }
+
+    private static String[] toRow(String scenario, String period, PayrollRollup total, long netDelta, String netChange) {
+        return new String[]{
+            scenario, period, Long.toString(total.getEmployees()), Money.format(total.getGrossSalary()),
+            Money.format(total.getTotalDeductions()), Money.format(total.getNetSalary()), Money.format(netDelta), netChange
+        };
+    }
+
+    /**
+     * Displays the baseline over all periods and the change each scenario makes to it, period by period.
+     */
+    public void display() {
+        PayrollRollup total = totals.get(0);
+        System.out.println("\n📊 Multi-Period Payroll Simulation");
+        System.out.println("-------------------------------------------------");
+        System.out.printf("Baseline over %d periods: gross PHP %s, deductions PHP %s, net PHP %s%n", periods.size(),
+            Money.format(total.getGrossSalary()), Money.format(total.getTotalDeductions()), Money.format(total.getNetSalary()));
+        for (int period = 0; period < periods.size(); period++) {
+            System.out.printf("  %-30s net PHP %16s, change %16s%n", periods.get(period),
+                Money.format(getTotal(scenarios.get(0), period).getNetSalary()),
+                Money.format(getNetChange(scenarios.get(0), period)));
+        }
+        for (PayrollScenario scenario : scenarios.subList(1, scenarios.size())) {
+            long netDelta = getNetDelta(scenario);
+            StringBuilder byPeriod = new StringBuilder();
+            for (int period = 0; period < periods.size(); period++) {
+                long periodDelta = getTotal(scenario, period).getNetSalary()
+                    - getTotal(scenarios.get(0), period).getNetSalary();
+                byPeriod.append(period == 0 ? "" : " / ").append(Money.format(periodDelta));
+            }
+            System.out.printf("%-32s net %16s (%+.2f%%), deductions %15s, by period %s%n", scenario.getName(),
+                Money.format(netDelta), total.getNetSalary() == 0 ? 0.0 : 100.0 * netDelta / total.getNetSalary(),
+                Money.format(getDeductionsDelta(scenario)), byPeriod);
+        }
+        System.out.printf("Wall Time: %.3f s for %d scenarios over %d periods%n", wallTimeNanos / 1_000_000_000.0,
+            scenarios.size(), periods.size());
+        System.out.println("-------------------------------------------------\n");
+    }
+
+    private int indexOf(PayrollScenario scenario) {
+        for (int i = 0; i < scenarios.size(); i++) {
+            if (scenarios.get(i) == scenario) return i;
+        }
+        throw new IllegalArgumentException("Scenario was not simulated: " + scenario.getName());
+    }
+
+    private static ScenarioResult resultOf(SimulationReport report, int index) {
+        return index == 0 ? report.getBaseline() : report.getScenarios().get(index - 1);
+    }
+}
@@ -0,0 +1,110 @@
+package service;
+
+import model.Employee;
+import model.PayrollResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelPayrollEngine computes payroll for the whole roster across several cores.
+ * The roster is split into index ranges on a ForkJoinPool; every employee's result
+ * is written to its own roster position, so output matches a sequential run exactly.
+ */
+public class ParallelPayrollEngine implements AutoCloseable {
+    private static final int SEQUENTIAL_THRESHOLD = 1024; // Employees computed per leaf task
+    private final ForkJoinPool pool;
+    private final PayrollCalculator payrollCalculator;
+
+    /**
+     * Creates an engine that uses every available core.
+     */
+    public ParallelPayrollEngine() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an engine with a fixed parallelism level.
+     * @param parallelism Number of worker threads to use
+     */
+    public ParallelPayrollEngine(int parallelism) {
+        this(parallelism, new PayrollCalculator());
+    }
+
+    /**
+     * Creates an engine with a fixed parallelism level and calculator, e.g. one for a past pay period.
+     * @param parallelism Number of worker threads to use
+     * @param payrollCalculator Calculator shared by every worker
+     */
+    public ParallelPayrollEngine(int parallelism, PayrollCalculator payrollCalculator) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.payrollCalculator = payrollCalculator;
+    }
+
+    /**
+     * Retrieves the configured parallelism level.
+     * @return Number of worker threads
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Computes gross pay, SSS, PhilHealth, Pag-IBIG, tax and net pay for every employee.
+     * @param employees Roster to compute payroll for
+     * @param hoursWorked Hours worked per employee, aligned with the roster
+     * @return Computed payroll in roster order
+     */
+    public PayrollRun computePayroll(List<Employee> employees, double[] hoursWorked) {
+        if (hoursWorked.length != employees.size()) {
+            throw new IllegalArgumentException("Hours worked (" + hoursWorked.length
+                + ") does not match roster size (" + employees.size() + ")");
+        }
+        // Copy into an ArrayList so index access is O(1) whatever list was passed in
+        PayrollRun run = new PayrollRun(new ArrayList<>(employees), hoursWorked, payrollCalculator.getStandardMonthlyHours());
+        pool.invoke(new PayrollTask(run, 0, employees.size()));
+        return run;
+    }
+
+    /**
+     * Shuts down the worker pool.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Fork/join task that computes a contiguous range of roster positions.
+     */
+    @SuppressWarnings("serial") // Tasks only live inside the pool and are never serialized
+    private final class PayrollTask extends RecursiveAction {
+        private final PayrollRun run;
+        private final int from;
+        private final int to;
+
+        PayrollTask(PayrollRun run, int from, int to) {
+            this.run = run;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                PayrollResult scratch = new PayrollResult();
+                for (int i = from; i < to; i++) {
+                    run.compute(payrollCalculator, i, scratch);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PayrollTask(run, from, mid), new PayrollTask(run, mid, to));
+        }
+    }
+}
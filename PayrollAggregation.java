@@ -0,0 +1,142 @@
+package service;
+
+import model.PayrollRollup;
+import utils.Money;
+import com.opencsv.CSVWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * PayrollAggregation holds the payroll cost rollups of one run, per position, employment status
+ * and supervisor, plus the grand total. Groups are sorted by name and every dimension adds up to
+ * the same grand total.
+ */
+public class PayrollAggregation {
+    private static final String[] CSV_HEADER = {
+        "Dimension", "Group", "Employees", "Gross Salary", "Total Allowances", "SSS", "PhilHealth", "Pag-IBIG",
+        "Withholding Tax", "Total Deductions", "Net Salary"
+    };
+
+    /**
+     * Employee attribute a rollup is grouped by.
+     */
+    public enum Dimension {
+        POSITION("Position"),
+        EMPLOYMENT_STATUS("Employment Status"),
+        SUPERVISOR("Supervisor");
+
+        private final String label;
+
+        Dimension(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final Map<String, PayrollRollup> byPosition;
+    private final Map<String, PayrollRollup> byEmploymentStatus;
+    private final Map<String, PayrollRollup> bySupervisor;
+    private final PayrollRollup total;
+    private final long wallTimeNanos;
+
+    /**
+     * Constructor for PayrollAggregation class.
+     * @param byPosition Rollups by position, sorted by name
+     * @param byEmploymentStatus Rollups by employment status, sorted by name
+     * @param bySupervisor Rollups by supervisor, sorted by name
+     * @param total Rollup of the whole roster
+     * @param wallTimeNanos Elapsed wall time of the aggregation in nanoseconds
+     */
+    PayrollAggregation(Map<String, PayrollRollup> byPosition, Map<String, PayrollRollup> byEmploymentStatus,
+                       Map<String, PayrollRollup> bySupervisor, PayrollRollup total, long wallTimeNanos) {
+        this.byPosition = Collections.unmodifiableMap(byPosition);
+        this.byEmploymentStatus = Collections.unmodifiableMap(byEmploymentStatus);
+        this.bySupervisor = Collections.unmodifiableMap(bySupervisor);
+        this.total = total;
+        this.wallTimeNanos = wallTimeNanos;
+    }
+
+    /**
+     * Retrieves the rollups of one dimension.
+     * @param dimension Attribute the employees are grouped by
+     * @return Read-only rollups by group name, sorted by name
+     */
+    public Map<String, PayrollRollup> getRollups(Dimension dimension) {
+        switch (dimension) {
+            case POSITION: return byPosition;
+            case EMPLOYMENT_STATUS: return byEmploymentStatus;
+            default: return bySupervisor;
+        }
+    }
+
+    public PayrollRollup getTotal() { return total; }
+    public long getWallTimeNanos() { return wallTimeNanos; }
+
+    /**
+     * Writes every rollup as CSV, one row per group of each dimension followed by the grand total.
+     * @param out Destination of the CSV output
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Writer out) throws IOException {
+        CSVWriter writer = new CSVWriter(out);
+        writer.writeNext(CSV_HEADER);
+        for (Dimension dimension : Dimension.values()) {
+            for (PayrollRollup rollup : getRollups(dimension).values()) {
+                writer.writeNext(toRow(dimension.getLabel(), rollup));
+            }
+        }
+        writer.writeNext(toRow("Total", total));
+        writer.flush();
+    }
+
+    /**
+     * Writes every rollup to a CSV file.
+     * @param path Path of the CSV file to write
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Path path) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeCsv(out);
+        }
+    }
+
+    private static String[] toRow(String dimension, PayrollRollup rollup) {
+        return new String[]{
+            dimension, rollup.getGroup(), Long.toString(rollup.getEmployees()), Money.format(rollup.getGrossSalary()),
+            Money.format(rollup.getTotalAllowances()), Money.format(rollup.getSss()), Money.format(rollup.getPhilHealth()),
+            Money.format(rollup.getPagIbig()), Money.format(rollup.getWithholdingTax()),
+            Money.format(rollup.getTotalDeductions()), Money.format(rollup.getNetSalary())
+        };
+    }
+
+    /**
+     * Displays the rollups by position and employment status and the grand total.
+     * Supervisor rollups are usually too many for the console; see {@link #writeCsv(Path)}.
+     */
+    public void display() {
+        System.out.println("\n📊 Payroll Cost Rollup");
+        System.out.println("-------------------------------------------------");
+        for (Dimension dimension : new Dimension[]{Dimension.POSITION, Dimension.EMPLOYMENT_STATUS}) {
+            System.out.println(dimension.getLabel() + ":");
+            for (PayrollRollup rollup : getRollups(dimension).values()) {
+                System.out.printf("  %-32s %,9d employees  net PHP %15s%n", rollup.getGroup(), rollup.getEmployees(),
+                    Money.format(rollup.getNetSalary()));
+            }
+        }
+        System.out.printf("Supervisors: %d%n", bySupervisor.size());
+        System.out.printf("Total: %,d employees, gross PHP %s, deductions PHP %s, net PHP %s%n", total.getEmployees(),
+            Money.format(total.getGrossSalary()), Money.format(total.getTotalDeductions()), Money.format(total.getNetSalary()));
+        System.out.printf("Wall Time: %.3f s%n", wallTimeNanos / 1_000_000_000.0);
+        System.out.println("-------------------------------------------------\n");
+    }
+}
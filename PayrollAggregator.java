@@ -0,0 +1,252 @@
+package service;
+
+import model.Employee;
+import model.EmployeeStore;
+import model.PayrollResult;
+import model.PayrollRollup;
+import utils.Money;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * PayrollAggregator computes payroll cost rollups per position, employment status and supervisor
+ * in one pass over the roster. The roster is split into index ranges on a ForkJoinPool; each range
+ * computes its employees' payroll once and adds it to its own partial rollups, and partials are
+ * merged pairwise as ranges complete, so workers never share a counter while accumulating.
+ * Employees with no position, employment status or supervisor are grouped under "(none)".
+ */
+public class PayrollAggregator implements AutoCloseable {
+    private static final int SEQUENTIAL_THRESHOLD = 16_384; // Employees per leaf task; large so few partials are merged
+    private static final String NO_GROUP = "(none)"; // Group of employees with no position, status or supervisor
+    private final ForkJoinPool pool;
+    private final PayrollCalculator payrollCalculator;
+
+    /**
+     * Creates an aggregator that uses every available core.
+     */
+    public PayrollAggregator() {
+        this(Runtime.getRuntime().availableProcessors(), new PayrollCalculator());
+    }
+
+    /**
+     * Creates an aggregator with a fixed parallelism level and calculator, e.g. one for a past pay period.
+     * @param parallelism Number of worker threads to use
+     * @param payrollCalculator Calculator shared by every worker
+     */
+    public PayrollAggregator(int parallelism, PayrollCalculator payrollCalculator) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.payrollCalculator = payrollCalculator;
+    }
+
+    /**
+     * Computes payroll for every employee and rolls it up per position, employment status and supervisor.
+     * @param employees Roster to compute payroll for
+     * @param hoursWorked Hours worked per employee, aligned with the roster
+     * @return Rollups of the run
+     */
+    public PayrollAggregation aggregate(List<Employee> employees, double[] hoursWorked) {
+        if (hoursWorked.length != employees.size()) {
+            throw new IllegalArgumentException("Hours worked (" + hoursWorked.length
+                + ") does not match roster size (" + employees.size() + ")");
+        }
+        return aggregate(new RollupTask(employees, null, hoursWorked, 0, employees.size()));
+    }
+
+    /**
+     * Computes payroll for every employee of a columnar store and rolls it up.
+     * Groups are told apart by the store's dictionary codes, so no strings are hashed or compared per employee.
+     * @param store Roster held in columns
+     * @param hoursWorked Hours worked per row of the store
+     * @return Rollups of the run
+     */
+    public PayrollAggregation aggregate(EmployeeStore store, double[] hoursWorked) {
+        if (hoursWorked.length != store.size()) {
+            throw new IllegalArgumentException("Hours worked (" + hoursWorked.length
+                + ") does not match roster size (" + store.size() + ")");
+        }
+        return aggregate(new RollupTask(null, store, hoursWorked, 0, store.size()));
+    }
+
+    private PayrollAggregation aggregate(RollupTask task) {
+        long start = System.nanoTime();
+        Partial partial = pool.invoke(task);
+        return new PayrollAggregation(new TreeMap<>(partial.byPosition), new TreeMap<>(partial.byEmploymentStatus),
+            new TreeMap<>(partial.bySupervisor), partial.total, System.nanoTime() - start);
+    }
+
+    /**
+     * Shuts down the worker pool.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private static String group(String name) {
+        return name == null || name.isEmpty() ? NO_GROUP : name;
+    }
+
+    /**
+     * One employee's payroll amounts rounded to the nearest centavo, added alike to every rollup.
+     */
+    private static final class Amounts {
+        long gross;
+        long allowances;
+        long sss;
+        long philHealth;
+        long pagIbig;
+        long tax;
+        long net;
+
+        Amounts set(PayrollResult result) {
+            gross = toCentavos(result.getGrossSalary());
+            allowances = toCentavos(result.getTotalAllowances());
+            sss = toCentavos(result.getSss());
+            philHealth = toCentavos(result.getPhilHealth());
+            pagIbig = toCentavos(result.getPagIbig());
+            tax = toCentavos(result.getWithholdingTax());
+            net = toCentavos(result.getNetSalary());
+            return this;
+        }
+
+        void addTo(PayrollRollup rollup) {
+            rollup.add(gross, allowances, sss, philHealth, pagIbig, tax, net);
+        }
+
+        private static long toCentavos(double pesos) {
+            return Math.round(pesos * Money.CENTAVOS_PER_PESO);
+        }
+    }
+
+    /**
+     * Rollups accumulated by one range of the roster.
+     */
+    private static final class Partial {
+        final Map<String, PayrollRollup> byPosition = new HashMap<>();
+        final Map<String, PayrollRollup> byEmploymentStatus = new HashMap<>();
+        final Map<String, PayrollRollup> bySupervisor = new HashMap<>();
+        final PayrollRollup total = new PayrollRollup("Total");
+
+        Partial merge(Partial other) {
+            mergeInto(byPosition, other.byPosition);
+            mergeInto(byEmploymentStatus, other.byEmploymentStatus);
+            mergeInto(bySupervisor, other.bySupervisor);
+            total.merge(other.total);
+            return this;
+        }
+
+        static PayrollRollup rollup(Map<String, PayrollRollup> rollups, String group) {
+            PayrollRollup rollup = rollups.get(group);
+            if (rollup == null) {
+                rollup = new PayrollRollup(group);
+                rollups.put(group, rollup);
+            }
+            return rollup;
+        }
+
+        private static void mergeInto(Map<String, PayrollRollup> into, Map<String, PayrollRollup> from) {
+            for (PayrollRollup rollup : from.values()) {
+                rollup(into, rollup.getGroup()).merge(rollup);
+            }
+        }
+    }
+
+    /**
+     * Fork/join task that rolls up a contiguous range of roster positions, from either a list or a store.
+     */
+    @SuppressWarnings("serial") // Tasks only live inside the pool and are never serialized
+    private final class RollupTask extends RecursiveTask<Partial> {
+        private final List<Employee> employees;
+        private final EmployeeStore store;
+        private final double[] hoursWorked;
+        private final int from;
+        private final int to;
+
+        RollupTask(List<Employee> employees, EmployeeStore store, double[] hoursWorked, int from, int to) {
+            this.employees = employees;
+            this.store = store;
+            this.hoursWorked = hoursWorked;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return employees != null ? rollUpList() : rollUpStore();
+            }
+            int mid = (from + to) >>> 1;
+            RollupTask right = new RollupTask(employees, store, hoursWorked, mid, to);
+            right.fork();
+            Partial left = new RollupTask(employees, store, hoursWorked, from, mid).compute();
+            return left.merge(right.join());
+        }
+
+        private Partial rollUpList() {
+            Partial partial = new Partial();
+            PayrollResult scratch = new PayrollResult();
+            Amounts amounts = new Amounts();
+            for (int i = from; i < to; i++) {
+                Employee employee = employees.get(i);
+                if (employee == null) continue; // Skip null entries
+                amounts.set(payrollCalculator.computePayroll(employee, hoursWorked[i], scratch));
+                amounts.addTo(Partial.rollup(partial.byPosition, group(employee.getPosition())));
+                amounts.addTo(Partial.rollup(partial.byEmploymentStatus, group(employee.getEmploymentStatus())));
+                amounts.addTo(Partial.rollup(partial.bySupervisor, group(employee.getSupervisor())));
+                amounts.addTo(partial.total);
+            }
+            return partial;
+        }
+
+        private Partial rollUpStore() {
+            PayrollRollup[] positions = new PayrollRollup[store.getDistinctPositions()];
+            PayrollRollup[] statuses = new PayrollRollup[store.getDistinctEmploymentStatuses()];
+            PayrollRollup[] supervisors = new PayrollRollup[store.getDistinctSupervisors()];
+            Partial partial = new Partial();
+            PayrollResult scratch = new PayrollResult();
+            Amounts amounts = new Amounts();
+            for (int i = from; i < to; i++) {
+                amounts.set(payrollCalculator.computePayroll(store.get(i), hoursWorked[i], scratch));
+                amounts.addTo(slot(positions, store.getPositionCode(i)));
+                amounts.addTo(slot(statuses, store.getEmploymentStatusCode(i)));
+                amounts.addTo(slot(supervisors, store.getSupervisorCode(i)));
+                amounts.addTo(partial.total);
+            }
+
+            // Name the groups once per range; merging then works the same as for lists
+            for (int code = 0; code < positions.length; code++) {
+                if (positions[code] != null) mergeNamed(partial.byPosition, group(store.decodePosition(code)), positions[code]);
+            }
+            for (int code = 0; code < statuses.length; code++) {
+                if (statuses[code] != null) mergeNamed(partial.byEmploymentStatus, group(store.decodeEmploymentStatus(code)), statuses[code]);
+            }
+            for (int code = 0; code < supervisors.length; code++) {
+                if (supervisors[code] != null) {
+                    mergeNamed(partial.bySupervisor, group(store.decodeSupervisor(code)), supervisors[code]);
+                }
+            }
+            return partial;
+        }
+
+        private PayrollRollup slot(PayrollRollup[] rollups, int code) {
+            PayrollRollup rollup = rollups[code];
+            if (rollup == null) {
+                rollup = new PayrollRollup(null);
+                rollups[code] = rollup;
+            }
+            return rollup;
+        }
+
+        private void mergeNamed(Map<String, PayrollRollup> into, String group, PayrollRollup rollup) {
+            Partial.rollup(into, group).merge(rollup);
+        }
+    }
+}
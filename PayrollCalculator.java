@@ -1,21 +1,121 @@
 package service;
 
+import model.DeductionBreakdown;
 import model.Employee;
-import utils.DeductionsCalculator;
+import model.EmployeeStore;
+import model.PayrollResult;
+import utils.DeductionCache;
+import utils.PayrollMetrics;
+import utils.RateRegistry;
+import utils.RateSet;
+
+import java.time.LocalDate;
 
 /**
  * PayrollCalculator class computes salary components, including deductions and allowances.
  * Follows modular and OOP practices for better maintainability.
+ * Deductions follow the rate set it was created with, so past pay periods can be recomputed.
+ * An optional deduction cache lets employees with the same gross salary share one breakdown.
  */
 public class PayrollCalculator {
+    public static final double DEFAULT_STANDARD_MONTHLY_HOURS = 168; // Standard work hours per month
+    private final RateSet rates;
+    private final double standardMonthlyHours;
+    private final DeductionCache deductionCache; // null when deductions are always computed
+    private final PayrollMetrics metrics = PayrollMetrics.getDefault();
+
+    /**
+     * Creates a calculator using the rate set in effect today.
+     */
+    public PayrollCalculator() {
+        this(RateRegistry.getDefault().getCurrent());
+    }
+
+    /**
+     * Creates a calculator using a specific rate set.
+     * @param rates Contribution and tax rules to apply
+     */
+    public PayrollCalculator(RateSet rates) {
+        this(rates, DEFAULT_STANDARD_MONTHLY_HOURS);
+    }
+
+    /**
+     * Creates a calculator using a specific rate set and standard month, e.g. for a what-if scenario.
+     * @param rates Contribution and tax rules to apply
+     * @param standardMonthlyHours Work hours in a standard month, which the basic salary pays for
+     */
+    public PayrollCalculator(RateSet rates, double standardMonthlyHours) {
+        this(rates, standardMonthlyHours, null);
+    }
+
+    /**
+     * Creates a calculator that looks deductions up in a cache before computing them.
+     * The calculator applies the rate set the cache was built for.
+     * @param deductionCache Cache of deduction breakdowns by gross salary
+     */
+    public PayrollCalculator(DeductionCache deductionCache) {
+        this(deductionCache, DEFAULT_STANDARD_MONTHLY_HOURS);
+    }
+
+    /**
+     * Creates a calculator that looks deductions up in a cache, with its own standard month.
+     * The cache is keyed by gross salary, so it serves any standard month.
+     * @param deductionCache Cache of deduction breakdowns by gross salary
+     * @param standardMonthlyHours Work hours in a standard month, which the basic salary pays for
+     */
+    public PayrollCalculator(DeductionCache deductionCache, double standardMonthlyHours) {
+        this(deductionCache.getRates(), standardMonthlyHours, deductionCache);
+    }
+
+    private PayrollCalculator(RateSet rates, double standardMonthlyHours, DeductionCache deductionCache) {
+        if (!(standardMonthlyHours > 0)) {
+            throw new IllegalArgumentException("Standard monthly hours must be positive: " + standardMonthlyHours);
+        }
+        this.rates = rates;
+        this.standardMonthlyHours = standardMonthlyHours;
+        this.deductionCache = deductionCache;
+    }
+
+    /**
+     * Creates a calculator using the rate set in effect on a pay period date.
+     * @param payDate Pay period date
+     * @return Calculator for that pay period
+     */
+    public static PayrollCalculator forPayDate(LocalDate payDate) {
+        return new PayrollCalculator(RateRegistry.getDefault().forDate(payDate));
+    }
+
+    /**
+     * Retrieves the rate set this calculator applies.
+     * @return Contribution and tax rules
+     */
+    public RateSet getRates() {
+        return rates;
+    }
+
+    /**
+     * Retrieves the work hours in a standard month, used to derive the hourly rate.
+     * @return Standard monthly hours
+     */
+    public double getStandardMonthlyHours() {
+        return standardMonthlyHours;
+    }
+
+    /**
+     * Retrieves the deduction cache of this calculator.
+     * @return Deduction cache, or null if deductions are always computed
+     */
+    public DeductionCache getDeductionCache() {
+        return deductionCache;
+    }
 
     /**
      * Computes the hourly rate based on the basic salary.
-     * @param employee Employee whose salary is being calculated
+     * @param basicSalary Monthly basic salary
      * @return Hourly rate as a double
      */
-    private double computeHourlyRate(Employee employee) {
-        return employee.getBasicSalary() / 168; // Standard work hours per month
+    public double computeHourlyRate(double basicSalary) {
+        return basicSalary / standardMonthlyHours;
     }
 
     /**
@@ -25,7 +125,17 @@ public class PayrollCalculator {
      * @return Gross salary as a double
      */
     public double computeGrossSalary(Employee employee, double hoursWorked) {
-        double hourlyRate = computeHourlyRate(employee);
+        return computeGrossSalary(employee.getBasicSalary(), hoursWorked);
+    }
+
+    /**
+     * Computes the gross salary of a basic salary for the hours worked.
+     * @param basicSalary Monthly basic salary
+     * @param hoursWorked Total hours worked
+     * @return Gross salary as a double
+     */
+    public double computeGrossSalary(double basicSalary, double hoursWorked) {
+        double hourlyRate = computeHourlyRate(basicSalary);
         return hourlyRate * hoursWorked;
     }
 
@@ -35,11 +145,15 @@ public class PayrollCalculator {
      * @return Total deductions as a double
      */
     public double computeDeductions(double grossSalary) {
-        double sss = DeductionsCalculator.calculateSSS(grossSalary);
-        double philHealth = DeductionsCalculator.calculatePhilHealth(grossSalary);
-        double pagIbig = DeductionsCalculator.calculatePagIbig(grossSalary);
+        if (deductionCache != null) {
+            return deductionCache.get(grossSalary).getTotalDeductions();
+        }
+
+        double sss = rates.calculateSSS(grossSalary);
+        double philHealth = rates.calculatePhilHealth(grossSalary);
+        double pagIbig = rates.calculatePagIbig(grossSalary);
         double taxableIncome = grossSalary - (sss + philHealth + pagIbig);
-        double tax = DeductionsCalculator.calculateTax(taxableIncome);
+        double tax = rates.calculateTax(taxableIncome);
 
         return sss + philHealth + pagIbig + tax;
     }
@@ -51,30 +165,167 @@ public class PayrollCalculator {
      * @return Net salary as a double
      */
     public double computeNetSalary(Employee employee, double hoursWorked) {
+        metrics.recordEmployeesComputed(1);
         double grossSalary = computeGrossSalary(employee, hoursWorked);
         double totalDeductions = computeDeductions(grossSalary);
         double totalAllowances = employee.getRiceSubsidy() + employee.getPhoneAllowance() + employee.getClothingAllowance();
         return grossSalary - totalDeductions + totalAllowances;
     }
 
+    /**
+     * Computes every payroll component for the employee in a single pass.
+     * @param employee Employee whose salary is being calculated
+     * @param hoursWorked Total hours worked by the employee
+     * @return Newly allocated payroll result
+     */
+    public PayrollResult computePayroll(Employee employee, double hoursWorked) {
+        return computePayroll(employee, hoursWorked, new PayrollResult());
+    }
+
+    /**
+     * Computes every payroll component for the employee in a single pass into an existing result.
+     * Batch runs pass the same result for every employee so the hot path does not allocate.
+     * @param employee Employee whose salary is being calculated
+     * @param hoursWorked Total hours worked by the employee
+     * @param result Result to fill
+     * @return The filled result
+     */
+    public PayrollResult computePayroll(Employee employee, double hoursWorked, PayrollResult result) {
+        metrics.recordEmployeesComputed(1);
+        if (metrics.shouldSample()) {
+            return computePayrollTimed(employee, hoursWorked, result);
+        }
+
+        double hourlyRate = computeHourlyRate(employee.getBasicSalary());
+        double totalAllowances = employee.getRiceSubsidy() + employee.getPhoneAllowance() + employee.getClothingAllowance();
+        return computePayroll(employee, hoursWorked, hourlyRate, hourlyRate * hoursWorked, totalAllowances, result);
+    }
+
+    /**
+     * Computes the deductions and net salary of an already known gross salary into a result.
+     * Shared with {@link PayrollSimulator}, which adjusts gross pay before deductions.
+     * @param employee Employee the payroll is for; may be null when only the amounts are needed
+     * @param hoursWorked Total hours worked
+     * @param hourlyRate Hourly rate the gross salary was computed from
+     * @param grossSalary Gross salary to deduct from
+     * @param totalAllowances Sum of rice subsidy, phone and clothing allowances
+     * @param result Result to fill
+     * @return The filled result
+     */
+    PayrollResult computePayroll(Employee employee, double hoursWorked, double hourlyRate, double grossSalary,
+                                 double totalAllowances, PayrollResult result) {
+        double sss;
+        double philHealth;
+        double pagIbig;
+        double tax;
+        if (deductionCache != null) {
+            DeductionBreakdown deductions = deductionCache.get(grossSalary);
+            sss = deductions.getSss();
+            philHealth = deductions.getPhilHealth();
+            pagIbig = deductions.getPagIbig();
+            tax = deductions.getWithholdingTax();
+        } else {
+            sss = rates.calculateSSS(grossSalary);
+            philHealth = rates.calculatePhilHealth(grossSalary);
+            pagIbig = rates.calculatePagIbig(grossSalary);
+            double taxableIncome = grossSalary - (sss + philHealth + pagIbig);
+            tax = rates.calculateTax(taxableIncome);
+        }
+        double netSalary = grossSalary - (sss + philHealth + pagIbig + tax) + totalAllowances;
+
+        return result.set(employee, hoursWorked, hourlyRate, grossSalary, sss, philHealth, pagIbig, tax, totalAllowances,
+            netSalary);
+    }
+
+    /**
+     * Same computation as {@link #computePayroll(Employee, double, PayrollResult)}, timing it into
+     * the metrics. Only a sample of computations take this path. With a deduction cache the whole
+     * computation goes through the cache like any other call and only its total latency is recorded;
+     * without one each deduction is timed as well.
+     */
+    private PayrollResult computePayrollTimed(Employee employee, double hoursWorked, PayrollResult result) {
+        long start = System.nanoTime();
+        if (deductionCache != null) {
+            double hourlyRate = computeHourlyRate(employee.getBasicSalary());
+            double totalAllowances = employee.getRiceSubsidy() + employee.getPhoneAllowance() + employee.getClothingAllowance();
+            computePayroll(employee, hoursWorked, hourlyRate, hourlyRate * hoursWorked, totalAllowances, result);
+            metrics.getComputeLatency().record(System.nanoTime() - start);
+            return result;
+        }
+        double hourlyRate = computeHourlyRate(employee.getBasicSalary());
+        double grossSalary = hourlyRate * hoursWorked;
+        long sssStart = System.nanoTime();
+        double sss = rates.calculateSSS(grossSalary);
+        long philHealthStart = System.nanoTime();
+        double philHealth = rates.calculatePhilHealth(grossSalary);
+        long pagIbigStart = System.nanoTime();
+        double pagIbig = rates.calculatePagIbig(grossSalary);
+        long taxStart = System.nanoTime();
+        double taxableIncome = grossSalary - (sss + philHealth + pagIbig);
+        double tax = rates.calculateTax(taxableIncome);
+        long taxEnd = System.nanoTime();
+        double totalAllowances = employee.getRiceSubsidy() + employee.getPhoneAllowance() + employee.getClothingAllowance();
+        double netSalary = grossSalary - (sss + philHealth + pagIbig + tax) + totalAllowances;
+        result.set(employee, hoursWorked, hourlyRate, grossSalary, sss, philHealth, pagIbig, tax, totalAllowances, netSalary);
+
+        metrics.getSssLatency().record(philHealthStart - sssStart);
+        metrics.getPhilHealthLatency().record(pagIbigStart - philHealthStart);
+        metrics.getPagIbigLatency().record(taxStart - pagIbigStart);
+        metrics.getTaxLatency().record(taxEnd - taxStart);
+        metrics.getComputeLatency().record(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Computes the net salary of every employee in a columnar store in one tight loop.
+     * Reads the salary and allowance columns directly, without creating Employee views.
+     * @param store Roster held in columns
+     * @param hoursWorked Hours worked per row of the store
+     * @param netSalaries Receives the net salary of each row
+     */
+    public void computeNetSalaries(EmployeeStore store, double[] hoursWorked, double[] netSalaries) {
+        int size = store.size();
+        if (hoursWorked.length < size || netSalaries.length < size) {
+            throw new IllegalArgumentException("Hours and net salary arrays must cover all " + size + " employees");
+        }
+        for (int i = 0; i < size; i++) {
+            double grossSalary = computeGrossSalary(store.getBasicSalary(i), hoursWorked[i]);
+            double totalDeductions;
+            if (deductionCache != null) {
+                totalDeductions = deductionCache.get(grossSalary).getTotalDeductions();
+            } else {
+                double sss = rates.calculateSSS(grossSalary);
+                double philHealth = rates.calculatePhilHealth(grossSalary);
+                double pagIbig = rates.calculatePagIbig(grossSalary);
+                double tax = rates.calculateTax(grossSalary - (sss + philHealth + pagIbig));
+                totalDeductions = sss + philHealth + pagIbig + tax;
+            }
+            netSalaries[i] = grossSalary - totalDeductions + store.getTotalAllowances(i);
+        }
+        metrics.recordEmployeesComputed(size);
+    }
+
     /**
      * Displays the payroll information for the employee.
      * @param employee Employee whose payroll information is being displayed
      * @param hoursWorked Total hours worked by the employee
      */
     public void displayPayroll(Employee employee, double hoursWorked) {
-        double grossSalary = computeGrossSalary(employee, hoursWorked);
-        double totalAllowances = employee.getRiceSubsidy() + employee.getPhoneAllowance() + employee.getClothingAllowance();
-        double totalDeductions = computeDeductions(grossSalary);
-        double netSalary = computeNetSalary(employee, hoursWorked);
+        displayPayroll(computePayroll(employee, hoursWorked));
+    }
 
+    /**
+     * Displays already computed payroll information.
+     * @param result Payroll result to display
+     */
+    public void displayPayroll(PayrollResult result) {
         // Display payroll information
-        System.out.println("\n💰 Payroll Summary for " + employee.getFullName());
+        System.out.println("\n💰 Payroll Summary for " + result.getEmployee().getFullName());
         System.out.println("-------------------------------------------------");
-        System.out.printf("Gross Salary: PHP %.2f%n", grossSalary);
-        System.out.printf("Total Allowances: PHP %.2f%n", totalAllowances);
-        System.out.printf("Total Deductions: PHP %.2f%n", totalDeductions);
-        System.out.printf("Net Salary: PHP %.2f%n", netSalary);
+        System.out.printf("Gross Salary: PHP %.2f%n", result.getGrossSalary());
+        System.out.printf("Total Allowances: PHP %.2f%n", result.getTotalAllowances());
+        System.out.printf("Total Deductions: PHP %.2f%n", result.getTotalDeductions());
+        System.out.printf("Net Salary: PHP %.2f%n", result.getNetSalary());
         System.out.println("-------------------------------------------------\n");
     }
 }
@@ -0,0 +1,504 @@
+package service;
+
+import model.Employee;
+import model.PayrollResult;
+import utils.PayrollMetrics;
+import utils.PayslipRenderer;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * PayrollHttpServer exposes payroll previews over HTTP using the JDK's built-in server.
+ * Every request runs on its own virtual thread and takes the current {@link Roster} of a
+ * {@link PayrollSystem} once: a reload builds the new roster off to the side and swaps it in,
+ * so requests never wait for a reload and each one sees a single roster throughout.
+ *
+ * Endpoints (amounts in pesos, two decimals):
+ * <ul>
+ *   <li>{@code GET /employees/{number}/payroll?hours=160} - payroll of one employee as JSON</li>
+ *   <li>{@code GET /employees/{number}/payslip?hours=160} - rendered payslip as text</li>
+ *   <li>{@code GET /payroll?hours=160[&position=..][&status=..][&supervisor=..]} - payroll of every
+ *       matching employee, streamed as one JSON document</li>
+ *   <li>{@code GET /roster} and {@code POST /roster/reload} - current roster generation, and reload</li>
+ *   <li>{@code GET /metrics} - the run metrics as JSON</li>
+ * </ul>
+ * Every response carries the roster generation it was computed from in {@code X-Roster-Generation}.
+ */
+public class PayrollHttpServer implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(PayrollHttpServer.class.getName());
+    public static final int DEFAULT_PORT = 8080;
+    private static final int STREAM_FLUSH_CHARS = 32 * 1024; // Bulk responses are written in chunks of about this size
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String TEXT = "text/plain; charset=utf-8";
+    private static final int STREAM_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final long STREAM_SLOT_WAIT_MILLIS = 5_000;      // Longest a bulk request waits for a free stream thread
+    private static final long STREAM_WRITE_TIMEOUT_MILLIS = 30_000; // Longest one write may block on a client that stopped reading
+    private static final long STREAM_POLL_MILLIS = 1_000;           // How often a waiting request checks its stream for a stall
+
+    private final PayrollSystem payrollSystem;
+    private final String employeeDataPath;
+    private final PayrollCalculator payrollCalculator;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorService streamExecutor = Executors.newFixedThreadPool(STREAM_THREADS,
+        Thread.ofPlatform().name("payroll-stream-", 1).daemon().factory());
+    private final Semaphore streamSlots = new Semaphore(STREAM_THREADS);
+    private final HttpServer server;
+
+    /**
+     * Creates a server for an employee master file. Call {@link #start()} to load it and listen.
+     * @param employeeDataPath Path to the CSV file containing employee data
+     * @param payrollCalculator Calculator used for every request
+     * @param port Port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public PayrollHttpServer(String employeeDataPath, PayrollCalculator payrollCalculator, int port) throws IOException {
+        this(new PayrollSystem(), employeeDataPath, payrollCalculator, port);
+    }
+
+    /**
+     * Creates a server over an existing payroll system, e.g. one whose file is also watched for changes.
+     * Call {@link #start()} to load the employee file and listen.
+     * @param payrollSystem System holding the roster requests are served from
+     * @param employeeDataPath Path to the CSV file containing employee data
+     * @param payrollCalculator Calculator used for every request
+     * @param port Port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public PayrollHttpServer(PayrollSystem payrollSystem, String employeeDataPath, PayrollCalculator payrollCalculator,
+                             int port) throws IOException {
+        this.payrollSystem = payrollSystem;
+        this.employeeDataPath = employeeDataPath;
+        this.payrollCalculator = payrollCalculator;
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Loads the roster and starts accepting requests.
+     * @throws IOException if the employee file cannot be read
+     */
+    public void start() throws IOException {
+        reload();
+        server.createContext("/employees/", this::handleEmployee);
+        server.createContext("/payroll", this::handleBulk);
+        server.createContext("/roster", this::handleRoster);
+        server.createContext("/metrics", this::handleMetrics);
+        server.start();
+        LOGGER.log(Level.INFO, "Payroll service listening on port {0}", getPort());
+    }
+
+    /**
+     * Retrieves the port the server listens on.
+     * @return Bound port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Retrieves the roster requests are currently served from.
+     * @return Current roster
+     */
+    public Roster getRoster() {
+        return payrollSystem.getRoster();
+    }
+
+    /**
+     * Reads the employee file again and publishes it as the next roster generation.
+     * Requests keep being served from the previous roster until the new one is swapped in.
+     * Employees are parsed onto the heap, so rewriting the file later cannot change a roster in use.
+     * @return The current roster after the reload
+     * @throws IOException if the employee file cannot be read; the current roster stays in place
+     */
+    public Roster reload() throws IOException {
+        payrollSystem.loadEmployeeDataStreamed(employeeDataPath);
+        Roster current = payrollSystem.getRoster();
+        LOGGER.log(Level.INFO, "Roster generation {0} published: {1} employees in {2} ms",
+            new Object[]{current.getGeneration(), current.size(), current.getLoadTimeNanos() / 1_000_000});
+        return current;
+    }
+
+    /**
+     * Stops accepting requests, lets in-flight requests finish briefly and releases the port.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.close();
+        streamExecutor.close();
+    }
+
+    /**
+     * Handles {@code /employees/{number}/payroll} and {@code /employees/{number}/payslip}.
+     */
+    private void handleEmployee(HttpExchange exchange) throws IOException {
+        Roster current = payrollSystem.getRoster();
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, current, 405, "Only GET is supported");
+                return;
+            }
+            String[] parts = exchange.getRequestURI().getPath().split("/");
+            if (parts.length != 4 || !("payroll".equals(parts[3]) || "payslip".equals(parts[3]))) {
+                sendError(exchange, current, 404, "Expected /employees/{number}/payroll or /employees/{number}/payslip");
+                return;
+            }
+            Double hours = parseHours(exchange, current);
+            if (hours == null) return;
+            Employee employee = current.findEmployee(parts[2]);
+            if (employee == null) {
+                sendError(exchange, current, 404, "No employee with number " + parts[2]);
+                return;
+            }
+
+            PayrollResult result = payrollCalculator.computePayroll(employee, hours);
+            StringBuilder body = new StringBuilder(parts[3].equals("payroll") ? 512 : 2048);
+            if (parts[3].equals("payroll")) {
+                appendResult(body, result);
+                send(exchange, current, 200, JSON, body);
+            } else {
+                long start = System.nanoTime();
+                PayslipRenderer.render(result, body);
+                PayrollMetrics.getDefault().recordPayslip(System.nanoTime() - start);
+                send(exchange, current, 200, TEXT, body);
+            }
+        } catch (IOException | RuntimeException e) {
+            fail(exchange, current, "Payroll", e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Handles {@code /payroll}: streams the payroll of every matching employee from one roster,
+     * without holding the whole response in memory. At most {@link #STREAM_THREADS} streams are
+     * written at once; a further bulk request waits up to {@link #STREAM_SLOT_WAIT_MILLIS} for a
+     * free stream and is then answered 503. A stream whose client stops reading for
+     * {@link #STREAM_WRITE_TIMEOUT_MILLIS} is abandoned, so stalled clients cannot hold the streams.
+     */
+    private void handleBulk(HttpExchange exchange) throws IOException {
+        Roster current = payrollSystem.getRoster();
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, current, 405, "Only GET is supported");
+                return;
+            }
+            Double hours = parseHours(exchange, current);
+            if (hours == null) return;
+            Map<String, String> query = parseQuery(exchange);
+            String position = query.get("position");
+            String status = query.get("status");
+            String supervisor = query.get("supervisor");
+            List<Employee> candidates = supervisor != null
+                ? current.getIndex().getDirectReports(supervisor)
+                : current.getEmployees();
+
+            if (!streamSlots.tryAcquire(STREAM_SLOT_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendError(exchange, current, 503, "Too many bulk payroll requests in progress, try again shortly");
+                return;
+            }
+            try {
+                // The JDK server writes to the socket while holding a monitor, which pins a virtual thread
+                // to its carrier for as long as a slow client takes to read; long streams run on their own threads
+                AtomicLong writeStarted = new AtomicLong(); // When the write in progress began, 0 between writes
+                Future<?> stream = streamExecutor.submit(() -> {
+                    streamResults(exchange, current, candidates, hours, position, status, writeStarted);
+                    return null;
+                });
+                awaitStream(stream, writeStarted);
+            } finally {
+                streamSlots.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            fail(exchange, current, "Bulk payroll", e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Waits for a bulk response to be written. If one write blocks for longer than
+     * {@link #STREAM_WRITE_TIMEOUT_MILLIS}, the stream thread is interrupted, which closes the
+     * connection under it, and the request fails.
+     * @param stream Task writing the response
+     * @param writeStarted When the task's write in progress began, 0 between writes
+     * @throws IOException if writing failed or the client stopped reading
+     * @throws InterruptedException if the request thread is interrupted; the stream is cancelled
+     */
+    private static void awaitStream(Future<?> stream, AtomicLong writeStarted) throws IOException, InterruptedException {
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(STREAM_WRITE_TIMEOUT_MILLIS);
+        try {
+            while (true) {
+                try {
+                    stream.get(STREAM_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (TimeoutException e) {
+                    long started = writeStarted.get();
+                    if (started != 0 && System.nanoTime() - started > timeoutNanos) {
+                        stream.cancel(true);
+                        throw new IOException("Client stopped reading for " + STREAM_WRITE_TIMEOUT_MILLIS / 1000
+                            + " s, bulk response abandoned");
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            stream.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the bulk response: results are rendered into a buffer that is written out whenever it fills.
+     * Each write to the client is timed through {@code writeStarted} so a stalled client can be detected.
+     */
+    private void streamResults(HttpExchange exchange, Roster current, List<Employee> candidates, double hours,
+                               String position, String status, AtomicLong writeStarted) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.getResponseHeaders().set("X-Roster-Generation", Long.toString(current.getGeneration()));
+        exchange.sendResponseHeaders(200, 0);
+        try (Writer out = new TimedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8),
+                 writeStarted)) {
+            StringBuilder buffer = new StringBuilder(STREAM_FLUSH_CHARS + 1024);
+            buffer.append("{\"generation\":").append(current.getGeneration()).append(",\"results\":[");
+            PayrollResult result = new PayrollResult();
+            int count = 0;
+            double totalNetSalary = 0;
+            for (Employee employee : candidates) {
+                if (position != null && !position.equals(employee.getPosition())) continue;
+                if (status != null && !status.equals(employee.getEmploymentStatus())) continue;
+                payrollCalculator.computePayroll(employee, hours, result);
+                if (count++ > 0) buffer.append(',');
+                appendResult(buffer, result);
+                totalNetSalary += result.getNetSalary();
+                if (buffer.length() >= STREAM_FLUSH_CHARS) {
+                    out.append(buffer);
+                    buffer.setLength(0);
+                }
+            }
+            buffer.append("],\"count\":").append(count).append(",\"totalNetSalary\":");
+            PayslipRenderer.appendFixed2(buffer, totalNetSalary, 1).append('}');
+            out.append(buffer);
+        }
+    }
+
+    /**
+     * Writer that records when each write to the client begins, and clears it once the write returns.
+     */
+    private static final class TimedWriter extends FilterWriter {
+        private final AtomicLong writeStarted;
+
+        TimedWriter(Writer out, AtomicLong writeStarted) {
+            super(out);
+            this.writeStarted = writeStarted;
+        }
+
+        @Override
+        public void write(String text, int offset, int length) throws IOException {
+            writeStarted.set(System.nanoTime());
+            try {
+                super.write(text, offset, length);
+            } finally {
+                writeStarted.set(0);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            writeStarted.set(System.nanoTime());
+            try {
+                super.close();
+            } finally {
+                writeStarted.set(0);
+            }
+        }
+    }
+
+    /**
+     * Handles {@code GET /roster} and {@code POST /roster/reload}.
+     */
+    private void handleRoster(HttpExchange exchange) throws IOException {
+        Roster current = payrollSystem.getRoster();
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            if ("/roster/reload".equals(path) && "POST".equals(method)) {
+                try {
+                    current = reload();
+                } catch (IOException e) {
+                    sendError(exchange, current, 500, "Reload failed, still serving generation "
+                        + current.getGeneration() + ": " + e.getMessage());
+                    return;
+                }
+            } else if (!"/roster".equals(path) || !"GET".equals(method)) {
+                sendError(exchange, current, 404, "Expected GET /roster or POST /roster/reload");
+                return;
+            }
+            StringBuilder body = new StringBuilder(128);
+            body.append("{\"generation\":").append(current.getGeneration())
+                .append(",\"employees\":").append(current.size())
+                .append(",\"loadMillis\":").append(current.getLoadTimeNanos() / 1_000_000).append('}');
+            send(exchange, current, 200, JSON, body);
+        } catch (IOException | RuntimeException e) {
+            fail(exchange, current, "Roster", e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Handles {@code GET /metrics}.
+     */
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        Roster current = payrollSystem.getRoster();
+        try {
+            exchange.getResponseHeaders().set("Content-Type", JSON);
+            exchange.getResponseHeaders().set("X-Roster-Generation", Long.toString(current.getGeneration()));
+            exchange.sendResponseHeaders(200, 0);
+            try (Writer out = new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8)) {
+                PayrollMetrics.getDefault().writeJson(out);
+            }
+        } catch (IOException | RuntimeException e) {
+            fail(exchange, current, "Metrics", e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Reads the required {@code hours} parameter, answering 400 when it is missing or invalid.
+     * @return Hours worked, or null if an error response was sent
+     */
+    private static Double parseHours(HttpExchange exchange, Roster current) throws IOException {
+        String value = parseQuery(exchange).get("hours");
+        try {
+            double hours = value == null ? Double.NaN : Double.parseDouble(value);
+            if (hours >= 0 && hours <= 744) return hours; // At most every hour of a 31-day month
+        } catch (NumberFormatException e) {
+            // Answered below
+        }
+        sendError(exchange, current, 400, "Query parameter hours must be a number from 0 to 744");
+        return null;
+    }
+
+    private static Map<String, String> parseQuery(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) return parameters;
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator <= 0) continue;
+            parameters.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    /**
+     * Appends one payroll result as a JSON object.
+     */
+    private static void appendResult(StringBuilder out, PayrollResult result) {
+        Employee employee = result.getEmployee();
+        out.append("{\"employeeNumber\":");
+        appendString(out, employee.getEmployeeNumber());
+        out.append(",\"name\":");
+        appendString(out, employee.getFullName());
+        out.append(",\"position\":");
+        appendString(out, employee.getPosition());
+        appendAmount(out, "hoursWorked", result.getHoursWorked());
+        appendAmount(out, "grossSalary", result.getGrossSalary());
+        appendAmount(out, "sss", result.getSss());
+        appendAmount(out, "philHealth", result.getPhilHealth());
+        appendAmount(out, "pagIbig", result.getPagIbig());
+        appendAmount(out, "withholdingTax", result.getWithholdingTax());
+        appendAmount(out, "totalDeductions", result.getTotalDeductions());
+        appendAmount(out, "totalAllowances", result.getTotalAllowances());
+        appendAmount(out, "netSalary", result.getNetSalary());
+        out.append('}');
+    }
+
+    private static void appendAmount(StringBuilder out, String name, double value) {
+        out.append(",\"").append(name).append("\":");
+        PayslipRenderer.appendFixed2(out, value, 1);
+    }
+
+    /**
+     * Appends a JSON string literal, escaping quotes, backslashes and control characters.
+     */
+    private static void appendString(StringBuilder out, String value) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append(String.format("\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Logs a failed request and, if no response has been started, answers 500 with a JSON error.
+     * Once the headers are out the status cannot change, and the client sees the response cut short.
+     */
+    private static void fail(HttpExchange exchange, Roster current, String request, Exception e) {
+        LOGGER.log(Level.WARNING, "⚠ {0} request failed: {1}", new Object[]{request, e.toString()});
+        if (exchange.getResponseCode() != -1) return;
+        try {
+            sendError(exchange, current, 500, request + " request failed: " + e.getMessage());
+        } catch (IOException | RuntimeException sendFailure) {
+            LOGGER.log(Level.FINE, "Could not send the error response: {0}", sendFailure.toString());
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, Roster current, int status, String message) throws IOException {
+        StringBuilder body = new StringBuilder(message.length() + 16).append("{\"error\":");
+        appendString(body, message);
+        send(exchange, current, status, JSON, body.append('}'));
+    }
+
+    private static void send(HttpExchange exchange, Roster current, int status, String contentType, CharSequence body)
+            throws IOException {
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("X-Roster-Generation", Long.toString(current.getGeneration()));
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
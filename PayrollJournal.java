@@ -0,0 +1,417 @@
+package service;
+
+import model.PayrollResult;
+import utils.Money;
+import com.opencsv.CSVWriter;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * PayrollJournal is an append-only write-ahead journal of one pay period's payroll run.
+ * Every computed result is appended, followed by a marker once the employee's payslip is
+ * issued. Records are buffered in memory and written and forced to disk together by
+ * {@link #sync()}, so the cost of an fsync is shared by a whole batch of employees.
+ * <p>
+ * Each record carries its own length and CRC32. When a journal is reopened after a crash,
+ * records are replayed up to the first torn or corrupt one and the file is cut back there,
+ * so a restarted run knows exactly which payslips were issued and skips those employees.
+ * Each marker also records how long the batched payslip file was once that payslip was written,
+ * so a restarted run can cut the file back to the payslips the journal vouches for.
+ * Once the run is complete, {@link #compact(Path)} writes the period ledger.
+ * A journal is not thread-safe.
+ */
+public class PayrollJournal implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(PayrollJournal.class.getName());
+    private static final int MAGIC = 0x4D50484A; // "MPHJ"
+    private static final int FORMAT_VERSION = 1;
+    private static final byte RESULT = 1;
+    private static final byte PAYSLIP_ISSUED = 2;
+    private static final int MAX_RECORD_BYTES = 1 << 16; // A longer length can only come from a torn write
+    private static final String[] LEDGER_HEADER = {
+        "Employee #", "Employee Name", "Hours Worked", "Gross Salary", "Total Allowances", "SSS", "PhilHealth",
+        "Pag-IBIG", "Withholding Tax", "Total Deductions", "Net Salary"
+    };
+
+    private final Path path;
+    private final String period;
+    private final FileChannel channel;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final RecordBuffer record = new RecordBuffer();
+    private final DataOutputStream recordOut = new DataOutputStream(record);
+    private final RecordBuffer pending = new RecordBuffer();
+    private final DataOutputStream pendingOut = new DataOutputStream(pending);
+    private final CRC32 crc = new CRC32();
+    private int issued;
+    private long payslipFileLength;
+    private int pendingRecords;
+    private long recordsWritten;
+    private long bytesWritten;
+    private long syncs;
+    private long syncNanos;
+
+    private PayrollJournal(Path path, String period, FileChannel channel) {
+        this.path = path;
+        this.period = period;
+        this.channel = channel;
+    }
+
+    /**
+     * Opens the journal of a pay period, creating it if missing.
+     * An existing journal is replayed, and a torn or corrupt tail left by a crash is cut off.
+     * @param path Path of the journal file
+     * @param period Pay period the journal belongs to, e.g. {@code 2024-06}
+     * @return The opened journal, positioned at its end
+     * @throws IOException if the file cannot be read or written, or belongs to another pay period
+     */
+    public static PayrollJournal open(Path path, String period) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        PayrollJournal journal = new PayrollJournal(path, period, channel);
+        try {
+            journal.recover();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return journal;
+    }
+
+    /**
+     * Replays the records on disk, or writes the header of a new journal.
+     */
+    private void recover() throws IOException {
+        long size = channel.size();
+        long validEnd = 0;
+        if (size > 0) {
+            InputStream stream = Channels.newInputStream(channel.position(0));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(stream, 1 << 16));
+            validEnd = readHeader(in, size);
+            while (validEnd >= 0) {
+                long recordEnd = replayRecord(in, validEnd, size);
+                if (recordEnd < 0) break;
+                validEnd = recordEnd;
+            }
+            if (validEnd < 0) validEnd = 0; // Crashed while writing the header
+        }
+
+        if (validEnd < size) {
+            if (validEnd > 0) {
+                LOGGER.log(Level.WARNING, "⚠ Discarding {0} bytes of torn journal tail in {1}",
+                    new Object[]{size - validEnd, path});
+            }
+            channel.truncate(validEnd);
+        }
+        channel.position(validEnd);
+        if (validEnd == 0) {
+            pendingOut.writeInt(MAGIC);
+            pendingOut.writeInt(FORMAT_VERSION);
+            pendingOut.writeUTF(period);
+            sync();
+        }
+    }
+
+    /**
+     * Reads and checks the header.
+     * @return Offset of the first record, or -1 if the header is incomplete
+     */
+    private long readHeader(DataInputStream in, long size) throws IOException {
+        if (size < 10) return -1;
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException(path + " is not a payroll journal");
+        }
+        int periodLength = in.readUnsignedShort();
+        if (size < 10 + periodLength) return -1;
+        byte[] periodBytes = in.readNBytes(periodLength);
+        String journalPeriod = new String(periodBytes, StandardCharsets.UTF_8);
+        if (!journalPeriod.equals(period)) {
+            throw new IOException(path + " is the journal of pay period " + journalPeriod + ", not " + period);
+        }
+        return 10 + periodLength;
+    }
+
+    /**
+     * Reads one record starting at an offset and applies it.
+     * @return Offset just after the record, or -1 if the record is torn or corrupt
+     */
+    private long replayRecord(DataInputStream in, long offset, long size) throws IOException {
+        if (size - offset < 4) return -1;
+        int length = in.readInt();
+        if (length <= 0 || length > MAX_RECORD_BYTES || size - offset < 8L + length) return -1;
+        byte[] payload = in.readNBytes(length);
+        int checksum = in.readInt();
+        crc.reset();
+        crc.update(payload, 0, length);
+        if ((int) crc.getValue() != checksum) return -1;
+
+        DataInputStream fields = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = fields.readByte();
+        String employeeNumber = fields.readUTF();
+        if (type == RESULT) {
+            entries.put(employeeNumber, new Entry(fields.readUTF(), fields.readDouble(), fields.readDouble(),
+                fields.readDouble(), fields.readDouble(), fields.readDouble(), fields.readDouble(),
+                fields.readDouble(), fields.readDouble()));
+        } else if (type == PAYSLIP_ISSUED) {
+            markIssued(employeeNumber, fields.readLong());
+        } else {
+            return -1;
+        }
+        return offset + 8 + length;
+    }
+
+    /**
+     * Appends a computed result. The record is durable after the next {@link #sync()}.
+     * Appending a result for an employee whose payslip was not issued yet replaces the earlier result.
+     * @param result Computed payroll of one employee
+     * @throws IOException if the record cannot be encoded
+     * @throws IllegalStateException if the employee's payslip was already issued
+     */
+    public void appendResult(PayrollResult result) throws IOException {
+        String employeeNumber = result.getEmployee().getEmployeeNumber();
+        if (isIssued(employeeNumber)) {
+            throw new IllegalStateException("Payslip of employee " + employeeNumber + " was already issued");
+        }
+        record.reset();
+        recordOut.writeByte(RESULT);
+        recordOut.writeUTF(employeeNumber);
+        recordOut.writeUTF(result.getEmployee().getFullName());
+        recordOut.writeDouble(result.getHoursWorked());
+        recordOut.writeDouble(result.getGrossSalary());
+        recordOut.writeDouble(result.getSss());
+        recordOut.writeDouble(result.getPhilHealth());
+        recordOut.writeDouble(result.getPagIbig());
+        recordOut.writeDouble(result.getWithholdingTax());
+        recordOut.writeDouble(result.getTotalAllowances());
+        recordOut.writeDouble(result.getNetSalary());
+        appendRecord();
+        entries.put(employeeNumber, new Entry(result.getEmployee().getFullName(), result.getHoursWorked(),
+            result.getGrossSalary(), result.getSss(), result.getPhilHealth(), result.getPagIbig(),
+            result.getWithholdingTax(), result.getTotalAllowances(), result.getNetSalary()));
+    }
+
+    /**
+     * Appends the marker that an employee's payslip was issued.
+     * The payslip itself must already be written, and forced to disk before the next {@link #sync()},
+     * so a durable marker never names a payslip that does not exist.
+     * @param employeeNumber Employee whose payslip was issued
+     * @param payslipFileLength Length of the batched payslip file including this payslip, or 0 when
+     *                          payslips are not written to one file
+     * @throws IOException if the record cannot be encoded
+     * @throws IllegalStateException if no result was journaled for the employee
+     */
+    public void appendPayslipIssued(String employeeNumber, long payslipFileLength) throws IOException {
+        if (!entries.containsKey(employeeNumber)) {
+            throw new IllegalStateException("No journaled result for employee " + employeeNumber);
+        }
+        record.reset();
+        recordOut.writeByte(PAYSLIP_ISSUED);
+        recordOut.writeUTF(employeeNumber);
+        recordOut.writeLong(payslipFileLength);
+        appendRecord();
+        markIssued(employeeNumber, payslipFileLength);
+    }
+
+    /**
+     * Frames the encoded record with its length and checksum and adds it to the pending batch.
+     */
+    private void appendRecord() throws IOException {
+        crc.reset();
+        crc.update(record.array(), 0, record.size());
+        pendingOut.writeInt(record.size());
+        record.writeTo(pendingOut);
+        pendingOut.writeInt((int) crc.getValue());
+        pendingRecords++;
+    }
+
+    /**
+     * Writes every pending record and forces it to disk; afterwards the records survive a crash.
+     * @throws IOException if writing or forcing fails
+     */
+    public void sync() throws IOException {
+        if (pending.size() == 0) return;
+        long start = System.nanoTime();
+        ByteBuffer bytes = ByteBuffer.wrap(pending.array(), 0, pending.size());
+        while (bytes.hasRemaining()) channel.write(bytes);
+        channel.force(false);
+        syncNanos += System.nanoTime() - start;
+        syncs++;
+        bytesWritten += pending.size();
+        recordsWritten += pendingRecords;
+        pending.reset();
+        pendingRecords = 0;
+    }
+
+    private void markIssued(String employeeNumber, long fileLength) {
+        Entry entry = entries.get(employeeNumber);
+        if (entry != null && !entry.issued) {
+            entry.issued = true;
+            issued++;
+        }
+        payslipFileLength = Math.max(payslipFileLength, fileLength);
+    }
+
+    /**
+     * Checks whether an employee's payslip was issued, as recorded in the journal.
+     * @param employeeNumber Employee to check
+     * @return true if a payslip-issued marker was journaled for the employee
+     */
+    public boolean isIssued(String employeeNumber) {
+        Entry entry = entries.get(employeeNumber);
+        return entry != null && entry.issued;
+    }
+
+    public String getPeriod() { return period; }
+    public int getPayslipsIssued() { return issued; }
+    public long getPayslipFileLength() { return payslipFileLength; }
+    public int getPendingRecords() { return pendingRecords; }
+    public long getRecordsWritten() { return recordsWritten; }
+    public long getBytesWritten() { return bytesWritten; }
+    public long getSyncs() { return syncs; }
+    public long getSyncNanos() { return syncNanos; }
+
+    /**
+     * Compacts the journal into the final ledger of the pay period: one CSV row per employee
+     * whose payslip was issued, in journal order, followed by a total row summed in centavos.
+     * The ledger is written to a temporary file, forced to disk and moved into place, and the move
+     * is synced through the directory, so it is either complete or absent; once it is in place the
+     * journal may be deleted.
+     * @param ledgerPath Path of the ledger CSV to write
+     * @return Number of employees in the ledger
+     * @throws IOException if writing fails
+     */
+    public int compact(Path ledgerPath) throws IOException {
+        sync();
+        int notIssued = entries.size() - issued;
+        if (notIssued > 0) {
+            LOGGER.log(Level.WARNING, "⚠ {0} journaled results have no issued payslip and are left out of the ledger",
+                notIssued);
+        }
+
+        Path temp = ledgerPath.resolveSibling(ledgerPath.getFileName() + ".tmp");
+        long[] totals = new long[8];
+        try (FileChannel file = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             CSVWriter writer = new CSVWriter(new OutputStreamWriter(Channels.newOutputStream(file), StandardCharsets.UTF_8))) {
+            writer.writeNext(LEDGER_HEADER);
+            for (Map.Entry<String, Entry> item : entries.entrySet()) {
+                Entry entry = item.getValue();
+                if (!entry.issued) continue;
+                long[] amounts = {
+                    toCentavos(entry.grossSalary), toCentavos(entry.totalAllowances), toCentavos(entry.sss),
+                    toCentavos(entry.philHealth), toCentavos(entry.pagIbig), toCentavos(entry.withholdingTax), 0,
+                    toCentavos(entry.netSalary)
+                };
+                amounts[6] = amounts[2] + amounts[3] + amounts[4] + amounts[5];
+                for (int i = 0; i < totals.length; i++) totals[i] += amounts[i];
+                writer.writeNext(toRow(item.getKey(), entry.name, String.valueOf(entry.hoursWorked), amounts));
+            }
+            writer.writeNext(toRow("Total", issued + " employees", "", totals));
+            writer.flush();
+            file.force(true);
+        }
+        Files.move(temp, ledgerPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory(ledgerPath.toAbsolutePath().getParent());
+        return issued;
+    }
+
+    /**
+     * Forces a directory to disk, which makes a file moved into it durable where the platform allows it.
+     */
+    private static void syncDirectory(Path directory) throws IOException {
+        FileChannel directoryChannel;
+        try {
+            directoryChannel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return; // Some platforms, e.g. Windows, cannot open a directory to sync it
+        }
+        try (directoryChannel) {
+            directoryChannel.force(true);
+        }
+    }
+
+    private static String[] toRow(String employeeNumber, String name, String hours, long[] amounts) {
+        String[] row = new String[3 + amounts.length];
+        row[0] = employeeNumber;
+        row[1] = name;
+        row[2] = hours;
+        for (int i = 0; i < amounts.length; i++) row[3 + i] = Money.format(amounts[i]);
+        return row;
+    }
+
+    private static long toCentavos(double pesos) {
+        return Math.round(pesos * Money.CENTAVOS_PER_PESO);
+    }
+
+    /**
+     * Writes pending records to disk and closes the journal.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Last journaled result of one employee and whether the payslip was issued.
+     */
+    private static final class Entry {
+        final String name;
+        final double hoursWorked;
+        final double grossSalary;
+        final double sss;
+        final double philHealth;
+        final double pagIbig;
+        final double withholdingTax;
+        final double totalAllowances;
+        final double netSalary;
+        boolean issued;
+
+        Entry(String name, double hoursWorked, double grossSalary, double sss, double philHealth, double pagIbig,
+              double withholdingTax, double totalAllowances, double netSalary) {
+            this.name = name;
+            this.hoursWorked = hoursWorked;
+            this.grossSalary = grossSalary;
+            this.sss = sss;
+            this.philHealth = philHealth;
+            this.pagIbig = pagIbig;
+            this.withholdingTax = withholdingTax;
+            this.totalAllowances = totalAllowances;
+            this.netSalary = netSalary;
+        }
+    }
+
+    /**
+     * Byte buffer whose contents can be written out without copying.
+     */
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+        RecordBuffer() {
+            super(1 << 12);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package utils;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * PayrollMetrics collects counters and latency histograms for payroll runs.
+ * Counters are striped adders and deduction timings are sampled, so recording stays
+ * cheap enough to leave on in production. The metrics are published over JMX and can
+ * be written as a JSON report at the end of a run.
+ */
+public class PayrollMetrics implements DynamicMBean {
+    private static final Logger LOGGER = Logger.getLogger(PayrollMetrics.class.getName());
+    private static final PayrollMetrics DEFAULT = new PayrollMetrics();
+
+    /** JMX name the default instance is registered under. */
+    public static final String OBJECT_NAME = "motorph:type=PayrollMetrics";
+
+    /** One in this many payroll computations is timed step by step. */
+    public static final int SAMPLE_INTERVAL = 64;
+
+    private final Instant startedAt = Instant.now();
+
+    private final LongAdder employeesLoaded = new LongAdder();
+    private final LongAdder rowsRejected = new LongAdder();
+    private final LongAdder parseFallbacks = new LongAdder();
+    private final LongAdder timesheetRowsRejected = new LongAdder();
+    private final LongAdder employeesComputed = new LongAdder();
+    private final LongAdder payslipsWritten = new LongAdder();
+
+    private final LatencyHistogram loadLatency = new LatencyHistogram();
+    private final LatencyHistogram computeLatency = new LatencyHistogram();
+    private final LatencyHistogram sssLatency = new LatencyHistogram();
+    private final LatencyHistogram philHealthLatency = new LatencyHistogram();
+    private final LatencyHistogram pagIbigLatency = new LatencyHistogram();
+    private final LatencyHistogram taxLatency = new LatencyHistogram();
+    private final LatencyHistogram payslipLatency = new LatencyHistogram();
+
+    private final Map<String, LongAdder> counters = new LinkedHashMap<>();
+    private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+    private final Map<String, LongSupplier> attributes = new LinkedHashMap<>();
+    private final MBeanInfo mBeanInfo;
+
+    /**
+     * Creates an empty set of metrics. Most code records into {@link #getDefault()}.
+     */
+    public PayrollMetrics() {
+        counters.put("employeesLoaded", employeesLoaded);
+        counters.put("rowsRejected", rowsRejected);
+        counters.put("parseFallbacks", parseFallbacks);
+        counters.put("timesheetRowsRejected", timesheetRowsRejected);
+        counters.put("employeesComputed", employeesComputed);
+        counters.put("payslipsWritten", payslipsWritten);
+
+        latencies.put("load", loadLatency);
+        latencies.put("compute", computeLatency);
+        latencies.put("sss", sssLatency);
+        latencies.put("philHealth", philHealthLatency);
+        latencies.put("pagIbig", pagIbigLatency);
+        latencies.put("tax", taxLatency);
+        latencies.put("payslip", payslipLatency);
+
+        counters.forEach((name, counter) -> attributes.put(name, counter::sum));
+        latencies.forEach((name, histogram) -> {
+            attributes.put(name + "Count", histogram::getCount);
+            attributes.put(name + "MeanNanos", histogram::getMeanNanos);
+            attributes.put(name + "P50Nanos", () -> histogram.getPercentileNanos(50));
+            attributes.put(name + "P99Nanos", () -> histogram.getPercentileNanos(99));
+            attributes.put(name + "MaxNanos", histogram::getMaxNanos);
+        });
+
+        List<MBeanAttributeInfo> infos = new ArrayList<>();
+        for (String name : attributes.keySet()) {
+            infos.add(new MBeanAttributeInfo(name, "long", name, true, false, false));
+        }
+        mBeanInfo = new MBeanInfo(PayrollMetrics.class.getName(), "MotorPH payroll run metrics",
+            infos.toArray(new MBeanAttributeInfo[0]), null, null, null);
+    }
+
+    /**
+     * Retrieves the metrics shared by the whole application.
+     * @return Default metrics
+     */
+    public static PayrollMetrics getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Publishes these metrics on the platform MBean server under {@link #OBJECT_NAME}.
+     * Registering twice is harmless.
+     */
+    public void registerMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Already published
+        } catch (JMException e) {
+            LOGGER.log(Level.WARNING, "⚠ Could not publish payroll metrics over JMX: {0}", e.getMessage());
+        }
+    }
+
+    /**
+     * Records a completed load of the employee master file.
+     * @param employees Number of employees loaded
+     * @param nanos Time the load took
+     */
+    public void recordLoad(long employees, long nanos) {
+        employeesLoaded.add(employees);
+        loadLatency.record(nanos);
+    }
+
+    /**
+     * Records an employee row rejected for having too few columns.
+     */
+    public void recordRowRejected() {
+        rowsRejected.increment();
+    }
+
+    /**
+     * Records an amount that could not be parsed and was read as 0.0.
+     */
+    public void recordParseFallback() {
+        parseFallbacks.increment();
+    }
+
+    /**
+     * Records timesheet rows rejected during a batch run.
+     * @param rows Number of rejected rows
+     */
+    public void recordTimesheetRowsRejected(long rows) {
+        timesheetRowsRejected.add(rows);
+    }
+
+    /**
+     * Records computed payrolls.
+     * @param employees Number of employees computed
+     */
+    public void recordEmployeesComputed(long employees) {
+        employeesComputed.add(employees);
+    }
+
+    /**
+     * Records one payslip written.
+     * @param nanos Time spent producing and writing the payslip
+     */
+    public void recordPayslip(long nanos) {
+        payslipsWritten.increment();
+        payslipLatency.record(nanos);
+    }
+
+    /**
+     * Decides whether the current computation should be timed step by step.
+     * @return true for about one in {@link #SAMPLE_INTERVAL} calls
+     */
+    public boolean shouldSample() {
+        return ThreadLocalRandom.current().nextInt(SAMPLE_INTERVAL) == 0;
+    }
+
+    public LatencyHistogram getComputeLatency() { return computeLatency; }
+    public LatencyHistogram getSssLatency() { return sssLatency; }
+    public LatencyHistogram getPhilHealthLatency() { return philHealthLatency; }
+    public LatencyHistogram getPagIbigLatency() { return pagIbigLatency; }
+    public LatencyHistogram getTaxLatency() { return taxLatency; }
+
+    /**
+     * Retrieves the current value of every counter.
+     * @return Counter values by name, in a fixed order
+     */
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new LinkedHashMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Writes the metrics as JSON.
+     * @param out Destination of the report
+     * @throws IOException if writing fails
+     */
+    public void writeJson(Writer out) throws IOException {
+        out.write("{\n");
+        out.write("  \"startedAt\": \"" + startedAt + "\",\n");
+        out.write("  \"reportedAt\": \"" + Instant.now() + "\",\n");
+        out.write("  \"sampleInterval\": " + SAMPLE_INTERVAL + ",\n");
+        out.write("  \"counters\": {");
+        String separator = "\n";
+        for (Map.Entry<String, LongAdder> counter : counters.entrySet()) {
+            out.write(separator + "    \"" + counter.getKey() + "\": " + counter.getValue().sum());
+            separator = ",\n";
+        }
+        out.write("\n  },\n");
+        out.write("  \"latencies\": {");
+        separator = "\n";
+        for (Map.Entry<String, LatencyHistogram> latency : latencies.entrySet()) {
+            LatencyHistogram histogram = latency.getValue();
+            out.write(separator + "    \"" + latency.getKey() + "\": {\"count\": " + histogram.getCount()
+                + ", \"meanNanos\": " + histogram.getMeanNanos()
+                + ", \"p50Nanos\": " + histogram.getPercentileNanos(50)
+                + ", \"p90Nanos\": " + histogram.getPercentileNanos(90)
+                + ", \"p99Nanos\": " + histogram.getPercentileNanos(99)
+                + ", \"maxNanos\": " + histogram.getMaxNanos() + "}");
+            separator = ",\n";
+        }
+        out.write("\n  }\n");
+        out.write("}\n");
+    }
+
+    /**
+     * Writes the end-of-run JSON report to a file.
+     * @param path Path of the report
+     * @throws IOException if writing fails
+     */
+    public void writeReport(Path path) throws IOException {
+        try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeJson(out);
+        }
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        LongSupplier value = attributes.get(attribute);
+        if (value == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return value.getAsLong();
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] names) {
+        AttributeList list = new AttributeList();
+        for (String name : names) {
+            LongSupplier value = attributes.get(name);
+            if (value != null) list.add(new Attribute(name, value.getAsLong()));
+        }
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Payroll metrics are read-only: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        return mBeanInfo;
+    }
+}
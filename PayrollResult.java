@@ -0,0 +1,70 @@
+package model;
+
+/**
+ * PayrollResult holds every payroll component computed for one employee.
+ * It is computed once and then shared by displays, payslips and exporters,
+ * so deductions are never looked up twice for the same employee.
+ * A result may be refilled for another employee to avoid allocation in batch runs.
+ */
+public class PayrollResult {
+    private Employee employee;
+    private double hoursWorked;
+    private double hourlyRate;
+    private double grossSalary;
+    private double sss;
+    private double philHealth;
+    private double pagIbig;
+    private double withholdingTax;
+    private double totalAllowances;
+    private double netSalary;
+
+    /**
+     * Fills this result with the computed payroll components of an employee.
+     * @param employee Employee the payroll was computed for
+     * @param hoursWorked Total hours worked by the employee
+     * @param hourlyRate Hourly rate the gross salary was computed from
+     * @param grossSalary Gross salary based on hours worked
+     * @param sss SSS contribution
+     * @param philHealth PhilHealth contribution
+     * @param pagIbig Pag-IBIG contribution
+     * @param withholdingTax Withholding tax
+     * @param totalAllowances Sum of rice subsidy, phone and clothing allowances
+     * @param netSalary Net salary after deductions, including allowances
+     * @return This result, for chaining
+     */
+    public PayrollResult set(Employee employee, double hoursWorked, double hourlyRate, double grossSalary, double sss,
+                             double philHealth, double pagIbig, double withholdingTax, double totalAllowances,
+                             double netSalary) {
+        this.employee = employee;
+        this.hoursWorked = hoursWorked;
+        this.hourlyRate = hourlyRate;
+        this.grossSalary = grossSalary;
+        this.sss = sss;
+        this.philHealth = philHealth;
+        this.pagIbig = pagIbig;
+        this.withholdingTax = withholdingTax;
+        this.totalAllowances = totalAllowances;
+        this.netSalary = netSalary;
+        return this;
+    }
+
+    // Getter methods for all payroll components
+    public Employee getEmployee() { return employee; }
+    public double getHoursWorked() { return hoursWorked; }
+    public double getHourlyRate() { return hourlyRate; }
+    public double getGrossSalary() { return grossSalary; }
+    public double getSss() { return sss; }
+    public double getPhilHealth() { return philHealth; }
+    public double getPagIbig() { return pagIbig; }
+    public double getWithholdingTax() { return withholdingTax; }
+    public double getTotalAllowances() { return totalAllowances; }
+    public double getNetSalary() { return netSalary; }
+
+    /**
+     * Calculates the total of all mandatory deductions.
+     * @return Sum of SSS, PhilHealth, Pag-IBIG and withholding tax
+     */
+    public double getTotalDeductions() {
+        return sss + philHealth + pagIbig + withholdingTax;
+    }
+}
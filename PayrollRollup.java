@@ -0,0 +1,83 @@
+package model;
+
+/**
+ * PayrollRollup accumulates the payroll totals of a group of employees, such as everyone in one
+ * position. Amounts are summed in whole centavos, each employee's amount rounded once, so totals
+ * are exact and do not depend on the order in which partial rollups are merged.
+ * A rollup is not thread-safe; each worker accumulates its own and they are merged afterwards.
+ */
+public class PayrollRollup {
+    private final String group;
+    private long employees;
+    private long grossSalary;
+    private long totalAllowances;
+    private long sss;
+    private long philHealth;
+    private long pagIbig;
+    private long withholdingTax;
+    private long netSalary;
+
+    /**
+     * Creates an empty rollup.
+     * @param group Name of the group, e.g. the position
+     */
+    public PayrollRollup(String group) {
+        this.group = group;
+    }
+
+    /**
+     * Adds one employee's payroll, already rounded to centavos.
+     * @param grossSalary Gross salary in centavos
+     * @param totalAllowances Total allowances in centavos
+     * @param sss SSS contribution in centavos
+     * @param philHealth PhilHealth contribution in centavos
+     * @param pagIbig Pag-IBIG contribution in centavos
+     * @param withholdingTax Withholding tax in centavos
+     * @param netSalary Net salary in centavos
+     */
+    public void add(long grossSalary, long totalAllowances, long sss, long philHealth, long pagIbig,
+                    long withholdingTax, long netSalary) {
+        employees++;
+        this.grossSalary += grossSalary;
+        this.totalAllowances += totalAllowances;
+        this.sss += sss;
+        this.philHealth += philHealth;
+        this.pagIbig += pagIbig;
+        this.withholdingTax += withholdingTax;
+        this.netSalary += netSalary;
+    }
+
+    /**
+     * Adds the totals of another rollup of the same group into this one.
+     * @param other Rollup to merge in
+     */
+    public void merge(PayrollRollup other) {
+        employees += other.employees;
+        grossSalary += other.grossSalary;
+        totalAllowances += other.totalAllowances;
+        sss += other.sss;
+        philHealth += other.philHealth;
+        pagIbig += other.pagIbig;
+        withholdingTax += other.withholdingTax;
+        netSalary += other.netSalary;
+    }
+
+    // Getter methods for all totals, amounts in centavos
+    public String getGroup() { return group; }
+    public long getEmployees() { return employees; }
+    public long getGrossSalary() { return grossSalary; }
+    public long getTotalAllowances() { return totalAllowances; }
+    public long getSss() { return sss; }
+    public long getPhilHealth() { return philHealth; }
+    public long getPagIbig() { return pagIbig; }
+    public long getWithholdingTax() { return withholdingTax; }
+    public long getNetSalary() { return netSalary; }
+
+    /**
+     * Calculates the total of government contributions and tax.
+     * @return Sum of SSS, PhilHealth, Pag-IBIG and withholding tax in centavos
+     */
+    public long getTotalDeductions() {
+        return sss + philHealth + pagIbig + withholdingTax;
+    }
+}
@@ -0,0 +1,123 @@
+package service;
+
+import model.Employee;
+import model.PayrollResult;
+import com.opencsv.CSVWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * PayrollRun holds the computed payroll components for a whole roster.
+ * Components are stored in arrays indexed by roster position, so results
+ * always come back in roster order no matter how the work was split.
+ */
+public class PayrollRun {
+    private static final String[] CSV_HEADER = {
+        "Employee #", "Name", "Hours Worked", "Gross Salary", "SSS", "PhilHealth", "Pag-IBIG",
+        "Withholding Tax", "Total Allowances", "Net Salary"
+    };
+
+    private final List<Employee> employees;
+    private final double[] hoursWorked;
+    private final double standardMonthlyHours;
+    private final double[] grossSalary;
+    private final double[] sss;
+    private final double[] philHealth;
+    private final double[] pagIbig;
+    private final double[] withholdingTax;
+    private final double[] netSalary;
+
+    /**
+     * Constructor for PayrollRun class. Component arrays are sized to the roster.
+     * @param employees Roster the run was computed for
+     * @param hoursWorked Hours worked per employee, aligned with the roster
+     * @param standardMonthlyHours Standard month of the calculator computing the run, for hourly rates
+     */
+    PayrollRun(List<Employee> employees, double[] hoursWorked, double standardMonthlyHours) {
+        int size = employees.size();
+        this.employees = employees;
+        this.hoursWorked = hoursWorked;
+        this.standardMonthlyHours = standardMonthlyHours;
+        this.grossSalary = new double[size];
+        this.sss = new double[size];
+        this.philHealth = new double[size];
+        this.pagIbig = new double[size];
+        this.withholdingTax = new double[size];
+        this.netSalary = new double[size];
+    }
+
+    /**
+     * Computes and stores every payroll component for one roster position.
+     * @param calculator Calculator used for the payroll components
+     * @param index Roster position to compute
+     * @param scratch Reusable result buffer owned by the calling worker
+     */
+    void compute(PayrollCalculator calculator, int index, PayrollResult scratch) {
+        Employee employee = employees.get(index);
+        if (employee == null) return; // Skip null entries
+
+        calculator.computePayroll(employee, hoursWorked[index], scratch);
+        grossSalary[index] = scratch.getGrossSalary();
+        sss[index] = scratch.getSss();
+        philHealth[index] = scratch.getPhilHealth();
+        pagIbig[index] = scratch.getPagIbig();
+        withholdingTax[index] = scratch.getWithholdingTax();
+        netSalary[index] = scratch.getNetSalary();
+    }
+
+    /**
+     * Copies the payroll components of one roster position into a result.
+     * @param index Roster position to read
+     * @param into Result to fill
+     * @return The filled result
+     */
+    public PayrollResult getResult(int index, PayrollResult into) {
+        Employee employee = employees.get(index);
+        double totalAllowances = employee.getRiceSubsidy() + employee.getPhoneAllowance() + employee.getClothingAllowance();
+        return into.set(employee, hoursWorked[index], employee.getBasicSalary() / standardMonthlyHours, grossSalary[index],
+            sss[index], philHealth[index], pagIbig[index], withholdingTax[index], totalAllowances, netSalary[index]);
+    }
+
+    // Getter methods for each payroll component by roster position
+    public int size() { return employees.size(); }
+    public Employee getEmployee(int index) { return employees.get(index); }
+    public double getHoursWorked(int index) { return hoursWorked[index]; }
+    public double getGrossSalary(int index) { return grossSalary[index]; }
+    public double getSss(int index) { return sss[index]; }
+    public double getPhilHealth(int index) { return philHealth[index]; }
+    public double getPagIbig(int index) { return pagIbig[index]; }
+    public double getWithholdingTax(int index) { return withholdingTax[index]; }
+    public double getNetSalary(int index) { return netSalary[index]; }
+
+    /**
+     * Writes the run as CSV in roster order.
+     * @param out Destination of the CSV output
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Writer out) throws IOException {
+        CSVWriter writer = new CSVWriter(out);
+        writer.writeNext(CSV_HEADER);
+        for (int i = 0; i < employees.size(); i++) {
+            Employee emp = employees.get(i);
+            if (emp == null) continue;
+            double totalAllowances = emp.getRiceSubsidy() + emp.getPhoneAllowance() + emp.getClothingAllowance();
+            writer.writeNext(new String[]{
+                emp.getEmployeeNumber(), emp.getFullName(), formatAmount(hoursWorked[i]), formatAmount(grossSalary[i]),
+                formatAmount(sss[i]), formatAmount(philHealth[i]), formatAmount(pagIbig[i]),
+                formatAmount(withholdingTax[i]), formatAmount(totalAllowances), formatAmount(netSalary[i])
+            });
+        }
+        writer.flush();
+    }
+
+    /**
+     * Formats an amount with two decimal places for the CSV output.
+     * @param value The amount to format
+     * @return Formatted amount
+     */
+    private static String formatAmount(double value) {
+        return String.format("%.2f", value);
+    }
+}
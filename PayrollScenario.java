@@ -0,0 +1,117 @@
+package service;
+
+import utils.RateSet;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * PayrollScenario describes one what-if variant of a payroll run: the rate set, the standard
+ * monthly hours behind the hourly rate, and salary adjustments for everyone or per position.
+ * Scenarios are immutable and derived from a baseline one change at a time, e.g.
+ * {@code baseline.withPositionRaise("5% raise for HR", "HR Manager", 0.05)}. A retroactive
+ * scenario takes the rate set of a past pay date from the {@link utils.RateRegistry}.
+ */
+public class PayrollScenario {
+    private final String name;
+    private final RateSet rates;
+    private final double standardMonthlyHours;
+    private final double salaryFactor;
+    private final Map<String, Double> salaryFactorByPosition;
+
+    /**
+     * Constructor for PayrollScenario class.
+     * @param name Name of the scenario, shown in reports
+     * @param rates Contribution and tax rules of the scenario
+     * @param standardMonthlyHours Work hours in a standard month, which the basic salary pays for
+     * @param salaryFactor Factor applied to every basic salary, 1 for no change
+     * @param salaryFactorByPosition Further factor applied to the basic salary of each listed position
+     */
+    public PayrollScenario(String name, RateSet rates, double standardMonthlyHours, double salaryFactor,
+                           Map<String, Double> salaryFactorByPosition) {
+        if (!(standardMonthlyHours > 0)) {
+            throw new IllegalArgumentException("Standard monthly hours must be positive: " + standardMonthlyHours);
+        }
+        if (!(salaryFactor > 0)) {
+            throw new IllegalArgumentException("Salary factor must be positive: " + salaryFactor);
+        }
+        this.name = name;
+        this.rates = rates;
+        this.standardMonthlyHours = standardMonthlyHours;
+        this.salaryFactor = salaryFactor;
+        this.salaryFactorByPosition = Collections.unmodifiableMap(new HashMap<>(salaryFactorByPosition));
+    }
+
+    /**
+     * Creates the scenario that matches what a calculator computes today.
+     * @param payrollCalculator Calculator of the real payroll run
+     * @return The baseline scenario
+     */
+    public static PayrollScenario baseline(PayrollCalculator payrollCalculator) {
+        return new PayrollScenario("Baseline", payrollCalculator.getRates(), payrollCalculator.getStandardMonthlyHours(),
+            1.0, Collections.emptyMap());
+    }
+
+    /**
+     * Derives a scenario with another rate set, e.g. the next SSS schedule or a new PhilHealth rate.
+     * @param name Name of the new scenario
+     * @param rates Rate set to apply
+     * @return The new scenario
+     */
+    public PayrollScenario withRates(String name, RateSet rates) {
+        return new PayrollScenario(name, rates, standardMonthlyHours, salaryFactor, salaryFactorByPosition);
+    }
+
+    /**
+     * Derives a scenario with another standard month.
+     * @param name Name of the new scenario
+     * @param standardMonthlyHours Work hours in a standard month
+     * @return The new scenario
+     */
+    public PayrollScenario withStandardMonthlyHours(String name, double standardMonthlyHours) {
+        return new PayrollScenario(name, rates, standardMonthlyHours, salaryFactor, salaryFactorByPosition);
+    }
+
+    /**
+     * Derives a scenario in which every basic salary is raised.
+     * @param name Name of the new scenario
+     * @param raise Raise as a fraction, e.g. 0.05 for 5%
+     * @return The new scenario
+     */
+    public PayrollScenario withRaise(String name, double raise) {
+        return new PayrollScenario(name, rates, standardMonthlyHours, salaryFactor * (1 + raise), salaryFactorByPosition);
+    }
+
+    /**
+     * Derives a scenario in which the basic salary of one position is raised, on top of earlier raises.
+     * @param name Name of the new scenario
+     * @param position Position whose salaries are raised
+     * @param raise Raise as a fraction, e.g. 0.05 for 5%
+     * @return The new scenario
+     */
+    public PayrollScenario withPositionRaise(String name, String position, double raise) {
+        Map<String, Double> factors = new HashMap<>(salaryFactorByPosition);
+        factors.merge(position, 1 + raise, (a, b) -> a * b);
+        return new PayrollScenario(name, rates, standardMonthlyHours, salaryFactor, factors);
+    }
+
+    /**
+     * Retrieves the factor applied to the basic salary of a position.
+     * @param position Position of the employee
+     * @return Salary factor, 1 when the scenario does not change the salary
+     */
+    public double getSalaryFactor(String position) {
+        Double factor = salaryFactorByPosition.get(position);
+        return factor != null ? salaryFactor * factor : salaryFactor;
+    }
+
+    public String getName() { return name; }
+    public RateSet getRates() { return rates; }
+    public double getStandardMonthlyHours() { return standardMonthlyHours; }
+
+    @Override
+    public String toString() {
+        return "Scenario " + name + " (" + rates + ", " + standardMonthlyHours + " h/month)";
+    }
+}
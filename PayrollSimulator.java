@@ -0,0 +1,309 @@
+package service;
+
+import model.Employee;
+import model.EmployeeStore;
+import model.PayrollResult;
+import model.PayrollRollup;
+import utils.Money;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * PayrollSimulator runs what-if payroll scenarios over the roster in memory without touching
+ * real payroll runs. The roster is held once in a columnar {@link EmployeeStore} and shared
+ * read-only by every scenario. The baseline is computed first and keeps each employee's net
+ * pay; then all other scenarios are submitted together to a ForkJoinPool, each split into
+ * index ranges like {@link PayrollAggregator}, so scenarios and ranges run in parallel.
+ * Each scenario gets a {@link PayrollCalculator} with its rate set and standard monthly hours,
+ * and each employee goes through the same deduction code as a real run; the scenario's salary
+ * factor scales the gross pay before deductions. {@link #simulatePeriods} runs the same
+ * scenarios over several pay periods at once and totals them in a {@link MultiPeriodReport}.
+ */
+public class PayrollSimulator implements AutoCloseable {
+    private static final int SEQUENTIAL_THRESHOLD = 16_384; // Employees per leaf task
+    private static final String NO_POSITION = "(none)";      // Group of employees with no position, as in PayrollAggregator
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a simulator that uses every available core.
+     */
+    public PayrollSimulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a simulator with a fixed parallelism level.
+     * @param parallelism Number of worker threads to use
+     */
+    public PayrollSimulator(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Simulates scenarios over an employee list, which is copied into a columnar store once.
+     * @param employees Roster to simulate
+     * @param hoursWorked Hours worked per employee, aligned with the roster
+     * @param baseline Scenario the others are compared with
+     * @param scenarios Scenarios to simulate
+     * @return Report comparing every scenario with the baseline
+     */
+    public SimulationReport simulate(List<Employee> employees, double[] hoursWorked, PayrollScenario baseline,
+                                     List<PayrollScenario> scenarios) {
+        if (hoursWorked.length != employees.size()) {
+            throw new IllegalArgumentException("Hours worked (" + hoursWorked.length
+                + ") does not match roster size (" + employees.size() + ")");
+        }
+        if (employees.contains(null)) {
+            throw new IllegalArgumentException("Roster contains null employees");
+        }
+        return simulate(EmployeeStore.of(employees), hoursWorked, baseline, scenarios);
+    }
+
+    /**
+     * Simulates scenarios over a columnar store.
+     * @param store Roster held in columns
+     * @param hoursWorked Hours worked per row of the store
+     * @param baseline Scenario the others are compared with
+     * @param scenarios Scenarios to simulate
+     * @return Report comparing every scenario with the baseline
+     */
+    public SimulationReport simulate(EmployeeStore store, double[] hoursWorked, PayrollScenario baseline,
+                                     List<PayrollScenario> scenarios) {
+        return simulateAll(store, List.of(hoursWorked), baseline, scenarios).get(0);
+    }
+
+    /**
+     * Simulates scenarios over several pay periods of one columnar store, e.g. the months of a quarter.
+     * Every period of every scenario is computed in the same pool at once; the report holds each
+     * period's comparison with the baseline and the totals over all periods.
+     * @param store Roster held in columns
+     * @param periods Name of each pay period, in order
+     * @param hoursByPeriod Hours worked per row of the store in each period, aligned with the names
+     * @param baseline Scenario the others are compared with
+     * @param scenarios Scenarios to simulate
+     * @return Report comparing every scenario with the baseline, per period and over all periods
+     */
+    public MultiPeriodReport simulatePeriods(EmployeeStore store, List<String> periods, List<double[]> hoursByPeriod,
+                                             PayrollScenario baseline, List<PayrollScenario> scenarios) {
+        if (periods.size() != hoursByPeriod.size()) {
+            throw new IllegalArgumentException("Got " + periods.size() + " period names for " + hoursByPeriod.size()
+                + " periods of hours worked");
+        }
+        if (periods.isEmpty()) {
+            throw new IllegalArgumentException("At least one pay period is required");
+        }
+        long start = System.nanoTime();
+        List<SimulationReport> reports = simulateAll(store, hoursByPeriod, baseline, scenarios);
+        return new MultiPeriodReport(periods, reports, System.nanoTime() - start);
+    }
+
+    /**
+     * Computes the baseline of every period, then every other scenario of every period, each
+     * submitted to the pool together.
+     */
+    private List<SimulationReport> simulateAll(EmployeeStore store, List<double[]> hoursByPeriod, PayrollScenario baseline,
+                                               List<PayrollScenario> scenarios) {
+        for (double[] hoursWorked : hoursByPeriod) {
+            if (hoursWorked.length != store.size()) {
+                throw new IllegalArgumentException("Hours worked (" + hoursWorked.length
+                    + ") does not match roster size (" + store.size() + ")");
+            }
+        }
+        long start = System.nanoTime();
+        int periods = hoursByPeriod.size();
+        long[][] baselineNet = new long[periods][store.size()];
+        PayrollCalculator baselineCalculator = calculatorFor(baseline);
+        List<ForkJoinTask<Partial>> baselineTasks = new ArrayList<>(periods);
+        for (int period = 0; period < periods; period++) {
+            baselineTasks.add(pool.submit(new ScenarioTask(store, hoursByPeriod.get(period), baseline, baselineCalculator,
+                baselineNet[period], true, 0, store.size())));
+        }
+        List<ScenarioResult> baselineResults = new ArrayList<>(periods);
+        for (ForkJoinTask<Partial> task : baselineTasks) {
+            baselineResults.add(toResult(store, baseline, task.join()));
+        }
+
+        List<PayrollCalculator> calculators = new ArrayList<>(scenarios.size());
+        for (PayrollScenario scenario : scenarios) calculators.add(calculatorFor(scenario));
+        List<ForkJoinTask<Partial>> tasks = new ArrayList<>(periods * scenarios.size());
+        for (int period = 0; period < periods; period++) {
+            for (int i = 0; i < scenarios.size(); i++) {
+                tasks.add(pool.submit(new ScenarioTask(store, hoursByPeriod.get(period), scenarios.get(i), calculators.get(i),
+                    baselineNet[period], false, 0, store.size())));
+            }
+        }
+        List<List<ScenarioResult>> results = new ArrayList<>(periods);
+        for (int period = 0; period < periods; period++) {
+            List<ScenarioResult> periodResults = new ArrayList<>(scenarios.size());
+            for (int i = 0; i < scenarios.size(); i++) {
+                periodResults.add(toResult(store, scenarios.get(i), tasks.get(period * scenarios.size() + i).join()));
+            }
+            results.add(periodResults);
+        }
+
+        long wallTimeNanos = System.nanoTime() - start;
+        List<SimulationReport> reports = new ArrayList<>(periods);
+        for (int period = 0; period < periods; period++) {
+            reports.add(new SimulationReport(baselineResults.get(period), results.get(period), wallTimeNanos));
+        }
+        return reports;
+    }
+
+    private static PayrollCalculator calculatorFor(PayrollScenario scenario) {
+        return new PayrollCalculator(scenario.getRates(), scenario.getStandardMonthlyHours());
+    }
+
+    private static ScenarioResult toResult(EmployeeStore store, PayrollScenario scenario, Partial partial) {
+        Map<String, PayrollRollup> byPosition = new TreeMap<>();
+        for (int code = 0; code < partial.positions.length; code++) {
+            if (partial.positions[code] == null) continue;
+            String position = store.decodePosition(code);
+            PayrollRollup named = new PayrollRollup(position == null || position.isEmpty() ? NO_POSITION : position);
+            named.merge(partial.positions[code]);
+            byPosition.merge(named.getGroup(), named, (left, right) -> {
+                left.merge(right);
+                return left;
+            });
+        }
+        return new ScenarioResult(scenario, partial.total, byPosition, partial.employeesAffected,
+            partial.largestIncrease, partial.largestDecrease, partial.computeNanos);
+    }
+
+    /**
+     * Shuts down the worker pool.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Totals accumulated by one range of the roster for one scenario.
+     */
+    private static final class Partial {
+        final PayrollRollup[] positions;
+        final PayrollRollup total = new PayrollRollup("Total");
+        long employeesAffected;
+        long largestIncrease;
+        long largestDecrease;
+        long computeNanos;
+
+        Partial(int distinctPositions) {
+            positions = new PayrollRollup[distinctPositions];
+        }
+
+        PayrollRollup position(int code) {
+            PayrollRollup rollup = positions[code];
+            if (rollup == null) {
+                rollup = new PayrollRollup(null);
+                positions[code] = rollup;
+            }
+            return rollup;
+        }
+
+        Partial merge(Partial other) {
+            for (int code = 0; code < positions.length; code++) {
+                if (other.positions[code] != null) position(code).merge(other.positions[code]);
+            }
+            total.merge(other.total);
+            employeesAffected += other.employeesAffected;
+            largestIncrease = Math.max(largestIncrease, other.largestIncrease);
+            largestDecrease = Math.min(largestDecrease, other.largestDecrease);
+            computeNanos += other.computeNanos;
+            return this;
+        }
+    }
+
+    /**
+     * Fork/join task that computes one scenario over a contiguous range of the store.
+     */
+    @SuppressWarnings("serial") // Tasks only live inside the pool and are never serialized
+    private static final class ScenarioTask extends RecursiveTask<Partial> {
+        private final EmployeeStore store;
+        private final double[] hoursWorked;
+        private final PayrollScenario scenario;
+        private final PayrollCalculator calculator;
+        private final long[] baselineNet;
+        private final boolean isBaseline;
+        private final int from;
+        private final int to;
+
+        ScenarioTask(EmployeeStore store, double[] hoursWorked, PayrollScenario scenario, PayrollCalculator calculator,
+                     long[] baselineNet, boolean isBaseline, int from, int to) {
+            this.store = store;
+            this.hoursWorked = hoursWorked;
+            this.scenario = scenario;
+            this.calculator = calculator;
+            this.baselineNet = baselineNet;
+            this.isBaseline = isBaseline;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return computeRange();
+            }
+            int mid = (from + to) >>> 1;
+            ScenarioTask right = new ScenarioTask(store, hoursWorked, scenario, calculator, baselineNet, isBaseline, mid, to);
+            right.fork();
+            Partial left = new ScenarioTask(store, hoursWorked, scenario, calculator, baselineNet, isBaseline, from, mid).compute();
+            return left.merge(right.join());
+        }
+
+        private Partial computeRange() {
+            long start = System.nanoTime();
+            Partial partial = new Partial(store.getDistinctPositions());
+            PayrollResult result = new PayrollResult();
+            double[] salaryFactors = new double[store.getDistinctPositions()];
+            for (int code = 0; code < salaryFactors.length; code++) {
+                salaryFactors[code] = scenario.getSalaryFactor(store.decodePosition(code));
+            }
+
+            for (int i = from; i < to; i++) {
+                int position = store.getPositionCode(i);
+                double hourlyRate = calculator.computeHourlyRate(store.getBasicSalary(i));
+                double grossSalary = hourlyRate * hoursWorked[i] * salaryFactors[position];
+                calculator.computePayroll(null, hoursWorked[i], hourlyRate * salaryFactors[position], grossSalary,
+                    store.getTotalAllowances(i), result);
+
+                long net = toCentavos(result.getNetSalary());
+                long gross = toCentavos(result.getGrossSalary());
+                long allowances = toCentavos(result.getTotalAllowances());
+                long sss = toCentavos(result.getSss());
+                long philHealth = toCentavos(result.getPhilHealth());
+                long pagIbig = toCentavos(result.getPagIbig());
+                long tax = toCentavos(result.getWithholdingTax());
+                partial.position(position).add(gross, allowances, sss, philHealth, pagIbig, tax, net);
+                partial.total.add(gross, allowances, sss, philHealth, pagIbig, tax, net);
+
+                if (isBaseline) {
+                    baselineNet[i] = net;
+                } else {
+                    long delta = net - baselineNet[i];
+                    if (delta != 0) {
+                        partial.employeesAffected++;
+                        if (delta > partial.largestIncrease) partial.largestIncrease = delta;
+                        if (delta < partial.largestDecrease) partial.largestDecrease = delta;
+                    }
+                }
+            }
+            partial.computeNanos = System.nanoTime() - start;
+            return partial;
+        }
+
+        private static long toCentavos(double pesos) {
+            return Math.round(pesos * Money.CENTAVOS_PER_PESO);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package service;
 
 import model.Employee;
+import model.EmployeeStore;
+import model.PayrollResult;
+import utils.PayrollMetrics;
 import utils.PayslipGenerator;
 import utils.SSSCalculator;
 import utils.PhilHealthCalculator;
@@ -10,27 +13,51 @@ import com.opencsv.exceptions.CsvException;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
  * PayrollSystem class handles the loading, processing, and displaying of payroll data.
  * It leverages utility classes and follows good coding practices.
+ * Every load publishes a new immutable {@link Roster} that replaces the previous one in a single
+ * step, so a payroll run that took the roster before a reload keeps working on it unchanged.
  */
 public class PayrollSystem {
     private static final Logger LOGGER = Logger.getLogger(PayrollSystem.class.getName());
-    private final List<Employee> employees = new ArrayList<>();
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private final AtomicReference<Roster> roster = new AtomicReference<>(Roster.empty());
+    private final Object loadLock = new Object(); // Orders publications so generations increase one by one
     private final PayrollCalculator payrollCalculator = new PayrollCalculator();
 
     /**
-     * Loads employee data from a CSV file.
+     * Loads employee data from a CSV file, replacing the current roster.
      * @param filePath Path to the CSV file containing employee data
      * @throws IOException if file reading fails
      * @throws CsvException if CSV parsing fails
      */
     public void loadEmployeeData(String filePath) throws IOException, CsvException {
+        long start = System.nanoTime();
+        publish(readEmployeeData(filePath), start);
+        System.out.println("✅ Employee data loaded successfully.");
+    }
+
+    /**
+     * Parses every employee of a CSV file without publishing them.
+     * @param filePath Path to the CSV file containing employee data
+     * @return Parsed employees in file order
+     * @throws IOException if file reading fails
+     * @throws CsvException if CSV parsing fails
+     */
+    private List<Employee> readEmployeeData(String filePath) throws IOException, CsvException {
+        List<Employee> employees = new ArrayList<>();
         try (
             InputStreamReader fileReader = new InputStreamReader(new FileInputStream(filePath), StandardCharsets.UTF_8);
             CSVReader reader = new CSVReader(fileReader)
@@ -43,41 +70,12 @@ public class PayrollSystem {
                     continue;
                 }
 
-                if (line.length < 19) {
-                    LOGGER.log(Level.WARNING, "⚠ Invalid data format (Columns found: {0}): {1}", 
-                        new Object[]{line.length, String.join("|", line)});
-                    continue;
-                }
-
-                try {
-                    String employeeNumber = line[0].trim();
-                    String lastName = line[1].trim();
-                    String firstName = line[2].trim();
-                    String birthDate = line[3].trim();
-                    String address = line[4].trim();
-                    String contactNumber = line[5].trim();
-                    String tinNumber = line[6].trim();
-                    String sssNumber = line[7].trim();
-                    String philHealthNumber = line[8].trim();
-                    String pagIbigNumber = line[9].trim();
-                    String employmentStatus = line[10].trim();
-                    String position = line[11].trim();
-                    String supervisor = line[12].trim();
-
-                    double basicSalary = parseDouble(line[13].trim());
-                    double riceSubsidy = parseDouble(line[14].trim());
-                    double phoneAllowance = parseDouble(line[15].trim());
-                    double clothingAllowance = parseDouble(line[16].trim());
-
-                    employees.add(new Employee(employeeNumber, lastName, firstName, birthDate, address, contactNumber,
-                        tinNumber, sssNumber, philHealthNumber, pagIbigNumber, employmentStatus, position, supervisor,
-                        basicSalary, riceSubsidy, phoneAllowance, clothingAllowance));
-
-                } catch (NumberFormatException e) {
-                    LOGGER.log(Level.WARNING, "⚠ Error parsing numeric fields in line: {0}", String.join("|", line));
+                Employee employee = EmployeeRecordParser.parse(line);
+                if (employee != null) {
+                    employees.add(employee);
                 }
             }
-            System.out.println("✅ Employee data loaded successfully.");
+            return employees;
         } catch (IOException | CsvException e) {
             LOGGER.log(Level.SEVERE, "❌ Error loading employee data: {0}", e.getMessage());
             throw e;
@@ -85,32 +83,208 @@ public class PayrollSystem {
     }
 
     /**
-     * Parses a string to a double while handling formatting issues.
-     * @param value The string to parse
-     * @return Parsed double value or 0.0 if parsing fails
+     * Publishes freshly loaded employees as the next roster generation.
+     * @param employees Employees read by the load
+     * @param start When the load started, from {@link System#nanoTime()}
+     * @return The published roster
+     */
+    private Roster publish(List<Employee> employees, long start) {
+        synchronized (loadLock) {
+            Roster next = new Roster(employees, roster.get().getGeneration() + 1, System.nanoTime() - start);
+            roster.set(next);
+            PayrollMetrics.getDefault().recordLoad(next.size(), next.getLoadTimeNanos());
+            LOGGER.log(Level.FINE, "Roster generation {0} published: {1} employees loaded in {2} ms",
+                new Object[]{next.getGeneration(), next.size(), next.getLoadTimeNanos() / 1_000_000});
+            return next;
+        }
+    }
+
+    /**
+     * Loads employee data from a binary snapshot of the CSV file when one is up to date,
+     * and otherwise from the CSV file, writing a fresh snapshot for the next start.
+     * The loaded employees replace the current roster.
+     * The snapshot lives next to the CSV file and is rebuilt whenever the CSV file's size
+     * or modification time changes.
+     * @param filePath Path to the CSV file containing employee data
+     * @throws IOException if file reading fails
+     * @throws CsvException if CSV parsing fails
+     */
+    public void loadEmployeeDataCached(String filePath) throws IOException, CsvException {
+        long start = System.nanoTime();
+        Path source = Paths.get(filePath);
+        Path snapshot = source.resolveSibling(source.getFileName() + SNAPSHOT_SUFFIX);
+
+        List<Employee> cached = null;
+        try {
+            cached = RosterSnapshotFile.read(snapshot, source);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "⚠ Ignoring unreadable employee snapshot {0}: {1}", new Object[]{snapshot, e.getMessage()});
+        }
+        if (cached != null) {
+            publish(cached, start);
+            System.out.println("✅ Employee data loaded successfully.");
+            return;
+        }
+
+        // Stamp the snapshot with the attributes the file had before parsing; if the file changes
+        // meanwhile the snapshot is simply stale on the next start instead of wrongly trusted
+        BasicFileAttributes sourceAttributes = Files.readAttributes(source, BasicFileAttributes.class);
+        List<Employee> employees = readEmployeeData(filePath);
+        publish(employees, start);
+        System.out.println("✅ Employee data loaded successfully.");
+        try {
+            RosterSnapshotFile.write(snapshot, sourceAttributes, employees);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "⚠ Could not write employee snapshot {0}: {1}", new Object[]{snapshot, e.getMessage()});
+        }
+    }
+
+    /**
+     * Loads employee data from a CSV file through a memory-mapped view of the file.
+     * Amounts are parsed straight from bytes and text columns are decoded only when read,
+     * which makes this much cheaper than {@link #loadEmployeeData(String)} for large files.
+     * The loaded employees replace the current roster. They read the file for as long as they are
+     * in use, so the file must only ever be replaced, never rewritten in place; reload a file that
+     * may change with {@link #loadEmployeeDataStreamed(String)}.
+     * @param filePath Path to the CSV file containing employee data
+     * @throws IOException if file reading fails
      */
-    private double parseDouble(String value) {
+    public void loadEmployeeDataMapped(String filePath) throws IOException {
+        long start = System.nanoTime();
         try {
-            String cleanedValue = value.replace(",", "").trim();
-            return Double.parseDouble(cleanedValue);
-        } catch (NumberFormatException e) {
-            LOGGER.log(Level.WARNING, "⚠ Error parsing numeric value: {0}", value);
-            return 0.0;
+            publish(MappedEmployeeLoader.load(filePath), start);
+            System.out.println("✅ Employee data loaded successfully.");
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "❌ Error loading employee data: {0}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Loads employee data from a CSV file, parsing rows on every core, and replaces the current roster.
+     * Unlike {@link #loadEmployeeDataMapped(String)}, the employees own all their text, so the file
+     * can be changed as soon as the load returns; this is the load to use for reloading a live file.
+     * @param filePath Path to the CSV file containing employee data
+     * @throws IOException if file reading or parsing fails; the current roster stays in place
+     */
+    public void loadEmployeeDataStreamed(String filePath) throws IOException {
+        long start = System.nanoTime();
+        List<Employee> employees = new ArrayList<>();
+        try (Stream<Employee> rows = streamEmployeeData(filePath)) {
+            rows.forEach(employees::add);
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.log(Level.SEVERE, "❌ Error loading employee data: {0}", e.getMessage());
+            throw e instanceof UncheckedIOException ? ((UncheckedIOException) e).getCause() : (IOException) e;
+        }
+        publish(employees, start);
+        System.out.println("✅ Employee data loaded successfully.");
+    }
+
+    /**
+     * Loads employee data from a CSV file straight into a columnar store.
+     * Rows are streamed, so no per-employee objects are kept while loading.
+     * @param filePath Path to the CSV file containing employee data
+     * @return The filled store
+     * @throws IOException if the file cannot be opened
+     */
+    public EmployeeStore loadEmployeeStore(String filePath) throws IOException {
+        long start = System.nanoTime();
+        EmployeeStore store = new EmployeeStore();
+        try (Stream<Employee> rows = streamEmployeeData(filePath)) {
+            rows.forEach(store::add);
         }
+        store.trimToSize();
+        PayrollMetrics.getDefault().recordLoad(store.size(), System.nanoTime() - start);
+        return store;
+    }
+
+    /**
+     * Streams employee data from a CSV file without keeping the whole roster in memory.
+     * Rows are parsed in parallel and delivered in file order; close the stream when done.
+     * @param filePath Path to the CSV file containing employee data
+     * @return Stream of employees
+     * @throws IOException if the file cannot be opened
+     */
+    public Stream<Employee> streamEmployeeData(String filePath) throws IOException {
+        return EmployeeStreamLoader.stream(filePath);
+    }
+
+    /**
+     * Loads the payroll state saved by a previous run, for recomputing only what changed.
+     * Call {@link IncrementalPayroll#update} with this run's hours, then save the state for the next run.
+     * @param statePath Path of the state file; a missing file starts from an empty state
+     * @return The loaded state, bound to this system's calculator
+     * @throws IOException if the state file exists but cannot be read
+     */
+    public IncrementalPayroll loadIncrementalPayroll(String statePath) throws IOException {
+        return IncrementalPayroll.load(Paths.get(statePath), payrollCalculator);
+    }
+
+    /**
+     * Retrieves the current roster snapshot. Hold on to it for the length of a payroll run
+     * to keep working on the same employees even if a reload happens meanwhile.
+     * @return Current roster
+     */
+    public Roster getRoster() {
+        return roster.get();
     }
 
     /**
-     * Retrieves the list of employees.
-     * @return List of employees
+     * Retrieves the list of employees of the current roster.
+     * @return Read-only list of employees; later reloads do not change it
      */
     public List<Employee> getEmployees() {
-        return employees;
+        return roster.get().getEmployees();
+    }
+
+    /**
+     * Retrieves the lookup indexes over the loaded employees.
+     * @return Employee index of the current roster
+     */
+    public EmployeeIndex getIndex() {
+        return roster.get().getIndex();
+    }
+
+    /**
+     * Finds an employee by employee number.
+     * @param employeeNumber Employee's unique number
+     * @return The employee, or null if not found
+     */
+    public Employee findEmployee(String employeeNumber) {
+        return roster.get().findEmployee(employeeNumber);
+    }
+
+    /**
+     * Recomputes the payroll of a single employee without touching the rest of the roster.
+     * @param employeeNumber Employee's unique number
+     * @param hoursWorked Total hours worked by the employee
+     * @return Payroll result, or null if no employee has that number
+     */
+    public PayrollResult recomputeEmployee(String employeeNumber, double hoursWorked) {
+        Employee employee = roster.get().findEmployee(employeeNumber);
+        return employee == null ? null : payrollCalculator.computePayroll(employee, hoursWorked);
+    }
+
+    /**
+     * Recomputes the payroll of a supervisor's direct reports.
+     * @param supervisor Supervisor's name as written in the employee file (e.g., "Garcia, Manuel III")
+     * @param hoursWorked Total hours worked by each team member
+     * @return Payroll results of the team, empty if the supervisor has no direct reports
+     */
+    public List<PayrollResult> recomputeTeam(String supervisor, double hoursWorked) {
+        List<Employee> team = roster.get().getIndex().getDirectReports(supervisor);
+        List<PayrollResult> results = new ArrayList<>(team.size());
+        for (Employee employee : team) {
+            results.add(payrollCalculator.computePayroll(employee, hoursWorked));
+        }
+        return results;
     }
 
     /**
      * Displays the list of employees with basic salary information.
      */
     public void displayEmployees() {
+        List<Employee> employees = getEmployees();
         if (employees.isEmpty()) {
             System.out.println("⚠ No employee data found.");
             return;
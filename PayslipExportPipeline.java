@@ -0,0 +1,265 @@
+package service;
+
+import model.Employee;
+import model.PayrollResult;
+import utils.PayrollMetrics;
+import utils.PayslipRenderer;
+import utils.PayslipWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * PayslipExportPipeline exports payslips for a whole roster in three stages.
+ * One thread computes payroll results, a pool of renderers formats payslips, and a single
+ * writer appends them to a ZIP archive or a directory of per-employee files. The stages are
+ * joined by bounded queues, so a slow stage holds back the ones before it and memory stays
+ * flat no matter how large the roster is.
+ */
+public class PayslipExportPipeline {
+    private static final int DEFAULT_QUEUE_CAPACITY = 256;
+    private static final PayrollResult END_OF_RESULTS = new PayrollResult();
+    private static final RenderedPayslip END_OF_PAYSLIPS = new RenderedPayslip(null, null);
+
+    /**
+     * Output formats supported by the pipeline.
+     */
+    public enum Target {
+        /** One ZIP archive holding a text payslip per employee. */
+        ZIP,
+        /** A directory holding a text payslip file per employee. */
+        DIRECTORY
+    }
+
+    private final PayrollCalculator payrollCalculator;
+    private final int renderers;
+    private final int queueCapacity;
+
+    /**
+     * Creates a pipeline with one renderer per available core.
+     */
+    public PayslipExportPipeline() {
+        this(new PayrollCalculator(), Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Creates a pipeline with explicit sizing.
+     * @param payrollCalculator Calculator used for every employee
+     * @param renderers Number of renderer threads
+     * @param queueCapacity Capacity of each queue between stages
+     */
+    public PayslipExportPipeline(PayrollCalculator payrollCalculator, int renderers, int queueCapacity) {
+        if (renderers < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Renderers and queue capacity must be at least 1");
+        }
+        this.payrollCalculator = payrollCalculator;
+        this.renderers = renderers;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Computes, renders and writes the payslip of every employee.
+     * @param employees Roster to export
+     * @param hoursWorked Hours worked per employee, aligned with the roster
+     * @param target Path of the ZIP archive or directory to write
+     * @param format Whether to write a ZIP archive or a directory
+     * @return Stage timings of the export
+     * @throws IOException if writing fails or a stage fails
+     * @throws IllegalArgumentException if an employee number appears more than once in the roster or
+     *         cannot be used in a file name, see {@link PayslipWriter#fileName(String)}, since each
+     *         payslip is named after its employee number
+     */
+    public PayslipExportStats export(List<Employee> employees, double[] hoursWorked, Path target, Target format)
+            throws IOException {
+        if (hoursWorked.length != employees.size()) {
+            throw new IllegalArgumentException("Hours worked (" + hoursWorked.length
+                + ") does not match roster size (" + employees.size() + ")");
+        }
+        EmployeeIndex.requireUniqueEmployeeNumbers(employees);
+        for (Employee employee : employees) PayslipWriter.fileName(employee.getEmployeeNumber());
+        long start = System.nanoTime();
+        BlockingQueue<PayrollResult> results = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<RenderedPayslip> payslips = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicLong computeBusy = new AtomicLong();
+        AtomicLong computeWait = new AtomicLong();
+        AtomicLong renderBusy = new AtomicLong();
+        AtomicLong renderWait = new AtomicLong();
+        AtomicInteger renderersLeft = new AtomicInteger(renderers);
+
+        ExecutorService stages = Executors.newFixedThreadPool(renderers + 1, runnable -> {
+            Thread thread = new Thread(runnable, "payslip-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Future<?> compute = stages.submit(() -> {
+                computeStage(employees, hoursWorked, results, computeBusy, computeWait);
+                return null;
+            });
+            List<Future<?>> renderStages = new ArrayList<>(renderers);
+            for (int i = 0; i < renderers; i++) {
+                renderStages.add(stages.submit(() -> {
+                    renderStage(results, payslips, renderersLeft, renderBusy, renderWait);
+                    return null;
+                }));
+            }
+
+            long[] writeTimes = format == Target.ZIP ? writeZip(payslips, target) : writeDirectory(payslips, target);
+            // A failed renderer drops its payslip; once every renderer is gone nothing drains the
+            // results queue, so stop the compute stage instead of waiting on it
+            for (Future<?> renderStage : renderStages) {
+                try {
+                    renderStage.get();
+                } catch (ExecutionException e) {
+                    compute.cancel(true);
+                    throw e;
+                }
+            }
+            compute.get();
+            return new PayslipExportStats(writeTimes[2], renderers, System.nanoTime() - start,
+                computeBusy.get(), computeWait.get(), renderBusy.get(), renderWait.get(), writeTimes[0], writeTimes[1]);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Payslip export interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("❌ Payslip export failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            stages.shutdownNow();
+        }
+    }
+
+    /**
+     * Stage 1: computes payroll results in roster order.
+     */
+    private void computeStage(List<Employee> employees, double[] hoursWorked, BlockingQueue<PayrollResult> results,
+                              AtomicLong busy, AtomicLong wait) throws InterruptedException {
+        long busyNanos = 0;
+        long waitNanos = 0;
+        try {
+            for (int i = 0; i < employees.size(); i++) {
+                Employee employee = employees.get(i);
+                if (employee == null) continue; // Skip null entries
+
+                long t0 = System.nanoTime();
+                PayrollResult result = payrollCalculator.computePayroll(employee, hoursWorked[i]);
+                long t1 = System.nanoTime();
+                results.put(result);
+                busyNanos += t1 - t0;
+                waitNanos += System.nanoTime() - t1;
+            }
+        } finally {
+            // Always release the renderers, even when computing failed
+            for (int i = 0; i < renderers; i++) results.put(END_OF_RESULTS);
+            busy.set(busyNanos);
+            wait.set(waitNanos);
+        }
+    }
+
+    /**
+     * Stage 2: renders payslips into UTF-8 bytes.
+     */
+    private void renderStage(BlockingQueue<PayrollResult> results, BlockingQueue<RenderedPayslip> payslips,
+                             AtomicInteger renderersLeft, AtomicLong busy, AtomicLong wait) throws InterruptedException {
+        PayslipRenderer renderer = new PayslipRenderer();
+        long busyNanos = 0;
+        long waitNanos = 0;
+        try {
+            PayrollResult result;
+            while ((result = results.take()) != END_OF_RESULTS) {
+                long t0 = System.nanoTime();
+                byte[] bytes = renderer.render(result).toString().getBytes(StandardCharsets.UTF_8);
+                long t1 = System.nanoTime();
+                payslips.put(new RenderedPayslip(result.getEmployee().getEmployeeNumber(), bytes));
+                busyNanos += t1 - t0;
+                waitNanos += System.nanoTime() - t1;
+            }
+        } finally {
+            busy.addAndGet(busyNanos);
+            wait.addAndGet(waitNanos);
+            if (renderersLeft.decrementAndGet() == 0) payslips.put(END_OF_PAYSLIPS);
+        }
+    }
+
+    /**
+     * Stage 3: appends payslips to a ZIP archive.
+     * @return Busy nanos, wait nanos and payslip count
+     */
+    private static long[] writeZip(BlockingQueue<RenderedPayslip> payslips, Path target)
+            throws IOException, InterruptedException {
+        long busyNanos = 0;
+        long waitNanos = 0;
+        long count = 0;
+        PayrollMetrics metrics = PayrollMetrics.getDefault();
+        try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(target), 1 << 16);
+             ZipOutputStream zip = new ZipOutputStream(file)) {
+            while (true) {
+                long t0 = System.nanoTime();
+                RenderedPayslip payslip = payslips.take();
+                long t1 = System.nanoTime();
+                waitNanos += t1 - t0;
+                if (payslip == END_OF_PAYSLIPS) break;
+
+                zip.putNextEntry(new ZipEntry(PayslipWriter.fileName(payslip.employeeNumber)));
+                zip.write(payslip.bytes);
+                zip.closeEntry();
+                count++;
+                long written = System.nanoTime() - t1;
+                busyNanos += written;
+                metrics.recordPayslip(written);
+            }
+        }
+        return new long[]{busyNanos, waitNanos, count};
+    }
+
+    /**
+     * Stage 3: writes each payslip to its own file in a directory.
+     * @return Busy nanos, wait nanos and payslip count
+     */
+    private static long[] writeDirectory(BlockingQueue<RenderedPayslip> payslips, Path target)
+            throws IOException, InterruptedException {
+        long busyNanos = 0;
+        long waitNanos = 0;
+        try (PayslipWriter writer = PayslipWriter.toDirectory(target)) {
+            while (true) {
+                long t0 = System.nanoTime();
+                RenderedPayslip payslip = payslips.take();
+                long t1 = System.nanoTime();
+                waitNanos += t1 - t0;
+                if (payslip == END_OF_PAYSLIPS) break;
+
+                writer.write(payslip.employeeNumber, new String(payslip.bytes, StandardCharsets.UTF_8));
+                busyNanos += System.nanoTime() - t1;
+            }
+            return new long[]{busyNanos, waitNanos, writer.getPayslipsWritten()};
+        }
+    }
+
+    /**
+     * A payslip rendered to bytes, waiting to be written.
+     */
+    private static final class RenderedPayslip {
+        private final String employeeNumber;
+        private final byte[] bytes;
+
+        RenderedPayslip(String employeeNumber, byte[] bytes) {
+            this.employeeNumber = employeeNumber;
+            this.bytes = bytes;
+        }
+    }
+}
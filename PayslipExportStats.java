@@ -0,0 +1,79 @@
+package service;
+
+/**
+ * PayslipExportStats holds per-stage timings of a payslip export run.
+ * Busy time is time spent doing the stage's work; wait time is time spent blocked on a
+ * full or empty queue. The stage with the least waiting is the bottleneck.
+ */
+public class PayslipExportStats {
+    private final long payslips;
+    private final int renderers;
+    private final long wallNanos;
+    private final long computeBusyNanos;
+    private final long computeWaitNanos;
+    private final long renderBusyNanos;
+    private final long renderWaitNanos;
+    private final long writeBusyNanos;
+    private final long writeWaitNanos;
+
+    /**
+     * Constructor for PayslipExportStats class.
+     * @param payslips Number of payslips written
+     * @param renderers Number of renderer threads
+     * @param wallNanos Elapsed wall time of the export
+     * @param computeBusyNanos Time spent computing payroll
+     * @param computeWaitNanos Time the compute stage waited for space in the render queue
+     * @param renderBusyNanos Time spent rendering, summed over renderer threads
+     * @param renderWaitNanos Time renderers waited for space in the write queue, summed over threads
+     * @param writeBusyNanos Time spent writing to disk
+     * @param writeWaitNanos Time the writer waited for rendered payslips
+     */
+    public PayslipExportStats(long payslips, int renderers, long wallNanos, long computeBusyNanos, long computeWaitNanos,
+                              long renderBusyNanos, long renderWaitNanos, long writeBusyNanos, long writeWaitNanos) {
+        this.payslips = payslips;
+        this.renderers = renderers;
+        this.wallNanos = wallNanos;
+        this.computeBusyNanos = computeBusyNanos;
+        this.computeWaitNanos = computeWaitNanos;
+        this.renderBusyNanos = renderBusyNanos;
+        this.renderWaitNanos = renderWaitNanos;
+        this.writeBusyNanos = writeBusyNanos;
+        this.writeWaitNanos = writeWaitNanos;
+    }
+
+    public long getPayslips() { return payslips; }
+    public long getWallNanos() { return wallNanos; }
+    public long getComputeBusyNanos() { return computeBusyNanos; }
+    public long getComputeWaitNanos() { return computeWaitNanos; }
+    public long getRenderBusyNanos() { return renderBusyNanos; }
+    public long getRenderWaitNanos() { return renderWaitNanos; }
+    public long getWriteBusyNanos() { return writeBusyNanos; }
+    public long getWriteWaitNanos() { return writeWaitNanos; }
+
+    /**
+     * Names the stage that limited the run: the one whose threads were busy for the largest share of wall time.
+     * @return "compute", "render" or "write"
+     */
+    public String getBottleneck() {
+        double compute = computeBusyNanos;
+        double render = renderBusyNanos / (double) Math.max(renderers, 1);
+        double write = writeBusyNanos;
+        if (write >= render && write >= compute) return "write";
+        return render >= compute ? "render" : "compute";
+    }
+
+    /**
+     * Displays the stage timings of the export.
+     */
+    public void display() {
+        System.out.println("\n📦 Payslip Export Summary");
+        System.out.println("-------------------------------------------------");
+        System.out.printf("Payslips Written: %d%n", payslips);
+        System.out.printf("Wall Time: %.3f s (%.0f payslips/s)%n", wallNanos / 1e9, payslips / (wallNanos / 1e9));
+        System.out.printf("Compute: busy %.3f s, waiting %.3f s%n", computeBusyNanos / 1e9, computeWaitNanos / 1e9);
+        System.out.printf("Render (%d threads): busy %.3f s, waiting %.3f s%n", renderers, renderBusyNanos / 1e9, renderWaitNanos / 1e9);
+        System.out.printf("Write: busy %.3f s, waiting %.3f s%n", writeBusyNanos / 1e9, writeWaitNanos / 1e9);
+        System.out.printf("Bottleneck: %s%n", getBottleneck());
+        System.out.println("-------------------------------------------------\n");
+    }
+}
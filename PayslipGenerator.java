@@ -1,6 +1,8 @@
 package utils;
 
 import model.Employee;
+import model.PayrollResult;
+import service.PayrollCalculator;
 
 /**
  * Utility class responsible for generating employee payslips.
@@ -11,6 +13,8 @@ public class PayslipGenerator {
 
     /**
      * Generates and prints the payslip for a given employee.
+     * The hourly rate shown is the basic salary over the standard month of
+     * {@link PayrollCalculator#DEFAULT_STANDARD_MONTHLY_HOURS} hours.
      *
      * @param employee The employee whose payslip is being generated.
      * @param hoursWorked The number of hours worked by the employee.
@@ -29,6 +33,32 @@ public class PayslipGenerator {
         // ✅ Compute final net salary including allowances
         double finalNetSalary = netSalary + totalAllowances;
 
+        double hourlyRate = employee.getBasicSalary() / PayrollCalculator.DEFAULT_STANDARD_MONTHLY_HOURS;
+
+        printPayslip(employee, hoursWorked, hourlyRate, grossSalary, sss, philHealth, pagIbig, withholdingTax, totalAllowances,
+            finalNetSalary);
+    }
+
+    /**
+     * Generates and prints the payslip from an already computed payroll result.
+     * The result's net salary already includes allowances.
+     *
+     * @param result The computed payroll result of the employee.
+     */
+    public static void generatePayslip(PayrollResult result) {
+        printPayslip(result.getEmployee(), result.getHoursWorked(), result.getHourlyRate(), result.getGrossSalary(), result.getSss(),
+            result.getPhilHealth(), result.getPagIbig(), result.getWithholdingTax(), result.getTotalAllowances(),
+            result.getNetSalary());
+    }
+
+    /**
+     * Prints the payslip layout with the given amounts.
+     */
+    private static void printPayslip(Employee employee, double hoursWorked, double hourlyRate, double grossSalary, double sss,
+                                     double philHealth, double pagIbig, double withholdingTax, double totalAllowances,
+                                     double finalNetSalary) {
+        long start = System.nanoTime();
+
         // ✅ Printing the Payslip
         System.out.println("\n===========================================");
         System.out.println("                 PAYSLIP                ");
@@ -46,7 +76,7 @@ public class PayslipGenerator {
         System.out.printf(" Supervisor: %-30s%n", employee.getSupervisor());
         System.out.println("-------------------------------------------");
         System.out.printf(" %-30s PHP %12.2f%n", "Basic Salary:", employee.getBasicSalary());
-        System.out.printf(" %-30s PHP %12.2f%n", "Hourly Rate:", (employee.getBasicSalary() / 168));
+        System.out.printf(" %-30s PHP %12.2f%n", "Hourly Rate:", hourlyRate);
         System.out.printf(" %-30s %10.2f%n", "Hours Worked:", hoursWorked);
         System.out.printf(" %-30s PHP %12.2f%n", "Gross Salary:", grossSalary);
         System.out.println("-------------------------------------------");
@@ -64,6 +94,8 @@ public class PayslipGenerator {
         System.out.println("-------------------------------------------");
         System.out.printf(" ✅ %-30s PHP %12.2f%n", "Final Net Salary:", finalNetSalary);
         System.out.println("===========================================");
+
+        PayrollMetrics.getDefault().recordPayslip(System.nanoTime() - start);
     }
 }
 
@@ -0,0 +1,147 @@
+package utils;
+
+import model.Employee;
+import model.PayrollResult;
+
+/**
+ * Renders payslips into a reusable StringBuilder instead of printing them line by line.
+ * The fixed parts of the layout are built once, and amounts are formatted without going
+ * through a format string, so rendering a payslip costs no format parsing and no I/O.
+ * The output is identical to {@link PayslipGenerator#generatePayslip(PayrollResult)}.
+ * A renderer instance is not thread-safe; give each thread its own.
+ */
+public class PayslipRenderer {
+    private static final String NL = System.lineSeparator();
+    private static final String DOUBLE_RULE = "===========================================" + NL;
+    private static final String SINGLE_RULE = "-------------------------------------------" + NL;
+    private static final String HEADER = NL + DOUBLE_RULE + "                 PAYSLIP                " + NL + DOUBLE_RULE;
+
+    // Labels padded once to the widths used by the payslip layout
+    private static final String BASIC_SALARY = line("Basic Salary:") + "PHP ";
+    private static final String HOURLY_RATE = line("Hourly Rate:") + "PHP ";
+    private static final String HOURS_WORKED = line("Hours Worked:");
+    private static final String GROSS_SALARY = line("Gross Salary:") + "PHP ";
+    private static final String RICE_SUBSIDY = item("Rice Subsidy:");
+    private static final String PHONE_ALLOWANCE = item("Phone Allowance:");
+    private static final String CLOTHING_ALLOWANCE = item("Clothing Allowance:");
+    private static final String TOTAL_ALLOWANCES = line("Total Allowances:") + "PHP ";
+    private static final String PAGIBIG = item("Pag-IBIG:");
+    private static final String PHILHEALTH = item("PhilHealth:");
+    private static final String SSS = item("SSS:");
+    private static final String TAX = item("Tax:");
+    private static final String FINAL_NET_SALARY = " ✅ " + pad("Final Net Salary:", 30) + " PHP ";
+
+    private static final double MAX_FAST_AMOUNT = 1e9; // Fast formatting is exact below this magnitude
+
+    private final StringBuilder buffer = new StringBuilder(2048);
+
+    /**
+     * Renders a payslip into the renderer's own buffer, replacing the previous payslip.
+     * @param result The computed payroll result of the employee.
+     * @return The rendered payslip; valid until the next call
+     */
+    public CharSequence render(PayrollResult result) {
+        buffer.setLength(0);
+        render(result, buffer);
+        return buffer;
+    }
+
+    /**
+     * Appends a payslip to a caller-supplied buffer.
+     * @param result The computed payroll result of the employee.
+     * @param out Buffer to append to
+     */
+    public static void render(PayrollResult result, StringBuilder out) {
+        Employee employee = result.getEmployee();
+        out.append(HEADER);
+        out.append(" Employee: ");
+        padRight(out, employee.getFullName(), 22).append(" ID: ").append(employee.getEmployeeNumber()).append(NL);
+        field(out, " Birthdate: ", employee.getBirthDate(), 30);
+        field(out, " Address: ", employee.getAddress(), 40);
+        field(out, " Phone No.: ", employee.getContactNumber(), 30);
+        field(out, " TIN No.: ", employee.getTinNumber(), 30);
+        field(out, " SSS No.: ", employee.getSssNumber(), 30);
+        field(out, " PhilHealth No.: ", employee.getPhilHealthNumber(), 30);
+        field(out, " Pag-IBIG No.: ", employee.getPagIbigNumber(), 30);
+        field(out, " Status: ", employee.getEmploymentStatus(), 30);
+        field(out, " Position: ", employee.getPosition(), 30);
+        field(out, " Supervisor: ", employee.getSupervisor(), 30);
+        out.append(SINGLE_RULE);
+        amount(out, BASIC_SALARY, employee.getBasicSalary(), 12);
+        amount(out, HOURLY_RATE, result.getHourlyRate(), 12);
+        amount(out, HOURS_WORKED, result.getHoursWorked(), 10);
+        amount(out, GROSS_SALARY, result.getGrossSalary(), 12);
+        out.append(SINGLE_RULE);
+        out.append(" ✅ Allowances:").append(NL);
+        amount(out, RICE_SUBSIDY, employee.getRiceSubsidy(), 12);
+        amount(out, PHONE_ALLOWANCE, employee.getPhoneAllowance(), 12);
+        amount(out, CLOTHING_ALLOWANCE, employee.getClothingAllowance(), 12);
+        amount(out, TOTAL_ALLOWANCES, result.getTotalAllowances(), 12);
+        out.append(SINGLE_RULE);
+        out.append(" ✅ Deductions:").append(NL);
+        amount(out, PAGIBIG, result.getPagIbig(), 12);
+        amount(out, PHILHEALTH, result.getPhilHealth(), 12);
+        amount(out, SSS, result.getSss(), 12);
+        amount(out, TAX, result.getWithholdingTax(), 12);
+        out.append(SINGLE_RULE);
+        amount(out, FINAL_NET_SALARY, result.getNetSalary(), 12);
+        out.append(DOUBLE_RULE);
+    }
+
+    private static String line(String label) {
+        return " " + pad(label, 30) + " ";
+    }
+
+    private static String item(String label) {
+        return " - " + pad(label, 27) + " PHP ";
+    }
+
+    private static String pad(String value, int width) {
+        return padRight(new StringBuilder(), value, width).toString();
+    }
+
+    private static void field(StringBuilder out, String label, String value, int width) {
+        padRight(out.append(label), value, width).append(NL);
+    }
+
+    private static void amount(StringBuilder out, String label, double value, int width) {
+        appendFixed2(out.append(label), value, width).append(NL);
+    }
+
+    /**
+     * Appends a value left-aligned in a field, like {@code %-<width>s}.
+     */
+    private static StringBuilder padRight(StringBuilder out, String value, int width) {
+        int start = out.length();
+        out.append(value);
+        for (int i = out.length() - start; i < width; i++) out.append(' ');
+        return out;
+    }
+
+    /**
+     * Appends an amount right-aligned with two decimals, exactly like {@code %<width>.2f}.
+     * Values whose third decimal sits on a rounding tie, negatives (negative zero included, which
+     * prints as -0.00) and very large values are handed to the Formatter so the result never
+     * differs from printf.
+     * @param out Buffer to append to
+     * @param value Amount to append
+     * @param width Minimum field width, at least 1
+     * @return The buffer
+     */
+    public static StringBuilder appendFixed2(StringBuilder out, double value, int width) {
+        double scaled = value * 100;
+        double fraction = scaled - Math.floor(scaled);
+        boolean negative = Double.doubleToRawLongBits(value) < 0; // Sign bit, so -0.0 counts
+        if (negative || !(value < MAX_FAST_AMOUNT) || Math.abs(fraction - 0.5) < 1e-4) {
+            return out.append(String.format("%" + width + ".2f", value));
+        }
+
+        long cents = (long) Math.floor(scaled + 0.5);
+        long whole = cents / 100;
+        int decimals = (int) (cents % 100);
+        int digits = 1;
+        for (long rest = whole / 10; rest > 0; rest /= 10) digits++;
+        for (int i = digits + 3; i < width; i++) out.append(' ');
+        return out.append(whole).append('.').append((char) ('0' + decimals / 10)).append((char) ('0' + decimals % 10));
+    }
+}
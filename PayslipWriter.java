@@ -0,0 +1,247 @@
+package utils;
+
+import model.PayrollResult;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes rendered payslips to disk through a FileChannel with a reusable direct buffer.
+ * Payslips either go to one batched file or to one file per employee in a directory.
+ * A writer is not thread-safe.
+ */
+public class PayslipWriter implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+    private final FileChannel batchChannel;
+    private final PayslipRenderer renderer = new PayslipRenderer();
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final List<Path> unforcedFiles = new ArrayList<>(); // Payslip files written since the last force
+    private long payslipsWritten;
+
+    private PayslipWriter(Path directory, FileChannel batchChannel) {
+        this.directory = directory;
+        this.batchChannel = batchChannel;
+    }
+
+    /**
+     * Creates a writer that appends every payslip to one file, replacing any existing file.
+     * @param file Path of the batched payslip file
+     * @return The writer
+     * @throws IOException if the file cannot be opened
+     */
+    public static PayslipWriter toFile(Path file) throws IOException {
+        return new PayslipWriter(null, FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    /**
+     * Reopens a batched payslip file to carry on an interrupted run. The file is cut back to the given
+     * length, dropping payslips written after the run's last commit, and new payslips are appended.
+     * @param file Path of the batched payslip file
+     * @param length Length of the file that the run's journal vouches for, see {@code PayrollJournal.getPayslipFileLength()}
+     * @return The writer, positioned at the end of the kept payslips
+     * @throws IOException if the file cannot be opened, or is shorter than the given length
+     */
+    public static PayslipWriter resumeFile(Path file, long length) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < length) {
+                throw new IOException("Payslip file " + file + " has " + channel.size()
+                    + " bytes, but " + length + " bytes of payslips were issued");
+            }
+            channel.truncate(length);
+            channel.position(length);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new PayslipWriter(null, channel);
+    }
+
+    /**
+     * Creates a writer that stores each payslip as {@code payslip_<employeeNumber>.txt} in a directory.
+     * Employee numbers must be usable as a file name, see {@link #fileName(String)}.
+     * @param directory Directory for the payslip files; created if missing
+     * @return The writer
+     * @throws IOException if the directory cannot be created
+     */
+    public static PayslipWriter toDirectory(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return new PayslipWriter(directory, null);
+    }
+
+    /**
+     * Names the payslip file of an employee. The employee number comes straight from the employee
+     * file, so only letters, digits, '-' and '_' are accepted; anything else, such as a path
+     * separator or "..", could place the payslip outside its directory.
+     * @param employeeNumber Employee the payslip belongs to
+     * @return File name of the form {@code payslip_<employeeNumber>.txt}
+     * @throws IllegalArgumentException if the employee number is empty or holds other characters
+     */
+    public static String fileName(String employeeNumber) {
+        if (employeeNumber == null || employeeNumber.isEmpty()) {
+            throw new IllegalArgumentException("Employee number is missing, cannot name its payslip file");
+        }
+        for (int i = 0; i < employeeNumber.length(); i++) {
+            char c = employeeNumber.charAt(i);
+            boolean allowed = (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '-' || c == '_';
+            if (!allowed) {
+                throw new IllegalArgumentException("Employee number \"" + employeeNumber
+                    + "\" cannot be used in a payslip file name");
+            }
+        }
+        return "payslip_" + employeeNumber + ".txt";
+    }
+
+    /**
+     * Renders and writes one payslip.
+     * @param result The computed payroll result of the employee.
+     * @throws IOException if writing fails
+     */
+    public void write(PayrollResult result) throws IOException {
+        long start = System.nanoTime();
+        writePayslip(result.getEmployee().getEmployeeNumber(), renderer.render(result));
+        PayrollMetrics.getDefault().recordPayslip(System.nanoTime() - start);
+    }
+
+    /**
+     * Writes an already rendered payslip.
+     * @param employeeNumber Employee the payslip belongs to
+     * @param payslip Rendered payslip text
+     * @throws IOException if writing fails
+     */
+    public void write(String employeeNumber, CharSequence payslip) throws IOException {
+        long start = System.nanoTime();
+        writePayslip(employeeNumber, payslip);
+        PayrollMetrics.getDefault().recordPayslip(System.nanoTime() - start);
+    }
+
+    /**
+     * Writes a payslip to the batched file or to its own file in the directory.
+     */
+    private void writePayslip(String employeeNumber, CharSequence payslip) throws IOException {
+        if (batchChannel != null) {
+            encode(payslip, batchChannel);
+        } else {
+            Path file = directory.resolve(fileName(employeeNumber));
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                encode(payslip, channel);
+                drain(channel);
+            }
+            unforcedFiles.add(file);
+        }
+        payslipsWritten++;
+    }
+
+    /**
+     * Retrieves the number of payslips written so far.
+     * @return Payslip count
+     */
+    public long getPayslipsWritten() {
+        return payslipsWritten;
+    }
+
+    /**
+     * Hands every buffered payslip of the batched file to the operating system, so payslips
+     * written so far survive the process dying. Payslips in a directory are never buffered.
+     * @throws IOException if writing fails
+     */
+    public void flush() throws IOException {
+        if (batchChannel != null) drain(batchChannel);
+    }
+
+    /**
+     * Retrieves the length of the batched file including payslips still buffered.
+     * @return Length of the batched file in bytes, or 0 when payslips go to a directory
+     * @throws IOException if the file position cannot be read
+     */
+    public long getFileLength() throws IOException {
+        return batchChannel != null ? batchChannel.position() + bytes.position() : 0;
+    }
+
+    /**
+     * Forces every payslip written so far to disk, so they survive the machine going down.
+     * For a directory, each payslip file written since the last force is synced and then the
+     * directory itself, which makes the new file names durable where the platform allows it.
+     * @throws IOException if writing or syncing fails
+     */
+    public void force() throws IOException {
+        if (batchChannel != null) {
+            drain(batchChannel);
+            batchChannel.force(false);
+            return;
+        }
+        if (unforcedFiles.isEmpty()) return;
+        for (Path file : unforcedFiles) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.force(false);
+            }
+        }
+        unforcedFiles.clear();
+        FileChannel directoryChannel;
+        try {
+            directoryChannel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return; // Some platforms, e.g. Windows, cannot open a directory to sync it
+        }
+        try (directoryChannel) {
+            directoryChannel.force(true);
+        }
+    }
+
+    /**
+     * Encodes text into the byte buffer, writing the buffer out whenever it fills up.
+     */
+    private void encode(CharSequence text, FileChannel channel) throws IOException {
+        CharBuffer chars = CharBuffer.wrap(text);
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, true);
+            if (result.isOverflow()) {
+                drain(channel);
+            } else if (result.isUnderflow()) {
+                break;
+            } else {
+                result.throwException();
+            }
+        }
+        while (encoder.flush(bytes).isOverflow()) drain(channel);
+    }
+
+    /**
+     * Writes out everything in the byte buffer.
+     */
+    private void drain(FileChannel channel) throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) channel.write(bytes);
+        bytes.clear();
+    }
+
+    /**
+     * Flushes buffered payslips and closes the batched file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (batchChannel != null) {
+            try {
+                drain(batchChannel);
+            } finally {
+                batchChannel.close();
+            }
+        }
+    }
+}
@@ -3,16 +3,22 @@ package utils;
 /**
  * Utility class for calculating PhilHealth contributions.
  * This class encapsulates the calculation logic, following OOP principles.
- * The PhilHealth contribution rate is set to 3%, with the employee sharing half of the contribution.
+ * The rate and the employee's share come from the current rate set of the default {@link RateRegistry};
+ * the built-in 2023 rate is 3%, with the employee sharing half of the contribution.
  */
 public class PhilHealthCalculator {
+    /** PhilHealth premium rate of the built-in rate set, {@link RateSet#defaults()}. */
+    public static final double PREMIUM_RATE = 0.03;
+
+    /** Fraction of the premium paid by the employee in the built-in rate set. */
+    public static final double EMPLOYEE_SHARE = 0.5;
+
     /**
      * Calculates the PhilHealth contribution based on the given salary.
      * @param salary The gross salary of the employee.
      * @return The computed PhilHealth contribution (employee share).
      */
     public static double getPhilHealthContribution(double salary) {
-        double contribution = (salary * 0.03) / 2; // 3% contribution, employee share is half
-        return contribution; // Return the employee share
+        return RateRegistry.getDefault().getCurrent().calculatePhilHealth(salary); // Employee share only
     }
 }
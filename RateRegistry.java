@@ -0,0 +1,228 @@
+package utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Registry of effective-dated rate sets used to compute deductions for any pay period.
+ * Rate files are parsed and compiled into immutable {@link RateSet}s once, then cached by
+ * effective date; resolving a pay date is a single sorted-map lookup, so retro runs across
+ * many periods never rebuild rules per employee.
+ */
+public class RateRegistry {
+    private static final RateRegistry DEFAULT = new RateRegistry();
+
+    private final ConcurrentSkipListMap<LocalDate, RateSet> rateSets = new ConcurrentSkipListMap<>();
+    private volatile RateSet current;
+
+    /**
+     * Creates a registry seeded with the built-in 2023 rate set.
+     */
+    public RateRegistry() {
+        RateSet defaults = RateSet.defaults();
+        rateSets.put(defaults.getEffectiveDate(), defaults);
+        current = defaults;
+    }
+
+    /**
+     * Retrieves the shared registry used by payroll calculators by default.
+     * @return The default registry
+     */
+    public static RateRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Registers a compiled rate set, replacing any set with the same effective date.
+     * @param rateSet The rate set to register
+     */
+    public void register(RateSet rateSet) {
+        rateSets.put(rateSet.getEffectiveDate(), rateSet);
+        current = forDate(LocalDate.now());
+    }
+
+    /**
+     * Retrieves the rate set in effect on a pay period date.
+     * Dates before the earliest known rate set fall back to the earliest one.
+     * @param payDate The pay period date
+     * @return The rate set in effect
+     */
+    public RateSet forDate(LocalDate payDate) {
+        Map.Entry<LocalDate, RateSet> entry = rateSets.floorEntry(payDate);
+        return entry != null ? entry.getValue() : rateSets.firstEntry().getValue();
+    }
+
+    /**
+     * Retrieves the rate set in effect today.
+     * @return The current rate set
+     */
+    public RateSet getCurrent() {
+        return current;
+    }
+
+    /**
+     * Loads and registers every {@code rates_*.properties} file found in a directory.
+     * Files are registered in order of their effective dates, whatever order the directory
+     * lists them in, so each one inherits missing keys from the rate set just before it.
+     * Nothing is loaded when the directory does not exist.
+     * @param directory Directory containing rate files
+     * @return The number of rate sets loaded
+     * @throws IOException if a rate file cannot be read or is malformed
+     */
+    public int loadDirectory(String directory) throws IOException {
+        Path dir = Paths.get(directory);
+        if (!Files.isDirectory(dir)) return 0;
+
+        TreeMap<LocalDate, Path> byEffectiveDate = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "rates_*.properties")) {
+            for (Path file : files) {
+                LocalDate effectiveDate = readEffectiveDate(file);
+                Path previous = byEffectiveDate.put(effectiveDate, file);
+                if (previous != null) {
+                    throw new IOException(file + ": effective date " + effectiveDate + " is also used by " + previous);
+                }
+            }
+        }
+        for (Path file : byEffectiveDate.values()) {
+            load(file);
+        }
+        return byEffectiveDate.size();
+    }
+
+    /**
+     * Reads the effective date of a rate file without compiling it.
+     */
+    private static LocalDate readEffectiveDate(Path path) throws IOException {
+        try {
+            return LocalDate.parse(require(readProperties(path), "effective", path));
+        } catch (DateTimeParseException e) {
+            throw new IOException(path + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a rate file as properties.
+     */
+    private static Properties readProperties(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    /**
+     * Loads, compiles and registers one rate file; see {@link #compile(Path)} for the format.
+     * @param path Path to the rate file
+     * @return The compiled rate set
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    public RateSet load(Path path) throws IOException {
+        RateSet rateSet = compile(path);
+        register(rateSet);
+        return rateSet;
+    }
+
+    /**
+     * Loads and compiles one rate file without registering it, e.g. for a what-if scenario
+     * whose rates must not reach real payroll runs.
+     * Required keys are {@code version} and {@code effective} (yyyy-MM-dd). Optional keys are
+     * {@code sss.table} (SSS rate file relative to this file), {@code philhealth.rate},
+     * {@code philhealth.employeeShare}, {@code pagibig.rate}, {@code pagibig.cap} and
+     * {@code tax.brackets}, written as {@code upperBound,baseTax,rate,excessOver} entries separated
+     * by {@code ;} with a final {@code max} entry. Keys left out keep the value of the rate set
+     * previously in effect on that date.
+     * @param path Path to the rate file
+     * @return The compiled rate set
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    public RateSet compile(Path path) throws IOException {
+        Properties properties = readProperties(path);
+
+        try {
+            String version = require(properties, "version", path);
+            LocalDate effectiveDate = LocalDate.parse(require(properties, "effective", path));
+            RateSet base = forDate(effectiveDate);
+
+            String sssFile = properties.getProperty("sss.table");
+            SSSContributionTable sssTable = sssFile != null
+                ? SSSContributionTable.load(path.resolveSibling(sssFile.trim()))
+                : base.getSssTable();
+            String taxBrackets = properties.getProperty("tax.brackets");
+            TaxTable taxTable = taxBrackets != null ? parseTaxBrackets(taxBrackets) : base.getTaxTable();
+
+            return new RateSet(version, effectiveDate, sssTable,
+                getDouble(properties, "philhealth.rate", base.getPhilHealthRate()),
+                getDouble(properties, "philhealth.employeeShare", base.getPhilHealthEmployeeShare()),
+                getDouble(properties, "pagibig.rate", base.getPagIbigRate()),
+                getDouble(properties, "pagibig.cap", base.getPagIbigCap()),
+                taxTable);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IOException(path + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Retrieves a required property.
+     */
+    private static String require(Properties properties, String key, Path path) throws IOException {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IOException(path + ": missing required key " + key);
+        }
+        return value.trim();
+    }
+
+    /**
+     * Retrieves an optional numeric property.
+     */
+    private static double getDouble(Properties properties, String key, double defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    /**
+     * Parses tax brackets written as {@code upperBound,baseTax,rate,excessOver;...;max,baseTax,rate,excessOver}.
+     * An upper bound prefixed with {@code <} is exclusive.
+     */
+    private static TaxTable parseTaxBrackets(String value) {
+        String[] entries = value.split(";");
+        int bounded = entries.length - 1;
+        double[] upperBounds = new double[bounded];
+        double[] baseTax = new double[entries.length];
+        double[] rates = new double[entries.length];
+        double[] excessOver = new double[entries.length];
+
+        for (int i = 0; i < entries.length; i++) {
+            String[] columns = entries[i].split(",");
+            if (columns.length != 4) {
+                throw new IllegalArgumentException("tax bracket '" + entries[i].trim() + "' needs 4 values");
+            }
+            String bound = columns[0].trim();
+            if (i == bounded) {
+                if (!bound.equalsIgnoreCase("max")) {
+                    throw new IllegalArgumentException("last tax bracket must be 'max'");
+                }
+            } else if (bound.startsWith("<")) {
+                upperBounds[i] = Math.nextDown(Double.parseDouble(bound.substring(1).trim()));
+            } else {
+                upperBounds[i] = Double.parseDouble(bound);
+            }
+            baseTax[i] = Double.parseDouble(columns[1].trim());
+            rates[i] = Double.parseDouble(columns[2].trim());
+            excessOver[i] = Double.parseDouble(columns[3].trim());
+        }
+        return new TaxTable(upperBounds, baseTax, rates, excessOver);
+    }
+}
@@ -0,0 +1,119 @@
+package utils;
+
+import model.DeductionBreakdown;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable set of contribution and tax rules in effect from a given date.
+ * A rate set is compiled once from its source and then only evaluated, so it can be
+ * shared by every employee and every payroll worker of a pay period.
+ */
+public final class RateSet {
+    private final String version;
+    private final LocalDate effectiveDate;
+    private final SSSContributionTable sssTable;
+    private final double philHealthRate;
+    private final double philHealthEmployeeShare;
+    private final double pagIbigRate;
+    private final double pagIbigCap;
+    private final TaxTable taxTable;
+
+    /**
+     * Constructor for RateSet class.
+     * @param version Version label of the rate set
+     * @param effectiveDate Date from which the rate set applies
+     * @param sssTable SSS contribution schedule
+     * @param philHealthRate PhilHealth premium rate
+     * @param philHealthEmployeeShare Fraction of the PhilHealth premium paid by the employee
+     * @param pagIbigRate Pag-IBIG contribution rate
+     * @param pagIbigCap Maximum Pag-IBIG contribution
+     * @param taxTable Withholding tax schedule
+     */
+    public RateSet(String version, LocalDate effectiveDate, SSSContributionTable sssTable, double philHealthRate,
+                   double philHealthEmployeeShare, double pagIbigRate, double pagIbigCap, TaxTable taxTable) {
+        this.version = version;
+        this.effectiveDate = effectiveDate;
+        this.sssTable = sssTable;
+        this.philHealthRate = philHealthRate;
+        this.philHealthEmployeeShare = philHealthEmployeeShare;
+        this.pagIbigRate = pagIbigRate;
+        this.pagIbigCap = pagIbigCap;
+        this.taxTable = taxTable;
+    }
+
+    /**
+     * Builds the 2023 rate set from the built-in SSS, PhilHealth, Pag-IBIG and TRAIN rules.
+     * @return The built-in rate set
+     */
+    public static RateSet defaults() {
+        return new RateSet("2023", LocalDate.of(2023, 1, 1), SSSCalculator.TABLE_2023,
+            PhilHealthCalculator.PREMIUM_RATE, PhilHealthCalculator.EMPLOYEE_SHARE,
+            DeductionsCalculator.PAGIBIG_RATE, DeductionsCalculator.PAGIBIG_CAP, TaxCalculator.TRAIN_2023);
+    }
+
+    // Getter methods for the rules
+    public String getVersion() { return version; }
+    public LocalDate getEffectiveDate() { return effectiveDate; }
+    public SSSContributionTable getSssTable() { return sssTable; }
+    public double getPhilHealthRate() { return philHealthRate; }
+    public double getPhilHealthEmployeeShare() { return philHealthEmployeeShare; }
+    public double getPagIbigRate() { return pagIbigRate; }
+    public double getPagIbigCap() { return pagIbigCap; }
+    public TaxTable getTaxTable() { return taxTable; }
+
+    /**
+     * Calculates the SSS contribution.
+     * @param grossSalary The gross salary of the employee.
+     * @return The computed SSS contribution.
+     */
+    public double calculateSSS(double grossSalary) {
+        return sssTable.getContribution(grossSalary);
+    }
+
+    /**
+     * Calculates the PhilHealth contribution (employee share).
+     * @param grossSalary The gross salary of the employee.
+     * @return The computed PhilHealth contribution.
+     */
+    public double calculatePhilHealth(double grossSalary) {
+        return (grossSalary * philHealthRate) * philHealthEmployeeShare;
+    }
+
+    /**
+     * Calculates the Pag-IBIG contribution, capped at the configured maximum.
+     * @param grossSalary The gross salary of the employee.
+     * @return The computed Pag-IBIG contribution.
+     */
+    public double calculatePagIbig(double grossSalary) {
+        return Math.min(grossSalary * pagIbigRate, pagIbigCap);
+    }
+
+    /**
+     * Calculates the withholding tax.
+     * @param taxableIncome The taxable income of the employee.
+     * @return The computed withholding tax.
+     */
+    public double calculateTax(double taxableIncome) {
+        return taxTable.compute(taxableIncome);
+    }
+
+    /**
+     * Calculates every deduction for a gross salary.
+     * Tax is withheld from the gross salary less the three contributions.
+     * @param grossSalary The gross salary of the employee.
+     * @return The computed deductions.
+     */
+    public DeductionBreakdown calculateDeductions(double grossSalary) {
+        double sss = calculateSSS(grossSalary);
+        double philHealth = calculatePhilHealth(grossSalary);
+        double pagIbig = calculatePagIbig(grossSalary);
+        double tax = calculateTax(grossSalary - (sss + philHealth + pagIbig));
+        return new DeductionBreakdown(grossSalary, sss, philHealth, pagIbig, tax);
+    }
+
+    @Override
+    public String toString() {
+        return "RateSet " + version + " (effective " + effectiveDate + ")";
+    }
+}
@@ -0,0 +1,106 @@
+package service;
+
+import model.Employee;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Roster is an immutable snapshot of the loaded employees together with their lookup indexes.
+ * A new snapshot is built for every load and published whole, so readers holding a roster
+ * always see one consistent set of employees while a reload is in progress.
+ * The indexes are built on the first lookup rather than at publish, so a roster whose employees
+ * decode their text on access, such as a memory-mapped load, is not decoded in full up front.
+ */
+public class Roster {
+    private static final Roster EMPTY = new Roster(Collections.emptyList(), 0, 0);
+
+    private final List<Employee> employees;
+    private volatile EmployeeIndex index; // Built on first use
+    private final long generation;
+    private final long loadTimeNanos;
+
+    /**
+     * Builds a snapshot of a roster, copying the employee list.
+     * @param employees Employees of the roster, null entries are skipped
+     * @param generation Number of the load that produced this roster; 0 for the empty roster
+     * @param loadTimeNanos Time taken to read the employees, for reporting
+     */
+    public Roster(List<Employee> employees, long generation, long loadTimeNanos) {
+        List<Employee> copy = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            if (employee != null) copy.add(employee);
+        }
+        this.employees = Collections.unmodifiableList(copy);
+        this.generation = generation;
+        this.loadTimeNanos = loadTimeNanos;
+    }
+
+    /**
+     * Retrieves the roster that holds no employees.
+     * @return Empty roster of generation 0
+     */
+    public static Roster empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Retrieves the employees of the roster.
+     * @return Read-only list of employees in file order
+     */
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    /**
+     * Retrieves the lookup indexes over the roster, building them on the first call.
+     * @return Employee index
+     */
+    public EmployeeIndex getIndex() {
+        EmployeeIndex built = index;
+        if (built == null) {
+            synchronized (this) {
+                built = index;
+                if (built == null) {
+                    built = new EmployeeIndex(employees);
+                    index = built;
+                }
+            }
+        }
+        return built;
+    }
+
+    /**
+     * Finds an employee by employee number.
+     * @param employeeNumber Employee's unique number
+     * @return The employee, or null if not found
+     */
+    public Employee findEmployee(String employeeNumber) {
+        return getIndex().findByEmployeeNumber(employeeNumber);
+    }
+
+    /**
+     * Retrieves the number of employees in the roster.
+     * @return Number of employees
+     */
+    public int size() {
+        return employees.size();
+    }
+
+    /**
+     * Retrieves the load generation of the roster; each reload increases it by one.
+     * @return Generation number
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Retrieves the time taken to read the employees of this roster.
+     * @return Load time in nanoseconds
+     */
+    public long getLoadTimeNanos() {
+        return loadTimeNanos;
+    }
+}
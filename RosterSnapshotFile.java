@@ -0,0 +1,174 @@
+package service;
+
+import model.Employee;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * RosterSnapshotFile stores a parsed roster in a compact binary file so later runs can skip CSV parsing.
+ * The header records a format version, the size and modification time of the source CSV and a
+ * CRC32 checksum of the payload; a snapshot is only used when all of them still match.
+ * Position, status and supervisor are written once in a string table and referenced by index.
+ */
+public final class RosterSnapshotFile {
+    private static final int MAGIC = 0x4D504853; // "MPHS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 8 + 8;
+
+    private RosterSnapshotFile() {
+    }
+
+    /**
+     * Reads a snapshot if it is valid for the current state of the source CSV.
+     * @param snapshot Path of the snapshot file
+     * @param source Path of the CSV file the snapshot was built from
+     * @return The roster, or null if the snapshot is missing, stale, from another format version or corrupt
+     * @throws IOException if the snapshot exists but cannot be read
+     */
+    public static List<Employee> read(Path snapshot, Path source) throws IOException {
+        if (!Files.isRegularFile(snapshot) || !Files.isRegularFile(source)) return null;
+        BasicFileAttributes sourceAttributes = Files.readAttributes(source, BasicFileAttributes.class);
+
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) return null;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) return null;
+            if (buffer.getLong() != sourceAttributes.size()
+                || buffer.getLong() != sourceAttributes.lastModifiedTime().toMillis()) return null;
+            int count = buffer.getInt();
+            long payloadLength = buffer.getLong();
+            long checksum = buffer.getLong();
+            if (payloadLength != channel.size() - HEADER_SIZE) return null;
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice());
+            if (crc.getValue() != checksum) return null;
+
+            String[] stringTable = new String[buffer.getInt()];
+            for (int i = 0; i < stringTable.length; i++) {
+                stringTable[i] = readString(buffer);
+            }
+
+            List<Employee> employees = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                employees.add(new Employee(readString(buffer), readString(buffer), readString(buffer),
+                    readString(buffer), readString(buffer), readString(buffer), readString(buffer),
+                    readString(buffer), readString(buffer), readString(buffer),
+                    stringTable[buffer.getInt()], stringTable[buffer.getInt()], stringTable[buffer.getInt()],
+                    buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getDouble()));
+            }
+            return employees;
+        }
+    }
+
+    /**
+     * Writes a snapshot of the roster, replacing any previous snapshot atomically.
+     * @param snapshot Path of the snapshot file
+     * @param sourceAttributes Attributes of the CSV file, read before it was parsed
+     * @param employees Roster parsed from that file
+     * @throws IOException if writing fails
+     */
+    public static void write(Path snapshot, BasicFileAttributes sourceAttributes, List<Employee> employees)
+            throws IOException {
+        Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+
+        // Build the string table for the repeated columns
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> stringTable = new ArrayList<>();
+        int count = 0;
+        for (Employee emp : employees) {
+            if (emp == null) continue;
+            encode(codes, stringTable, emp.getEmploymentStatus());
+            encode(codes, stringTable, emp.getPosition());
+            encode(codes, stringTable, emp.getSupervisor());
+            count++;
+        }
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_SIZE);
+            CRC32 crc = new CRC32();
+            CheckedOutputStream checked = new CheckedOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16), crc);
+            DataOutputStream out = new DataOutputStream(checked);
+
+            out.writeInt(stringTable.size());
+            for (String value : stringTable) writeString(out, value);
+            for (Employee emp : employees) {
+                if (emp == null) continue;
+                writeString(out, emp.getEmployeeNumber());
+                writeString(out, emp.getLastName());
+                writeString(out, emp.getFirstName());
+                writeString(out, emp.getBirthDate());
+                writeString(out, emp.getAddress());
+                writeString(out, emp.getContactNumber());
+                writeString(out, emp.getTinNumber());
+                writeString(out, emp.getSssNumber());
+                writeString(out, emp.getPhilHealthNumber());
+                writeString(out, emp.getPagIbigNumber());
+                out.writeInt(codes.get(emp.getEmploymentStatus()));
+                out.writeInt(codes.get(emp.getPosition()));
+                out.writeInt(codes.get(emp.getSupervisor()));
+                out.writeDouble(emp.getBasicSalary());
+                out.writeDouble(emp.getRiceSubsidy());
+                out.writeDouble(emp.getPhoneAllowance());
+                out.writeDouble(emp.getClothingAllowance());
+            }
+            out.flush(); // Leaves the channel open so the header can be written afterwards
+            long payloadLength = channel.position() - HEADER_SIZE;
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION)
+                .putLong(sourceAttributes.size()).putLong(sourceAttributes.lastModifiedTime().toMillis())
+                .putInt(count).putLong(payloadLength).putLong(crc.getValue());
+            header.flip();
+            channel.write(header, 0);
+            channel.force(true);
+        }
+        Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void encode(Map<String, Integer> codes, List<String> stringTable, String value) {
+        if (!codes.containsKey(value)) {
+            codes.put(value, stringTable.size());
+            stringTable.add(value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -1,12 +1,23 @@
 package utils;
 
+import java.time.LocalDate;
+
 /**
  * Utility class responsible for calculating SSS contributions.
  * Adheres to OOP principles by encapsulating the SSS calculation logic.
  * Provides an SSS contribution amount based on the given salary.
+ * Contribution schedules are table-driven and come from the rate sets of the default
+ * {@link RateRegistry}, so loading a rate file changes them for every calculator at once.
  */
 public class SSSCalculator {
 
+    /**
+     * 2023 SSS Contribution Table: PHP 180.00 below PHP 4,250, then PHP 22.50 more
+     * for every PHP 500 bracket, up to PHP 1,350.00 from PHP 29,750.
+     * This is the schedule of the built-in rate set, {@link RateSet#defaults()}.
+     */
+    public static final SSSContributionTable TABLE_2023 = build2023Table();
+
     /**
      * Computes the SSS contribution amount based on the employee's salary.
      *
@@ -14,25 +25,48 @@ public class SSSCalculator {
      * @return The calculated SSS contribution amount.
      */
     public static double getSSSContribution(double salary) {
-        // 2023 SSS Contribution Table
-        if (salary < 4250) return 180.00;  // Minimum contribution
-        if (salary <= 4749.99) return 202.50;
-        if (salary <= 5249.99) return 225.00;
-        if (salary <= 5749.99) return 247.50;
-        if (salary <= 6249.99) return 270.00;
-        if (salary <= 6749.99) return 292.50;
-        if (salary <= 7249.99) return 315.00;
-        if (salary <= 7749.99) return 337.50;
-        if (salary <= 8249.99) return 360.00;
-        if (salary <= 8749.99) return 382.50;
-        if (salary <= 9249.99) return 405.00;
-        if (salary <= 9749.99) return 427.50;
-        if (salary <= 10249.99) return 450.00;
-        if (salary <= 10749.99) return 472.50;
-        if (salary <= 11249.99) return 495.00;
-        if (salary <= 11749.99) return 517.50;
-        if (salary <= 12249.99) return 540.00;
-        if (salary <= 12749.99) return 562.50;
-        if (salary <= 13249.99) return 585.00;
-        if (salary <= 13749.99) return 607.50;
-        if (salary <= 142
+        return RateRegistry.getDefault().getCurrent().calculateSSS(salary);
+    }
+
+    /**
+     * Computes the SSS contribution using the schedule in effect on the given date.
+     *
+     * @param salary The employee's gross monthly salary.
+     * @param payDate The pay period date used to pick the schedule.
+     * @return The calculated SSS contribution amount.
+     */
+    public static double getSSSContribution(double salary, LocalDate payDate) {
+        return getTable(payDate).getContribution(salary);
+    }
+
+    /**
+     * Retrieves the schedule in effect on the given date.
+     * Dates before the earliest known rate set fall back to the earliest one.
+     *
+     * @param payDate The pay period date.
+     * @return The contribution schedule.
+     */
+    public static SSSContributionTable getTable(LocalDate payDate) {
+        return RateRegistry.getDefault().forDate(payDate).getSssTable();
+    }
+
+    /**
+     * Builds the built-in 2023 schedule.
+     * The first bracket is exclusive of PHP 4,250 while the rest end at .99 inclusive.
+     * Brackets from PHP 20,250 include the employee's Mandatory Provident Fund share.
+     *
+     * @return The 2023 contribution schedule.
+     */
+    private static SSSContributionTable build2023Table() {
+        int brackets = 52;
+        double[] upperBounds = new double[brackets];
+        double[] contributions = new double[brackets];
+        upperBounds[0] = Math.nextDown(4250.00);
+        contributions[0] = 180.00; // Minimum contribution
+        for (int i = 1; i < brackets; i++) {
+            upperBounds[i] = (424_999 + 50_000 * i) / 100.0;
+            contributions[i] = (18_000 + 2_250 * i) / 100.0;
+        }
+        return new SSSContributionTable("2023", LocalDate.of(2023, 1, 1), upperBounds, contributions, 1350.00);
+    }
+}
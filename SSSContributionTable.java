@@ -0,0 +1,183 @@
+package utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable SSS contribution schedule held in primitive arrays.
+ * Brackets are sorted by their inclusive upper salary bound. When every bracket after the first
+ * has the same width the bracket is computed directly from the salary; otherwise it is found
+ * with a binary search. Each schedule carries a version and the date it takes effect, so several can be kept side by side.
+ */
+public final class SSSContributionTable {
+    private final String version;
+    private final LocalDate effectiveDate;
+    private final double[] upperBounds;
+    private final double[] contributions;
+    private final double maxContribution;
+    private final double inverseWidth; // 1 / bracket width when brackets are evenly spaced, else 0
+
+    /**
+     * Constructor for SSSContributionTable class.
+     * @param version Version label of the schedule (e.g., 2023)
+     * @param effectiveDate Date from which the schedule applies
+     * @param upperBounds Inclusive upper salary bound of each bracket, in ascending order
+     * @param contributions Employee contribution of each bracket
+     * @param maxContribution Contribution for salaries above the last bracket
+     */
+    public SSSContributionTable(String version, LocalDate effectiveDate, double[] upperBounds,
+                                double[] contributions, double maxContribution) {
+        if (upperBounds.length != contributions.length) {
+            throw new IllegalArgumentException("SSS table " + version + " has " + upperBounds.length
+                + " bounds but " + contributions.length + " contributions");
+        }
+        for (int i = 1; i < upperBounds.length; i++) {
+            if (upperBounds[i] <= upperBounds[i - 1]) {
+                throw new IllegalArgumentException("SSS table " + version + " bounds are not ascending at row " + (i + 1));
+            }
+        }
+        this.version = version;
+        this.effectiveDate = effectiveDate;
+        this.upperBounds = upperBounds.clone();
+        this.contributions = contributions.clone();
+        this.maxContribution = maxContribution;
+        this.inverseWidth = computeInverseWidth(this.upperBounds);
+    }
+
+    /**
+     * Checks whether every bracket after the first has the same width.
+     * @param upperBounds Ascending upper bounds of the brackets
+     * @return The inverse of the common width, or 0 when brackets are not evenly spaced
+     */
+    private static double computeInverseWidth(double[] upperBounds) {
+        if (upperBounds.length < 3) return 0;
+        double width = upperBounds[2] - upperBounds[1];
+        for (int i = 3; i < upperBounds.length; i++) {
+            if (Math.abs((upperBounds[i] - upperBounds[i - 1]) - width) > 1e-6) return 0;
+        }
+        return 1 / width;
+    }
+
+    public String getVersion() { return version; }
+    public LocalDate getEffectiveDate() { return effectiveDate; }
+    public int getBracketCount() { return upperBounds.length; }
+    public double getUpperBound(int bracket) { return upperBounds[bracket]; }
+    public double getContribution(int bracket) { return contributions[bracket]; }
+    public double getMaxContribution() { return maxContribution; }
+
+    /**
+     * Looks up the SSS contribution for a salary.
+     * @param salary The employee's gross monthly salary.
+     * @return The contribution of the first bracket whose upper bound is not below the salary.
+     */
+    public double getContribution(double salary) {
+        int bracket = inverseWidth > 0 ? findBracketDirect(salary) : findBracketBinary(salary);
+        return bracket < upperBounds.length ? contributions[bracket] : maxContribution;
+    }
+
+    /**
+     * Computes the bracket of an evenly spaced schedule from the salary, then corrects
+     * the estimate against the actual bounds so rounding can never pick a wrong bracket.
+     * @param salary The employee's gross monthly salary.
+     * @return Index of the first bracket whose upper bound is not below the salary.
+     */
+    private int findBracketDirect(double salary) {
+        if (salary <= upperBounds[0]) return 0;
+        double estimate = Math.ceil((salary - upperBounds[1]) * inverseWidth) + 1;
+        int bracket = estimate >= upperBounds.length ? upperBounds.length : (int) estimate;
+        while (bracket > 1 && upperBounds[bracket - 1] >= salary) bracket--;
+        while (bracket < upperBounds.length && upperBounds[bracket] < salary) bracket++;
+        return bracket;
+    }
+
+    /**
+     * Finds the bracket with a binary search over the upper bounds.
+     * @param salary The employee's gross monthly salary.
+     * @return Index of the first bracket whose upper bound is not below the salary.
+     */
+    private int findBracketBinary(double salary) {
+        int low = 0;
+        int high = upperBounds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (upperBounds[mid] < salary) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Loads a contribution schedule from a rate file.
+     * The file holds {@code version=} and {@code effective=} (yyyy-MM-dd) headers followed by
+     * {@code upperBound,contribution} rows and a final {@code max,contribution} row.
+     * An upper bound prefixed with {@code <} is exclusive. Blank lines and {@code #} comments are ignored.
+     * @param path Path to the rate file
+     * @return The loaded schedule
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    public static SSSContributionTable load(Path path) throws IOException {
+        String version = null;
+        LocalDate effectiveDate = null;
+        Double maxContribution = null;
+        List<double[]> rows = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+
+                try {
+                    if (line.startsWith("version=")) {
+                        version = line.substring("version=".length()).trim();
+                    } else if (line.startsWith("effective=")) {
+                        effectiveDate = LocalDate.parse(line.substring("effective=".length()).trim());
+                    } else {
+                        String[] columns = line.split(",");
+                        if (columns.length != 2) {
+                            throw new IOException(path + ":" + lineNumber + ": expected upperBound,contribution");
+                        }
+                        String bound = columns[0].trim();
+                        double contribution = Double.parseDouble(columns[1].trim());
+                        if (bound.equalsIgnoreCase("max")) {
+                            maxContribution = contribution;
+                        } else if (bound.startsWith("<")) {
+                            rows.add(new double[]{Math.nextDown(Double.parseDouble(bound.substring(1).trim())), contribution});
+                        } else {
+                            rows.add(new double[]{Double.parseDouble(bound), contribution});
+                        }
+                    }
+                } catch (NumberFormatException | DateTimeParseException e) {
+                    throw new IOException(path + ":" + lineNumber + ": " + e.getMessage(), e);
+                }
+            }
+        }
+
+        if (version == null || effectiveDate == null || maxContribution == null || rows.isEmpty()) {
+            throw new IOException(path + ": SSS rate file needs version, effective date, brackets and a max row");
+        }
+        double[] upperBounds = new double[rows.size()];
+        double[] contributions = new double[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            upperBounds[i] = rows.get(i)[0];
+            contributions[i] = rows.get(i)[1];
+        }
+        try {
+            return new SSSContributionTable(version, effectiveDate, upperBounds, contributions, maxContribution);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(path + ": " + e.getMessage(), e);
+        }
+    }
+}
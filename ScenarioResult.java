@@ -0,0 +1,50 @@
+package service;
+
+import model.PayrollRollup;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * ScenarioResult holds the payroll totals of one simulated scenario, overall and per position,
+ * together with how the scenario changed individual employees' net pay against the baseline.
+ * Amounts are in centavos, each employee's amount rounded once, as in {@link PayrollRollup}.
+ */
+public class ScenarioResult {
+    private final PayrollScenario scenario;
+    private final PayrollRollup total;
+    private final Map<String, PayrollRollup> byPosition;
+    private final long employeesAffected;
+    private final long largestIncrease;
+    private final long largestDecrease;
+    private final long computeNanos;
+
+    /**
+     * Constructor for ScenarioResult class.
+     * @param scenario Scenario that was simulated
+     * @param total Rollup of the whole roster
+     * @param byPosition Rollups by position, sorted by name
+     * @param employeesAffected Number of employees whose net pay differs from the baseline
+     * @param largestIncrease Largest rise of one employee's net pay in centavos, 0 if none
+     * @param largestDecrease Largest fall of one employee's net pay in centavos, as a negative amount, 0 if none
+     * @param computeNanos Time the workers spent computing the scenario in nanoseconds
+     */
+    ScenarioResult(PayrollScenario scenario, PayrollRollup total, Map<String, PayrollRollup> byPosition,
+                   long employeesAffected, long largestIncrease, long largestDecrease, long computeNanos) {
+        this.scenario = scenario;
+        this.total = total;
+        this.byPosition = Collections.unmodifiableMap(byPosition);
+        this.employeesAffected = employeesAffected;
+        this.largestIncrease = largestIncrease;
+        this.largestDecrease = largestDecrease;
+        this.computeNanos = computeNanos;
+    }
+
+    public PayrollScenario getScenario() { return scenario; }
+    public PayrollRollup getTotal() { return total; }
+    public Map<String, PayrollRollup> getByPosition() { return byPosition; }
+    public long getEmployeesAffected() { return employeesAffected; }
+    public long getLargestIncrease() { return largestIncrease; }
+    public long getLargestDecrease() { return largestDecrease; }
+    public long getComputeNanos() { return computeNanos; }
+}
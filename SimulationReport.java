@@ -0,0 +1,125 @@
+package service;
+
+import model.PayrollRollup;
+import utils.Money;
+import com.opencsv.CSVWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SimulationReport compares the results of what-if scenarios with the baseline they were
+ * derived from. Every delta is a scenario amount minus the baseline amount, in centavos.
+ */
+public class SimulationReport {
+    private static final String[] CSV_HEADER = {
+        "Scenario", "Position", "Employees", "Gross Salary", "Gross Delta", "Total Deductions", "Deductions Delta",
+        "Net Salary", "Net Delta"
+    };
+    private static final PayrollRollup NONE = new PayrollRollup(null);
+
+    private final ScenarioResult baseline;
+    private final List<ScenarioResult> scenarios;
+    private final long wallTimeNanos;
+
+    /**
+     * Constructor for SimulationReport class.
+     * @param baseline Result of the baseline scenario
+     * @param scenarios Results of the other scenarios, in the order they were given
+     * @param wallTimeNanos Elapsed wall time of the whole simulation in nanoseconds, every period included
+     */
+    SimulationReport(ScenarioResult baseline, List<ScenarioResult> scenarios, long wallTimeNanos) {
+        this.baseline = baseline;
+        this.scenarios = Collections.unmodifiableList(scenarios);
+        this.wallTimeNanos = wallTimeNanos;
+    }
+
+    public ScenarioResult getBaseline() { return baseline; }
+    public List<ScenarioResult> getScenarios() { return scenarios; }
+    public long getWallTimeNanos() { return wallTimeNanos; }
+
+    /**
+     * Calculates how much a scenario changes the total net pay.
+     * @param result Result of one scenario
+     * @return Scenario net pay minus baseline net pay, in centavos
+     */
+    public long getNetDelta(ScenarioResult result) {
+        return result.getTotal().getNetSalary() - baseline.getTotal().getNetSalary();
+    }
+
+    /**
+     * Calculates how much a scenario changes the total deductions.
+     * @param result Result of one scenario
+     * @return Scenario deductions minus baseline deductions, in centavos
+     */
+    public long getDeductionsDelta(ScenarioResult result) {
+        return result.getTotal().getTotalDeductions() - baseline.getTotal().getTotalDeductions();
+    }
+
+    /**
+     * Writes the totals and deltas of every scenario as CSV, one row for the whole roster and one per position.
+     * @param out Destination of the CSV output
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Writer out) throws IOException {
+        CSVWriter writer = new CSVWriter(out);
+        writer.writeNext(CSV_HEADER);
+        for (ScenarioResult result : scenarios) {
+            String name = result.getScenario().getName();
+            writer.writeNext(toRow(name, "All", result.getTotal(), baseline.getTotal()));
+            for (Map.Entry<String, PayrollRollup> position : result.getByPosition().entrySet()) {
+                PayrollRollup before = baseline.getByPosition().getOrDefault(position.getKey(), NONE);
+                writer.writeNext(toRow(name, position.getKey(), position.getValue(), before));
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes the totals and deltas of every scenario to a CSV file.
+     * @param path Path of the CSV file to write
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Path path) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeCsv(out);
+        }
+    }
+
+    private static String[] toRow(String scenario, String position, PayrollRollup after, PayrollRollup before) {
+        return new String[]{
+            scenario, position, Long.toString(after.getEmployees()),
+            Money.format(after.getGrossSalary()), Money.format(after.getGrossSalary() - before.getGrossSalary()),
+            Money.format(after.getTotalDeductions()), Money.format(after.getTotalDeductions() - before.getTotalDeductions()),
+            Money.format(after.getNetSalary()), Money.format(after.getNetSalary() - before.getNetSalary())
+        };
+    }
+
+    /**
+     * Displays the baseline and the change each scenario makes to it.
+     */
+    public void display() {
+        PayrollRollup total = baseline.getTotal();
+        System.out.println("\n📊 Payroll Simulation");
+        System.out.println("-------------------------------------------------");
+        System.out.printf("Baseline: %,d employees, gross PHP %s, deductions PHP %s, net PHP %s%n", total.getEmployees(),
+            Money.format(total.getGrossSalary()), Money.format(total.getTotalDeductions()), Money.format(total.getNetSalary()));
+        for (ScenarioResult result : scenarios) {
+            long netDelta = getNetDelta(result);
+            System.out.printf("%-32s net %16s (%+.2f%%), deductions %15s, %,9d employees changed, largest +%s / %s%n",
+                result.getScenario().getName(), Money.format(netDelta),
+                total.getNetSalary() == 0 ? 0.0 : 100.0 * netDelta / total.getNetSalary(),
+                Money.format(getDeductionsDelta(result)), result.getEmployeesAffected(),
+                Money.format(result.getLargestIncrease()), Money.format(result.getLargestDecrease()));
+        }
+        System.out.printf("Wall Time: %.3f s for %d scenarios%n", wallTimeNanos / 1_000_000_000.0, scenarios.size() + 1);
+        System.out.println("-------------------------------------------------\n");
+    }
+}
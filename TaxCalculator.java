@@ -4,9 +4,23 @@ package utils;
  * Utility class responsible for calculating withholding tax.
  * Adheres to OOP principles by encapsulating the tax calculation logic.
  * Provides accurate computation of withholding tax based on taxable income.
+ * The tax table comes from the current rate set of the default {@link RateRegistry}.
  */
 public class TaxCalculator {
 
+    /**
+     * 2023 Tax Table based on the Philippine Tax Reform for Acceleration and Inclusion (TRAIN) Law.
+     * Monthly taxable income below PHP 20,833 is exempt; each bracket after that starts at the
+     * previous bracket's threshold, e.g. PHP 1,875 plus 20% of the excess over PHP 33,333.
+     * This is the table of the built-in rate set, {@link RateSet#defaults()}.
+     */
+    public static final TaxTable TRAIN_2023 = new TaxTable(
+        new double[]{Math.nextDown(20833.0), Math.nextDown(33333.0), Math.nextDown(66667.0), Math.nextDown(166667.0), Math.nextDown(666667.0)},
+        new double[]{0.0, 0.0, 1875.00, 8541.80, 33541.80, 183541.80},
+        new double[]{0.0, 0.15, 0.20, 0.25, 0.30, 0.35},
+        new double[]{0, 20833, 33333, 66667, 166667, 666667}
+    );
+
     /**
      * Computes the withholding tax amount based on the employee's taxable income.
      *
@@ -14,6 +28,6 @@ public class TaxCalculator {
      * @return The calculated withholding tax amount.
      */
     public static double computeWithholdingTax(double taxableIncome) {
-        // 2023 Tax Table based on the Philippine Tax Reform for Acceleration and Inclusion (TRAIN) Law
-        if (taxableIncome <= 20832) return 0.0;
-        
+        return RateRegistry.getDefault().getCurrent().calculateTax(taxableIncome);
+    }
+}
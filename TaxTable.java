@@ -0,0 +1,63 @@
+package utils;
+
+/**
+ * Immutable withholding tax schedule held in primitive arrays.
+ * Each bracket charges a fixed base tax plus a rate on the income in excess of a threshold.
+ * Brackets are sorted by their inclusive upper bound; income above the last bound uses the final bracket.
+ */
+public final class TaxTable {
+    private final double[] upperBounds;
+    private final double[] baseTax;
+    private final double[] rates;
+    private final double[] excessOver;
+
+    /**
+     * Constructor for TaxTable class. The bracket arrays hold one more entry than
+     * {@code upperBounds}: the last entry applies above the last upper bound.
+     * @param upperBounds Inclusive upper bound of each bracket except the last, in ascending order
+     * @param baseTax Fixed tax of each bracket
+     * @param rates Marginal rate of each bracket
+     * @param excessOver Income threshold each bracket's rate applies above
+     */
+    public TaxTable(double[] upperBounds, double[] baseTax, double[] rates, double[] excessOver) {
+        int brackets = upperBounds.length + 1;
+        if (baseTax.length != brackets || rates.length != brackets || excessOver.length != brackets) {
+            throw new IllegalArgumentException("Tax table needs " + brackets + " base, rate and threshold entries");
+        }
+        for (int i = 1; i < upperBounds.length; i++) {
+            if (upperBounds[i] <= upperBounds[i - 1]) {
+                throw new IllegalArgumentException("Tax table bounds are not ascending at bracket " + (i + 1));
+            }
+        }
+        this.upperBounds = upperBounds.clone();
+        this.baseTax = baseTax.clone();
+        this.rates = rates.clone();
+        this.excessOver = excessOver.clone();
+    }
+
+    public int getBracketCount() { return baseTax.length; }
+    public double getUpperBound(int bracket) { return bracket < upperBounds.length ? upperBounds[bracket] : Double.POSITIVE_INFINITY; }
+    public double getBaseTax(int bracket) { return baseTax[bracket]; }
+    public double getRate(int bracket) { return rates[bracket]; }
+    public double getExcessOver(int bracket) { return excessOver[bracket]; }
+
+    /**
+     * Computes the withholding tax for a taxable income.
+     * @param taxableIncome The taxable income of the employee.
+     * @return The calculated withholding tax amount.
+     */
+    public double compute(double taxableIncome) {
+        int low = 0;
+        int high = upperBounds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (upperBounds[mid] < taxableIncome) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (rates[low] == 0) return baseTax[low];
+        return baseTax[low] + (taxableIncome - excessOver[low]) * rates[low];
+    }
+}
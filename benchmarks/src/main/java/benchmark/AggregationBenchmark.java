@@ -0,0 +1,66 @@
+package benchmark;
+
+import model.Employee;
+import model.EmployeeStore;
+import model.PayrollRollup;
+import service.ParallelPayrollEngine;
+import service.PayrollAggregation;
+import service.PayrollAggregator;
+import service.PayrollCalculator;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Compares the time of the one-pass payroll cost rollup, over an employee list and over a
+ * columnar store, with a plain parallel payroll run over the same roster, and checks that
+ * every dimension adds up to the grand total.
+ * Usage: {@code AggregationBenchmark [employees] [parallelism] [output.csv]}
+ */
+public class AggregationBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        List<Employee> employees = SyntheticEmployees.generate(size, 42);
+        double[] hours = SyntheticEmployees.generateHours(size, 42);
+        EmployeeStore store = EmployeeStore.of(employees);
+        PayrollCalculator calculator = new PayrollCalculator();
+
+        try (ParallelPayrollEngine engine = new ParallelPayrollEngine(parallelism, calculator);
+             PayrollAggregator aggregator = new PayrollAggregator(parallelism, calculator)) {
+            PayrollAggregation aggregation = null;
+            for (int round = 0; round < 10; round++) {
+                long start = System.nanoTime();
+                engine.computePayroll(employees, hours);
+                long runNanos = System.nanoTime() - start;
+
+                long listNanos = aggregator.aggregate(employees, hours).getWallTimeNanos();
+                aggregation = aggregator.aggregate(store, hours);
+                System.out.printf("Round %d: payroll run %.0f ms, with rollups from list %.0f ms (%.2fx), from store %.0f ms (%.2fx)%n",
+                    round + 1, runNanos / 1e6, listNanos / 1e6, listNanos / (double) runNanos,
+                    aggregation.getWallTimeNanos() / 1e6, aggregation.getWallTimeNanos() / (double) runNanos);
+            }
+            if (aggregation.getTotal().getNetSalary() != aggregator.aggregate(employees, hours).getTotal().getNetSalary()) {
+                System.out.println("⚠ List and store rollups differ");
+            }
+
+            for (PayrollAggregation.Dimension dimension : PayrollAggregation.Dimension.values()) {
+                long employeeCount = 0;
+                long net = 0;
+                for (PayrollRollup rollup : aggregation.getRollups(dimension).values()) {
+                    employeeCount += rollup.getEmployees();
+                    net += rollup.getNetSalary();
+                }
+                System.out.printf("%-18s %,5d groups, %s%n", dimension.getLabel(), aggregation.getRollups(dimension).size(),
+                    employeeCount == aggregation.getTotal().getEmployees() && net == aggregation.getTotal().getNetSalary()
+                        ? "adds up to the total" : "DOES NOT add up to the total");
+            }
+            aggregation.display();
+            if (args.length > 2) {
+                aggregation.writeCsv(Paths.get(args[2]));
+                System.out.println("✅ Rollups written to " + args[2]);
+            }
+        }
+    }
+}
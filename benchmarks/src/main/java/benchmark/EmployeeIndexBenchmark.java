@@ -0,0 +1,70 @@
+package benchmark;
+
+import model.Employee;
+import service.EmployeeIndex;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reports index build time and per-lookup latency against a linear scan of the roster.
+ * Usage: {@code EmployeeIndexBenchmark [employees] [lookups]}
+ */
+public class EmployeeIndexBenchmark {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int lookups = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        List<Employee> employees = SyntheticEmployees.generate(size, 42);
+
+        EmployeeIndex index = null;
+        for (int i = 0; i < 3; i++) index = new EmployeeIndex(employees); // Warm up
+        index = new EmployeeIndex(employees);
+        System.out.printf("Roster: %,d employees, index build: %.1f ms%n", size, index.getBuildTimeNanos() / 1_000_000.0);
+
+        Random random = new Random(7);
+        String[] numbers = new String[lookups];
+        String[] tins = new String[lookups];
+        String[] supervisors = new String[lookups];
+        for (int i = 0; i < lookups; i++) {
+            Employee emp = employees.get(random.nextInt(size));
+            numbers[i] = emp.getEmployeeNumber();
+            tins[i] = emp.getTinNumber();
+            supervisors[i] = emp.getSupervisor();
+        }
+
+        long found = 0;
+        for (int round = 0; round < 2; round++) {
+            long start = System.nanoTime();
+            for (String number : numbers) if (index.findByEmployeeNumber(number) != null) found++;
+            long byNumber = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (String tin : tins) if (index.findByTinNumber(tin) != null) found++;
+            long byTin = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (String supervisor : supervisors) found += index.getDirectReports(supervisor).size();
+            long bySupervisor = System.nanoTime() - start;
+
+            if (round == 1) {
+                System.out.printf("%-26s %10.1f ns%n", "Lookup by employee number", byNumber / (double) lookups);
+                System.out.printf("%-26s %10.1f ns%n", "Lookup by TIN", byTin / (double) lookups);
+                System.out.printf("%-26s %10.1f ns%n", "Direct reports", bySupervisor / (double) lookups);
+            }
+        }
+
+        int scans = Math.min(lookups, 200);
+        long start = System.nanoTime();
+        for (int i = 0; i < scans; i++) {
+            for (Employee emp : employees) {
+                if (emp.getEmployeeNumber().equals(numbers[i])) {
+                    found++;
+                    break;
+                }
+            }
+        }
+        System.out.printf("%-26s %10.1f ns%n", "Linear scan (before)", (System.nanoTime() - start) / (double) scans);
+        System.out.println("(found " + found + ")");
+    }
+}
@@ -0,0 +1,140 @@
+package benchmark;
+
+import model.Employee;
+import model.EmployeeStore;
+import model.PayrollResult;
+import service.FixedPointPayrollCalculator;
+import service.PayrollCalculator;
+import utils.Money;
+import utils.RateRegistry;
+import utils.RateSet;
+import utils.TaxTable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the double payroll path with the fixed-point centavo path.
+ * Reports the time per employee of both, and how far the double totals drift from
+ * the sum of the centavo amounts employees are actually paid. Before timing, checks that the
+ * fast half-up path gives every employee the same net pay as the general path, with today's
+ * tax table and with one that taxes the bottom bracket, which must not take the fast path.
+ * Usage: {@code FixedPointBenchmark [employees]}
+ */
+public class FixedPointBenchmark {
+    private static final int ROUNDS = 15;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Employee> employees = SyntheticEmployees.generate(size, 42);
+        double[] hours = SyntheticEmployees.generateHours(size, 42);
+        for (int i = 0; i < size; i++) hours[i] += (i % 4) * 0.25; // Quarter hours, as timesheets record them
+        EmployeeStore store = EmployeeStore.of(employees);
+
+        RateSet rates = RateRegistry.getDefault().getCurrent();
+        PayrollCalculator doubleCalculator = new PayrollCalculator(rates);
+        FixedPointPayrollCalculator fixedCalculator = new FixedPointPayrollCalculator(rates, RoundingMode.HALF_UP);
+        verifyHalfUpPath("today's tax table", fixedCalculator, employees, store, hours);
+        verifyHalfUpPath("a taxed bottom bracket",
+            new FixedPointPayrollCalculator(withTaxedBottomBracket(rates), RoundingMode.HALF_UP), employees, store, hours);
+
+        double[] doubleNet = new double[size];
+        long[] fixedNet = new long[size];
+        long[] doubleList = new long[ROUNDS];
+        long[] fixedList = new long[ROUNDS];
+        long[] doubleColumnar = new long[ROUNDS];
+        long[] fixedColumnar = new long[ROUNDS];
+        double sink = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < size; i++) sink += doubleCalculator.computeNetSalary(employees.get(i), hours[i]);
+            doubleList[round] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < size; i++) sink += fixedCalculator.computeNetSalary(employees.get(i), hours[i]);
+            fixedList[round] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            doubleCalculator.computeNetSalaries(store, hours, doubleNet);
+            doubleColumnar[round] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            sink += fixedCalculator.computeNetSalaries(store, hours, fixedNet);
+            fixedColumnar[round] = System.nanoTime() - start;
+        }
+
+        double doubleTotal = 0;
+        long roundedDoubleTotal = 0;
+        long fixedTotal = 0;
+        for (int i = 0; i < size; i++) {
+            doubleTotal += doubleNet[i];
+            roundedDoubleTotal += Math.round(doubleNet[i] * 100);
+            fixedTotal += fixedNet[i];
+        }
+
+        System.out.printf("%,d employees, rates %s%n", size, rates);
+        System.out.printf("%-22s %8.1f ns/employee%n", "double, Employee list", median(doubleList) / (double) size);
+        System.out.printf("%-22s %8.1f ns/employee%n", "fixed, Employee list", median(fixedList) / (double) size);
+        System.out.printf("%-22s %8.1f ns/employee%n", "double, columnar", median(doubleColumnar) / (double) size);
+        System.out.printf("%-22s %8.1f ns/employee%n", "fixed, columnar", median(fixedColumnar) / (double) size);
+        System.out.println("Net payroll total:");
+        System.out.printf("  fixed point (exact)        %s%n", Money.format(fixedTotal));
+        System.out.printf("  double sum                 %s%n", new BigDecimal(doubleTotal).toPlainString());
+        System.out.printf("  double, rounded per slip   %s (off by %s)%n",
+            Money.format(roundedDoubleTotal), Money.format(roundedDoubleTotal - fixedTotal));
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    /**
+     * Compares the columnar and per-employee net pay, which take the half-up path where it applies,
+     * with computePayroll, which always takes the general path. Every 50th employee works no hours,
+     * so their taxable income is negative.
+     */
+    private static void verifyHalfUpPath(String label, FixedPointPayrollCalculator calculator, List<Employee> employees,
+                                         EmployeeStore store, double[] hours) {
+        double[] withIdle = hours.clone();
+        for (int i = 0; i < withIdle.length; i += 50) withIdle[i] = 0;
+        long[] columnar = new long[employees.size()];
+        calculator.computeNetSalaries(store, withIdle, columnar);
+        PayrollResult result = new PayrollResult();
+        int mismatches = 0;
+        for (int i = 0; i < employees.size(); i++) {
+            long general = Money.ofPesos(calculator.computePayroll(employees.get(i), withIdle[i], result).getNetSalary(),
+                RoundingMode.HALF_UP);
+            if (columnar[i] != general || calculator.computeNetSalary(employees.get(i), withIdle[i]) != general) mismatches++;
+        }
+        System.out.println(mismatches == 0
+            ? "✅ Fast path matches the general path with " + label
+            : "❌ Fast path differs from the general path for " + mismatches + " employees with " + label);
+    }
+
+    /**
+     * Copies a rate set with 5% tax on the bottom bracket.
+     */
+    private static RateSet withTaxedBottomBracket(RateSet rates) {
+        TaxTable tax = rates.getTaxTable();
+        int brackets = tax.getBracketCount();
+        double[] upperBounds = new double[brackets - 1];
+        double[] baseTax = new double[brackets];
+        double[] taxRates = new double[brackets];
+        double[] excessOver = new double[brackets];
+        for (int i = 0; i < brackets; i++) {
+            if (i < brackets - 1) upperBounds[i] = tax.getUpperBound(i);
+            baseTax[i] = tax.getBaseTax(i);
+            taxRates[i] = tax.getRate(i);
+            excessOver[i] = tax.getExcessOver(i);
+        }
+        taxRates[0] = 0.05;
+        return new RateSet(rates.getVersion() + "-taxed", rates.getEffectiveDate(), rates.getSssTable(),
+            rates.getPhilHealthRate(), rates.getPhilHealthEmployeeShare(), rates.getPagIbigRate(), rates.getPagIbigCap(),
+            new TaxTable(upperBounds, baseTax, taxRates, excessOver));
+    }
+
+    private static long median(long[] times) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
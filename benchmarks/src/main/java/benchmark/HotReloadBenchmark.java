@@ -0,0 +1,109 @@
+package benchmark;
+
+import model.Employee;
+import service.EmployeeFileWatcher;
+import service.PayrollCalculator;
+import service.PayrollSystem;
+import service.Roster;
+import utils.LatencyHistogram;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures hot reloads of the employee file while payroll keeps running.
+ * A payroll thread computes the whole roster over and over, each run on the roster it took at
+ * the start, while the file is rewritten with a different number of employees. Every run must
+ * compute exactly the employees of its own snapshot, whatever the watcher published meanwhile.
+ * Finally the file is rewritten in place, and a roster taken before must read the same as after.
+ * Usage: {@code HotReloadBenchmark [employees] [reloads]}
+ */
+public class HotReloadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int rewrites = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        Path directory = Files.createTempDirectory("payroll-reload");
+        Path csv = directory.resolve("employee_data.csv");
+        SyntheticEmployees.writeCsv(csv, size, 42);
+
+        PayrollSystem payrollSystem = new PayrollSystem();
+        payrollSystem.loadEmployeeDataStreamed(csv.toString());
+        PayrollCalculator calculator = new PayrollCalculator();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong runs = new AtomicLong();
+        AtomicLong mismatches = new AtomicLong();
+        AtomicLong generationsSeen = new AtomicLong();
+        Thread payroll = new Thread(() -> {
+            long lastGeneration = -1;
+            while (running.get()) {
+                Roster roster = payrollSystem.getRoster();
+                int computed = 0;
+                for (Employee employee : roster.getEmployees()) {
+                    calculator.computeNetSalary(employee, 160);
+                    computed++;
+                }
+                if (computed != roster.size()) mismatches.incrementAndGet();
+                if (roster.getGeneration() != lastGeneration) generationsSeen.incrementAndGet();
+                lastGeneration = roster.getGeneration();
+                runs.incrementAndGet();
+            }
+        }, "payroll");
+
+        try (EmployeeFileWatcher watcher = EmployeeFileWatcher.start(payrollSystem, csv.toString())) {
+            payroll.start();
+            for (int i = 1; i <= rewrites; i++) {
+                int employees = size + (i % 2 == 0 ? 0 : size / 10);
+                long expected = payrollSystem.getRoster().getGeneration() + 1;
+                // Replace the file in one step, as an export should, so the watcher never reads half a file
+                Path next = directory.resolve("employee_data.csv.tmp");
+                SyntheticEmployees.writeCsv(next, employees, 42 + i);
+                Files.move(next, csv, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                while (payrollSystem.getRoster().getGeneration() < expected) Thread.sleep(10);
+                if (payrollSystem.getRoster().size() != employees) {
+                    System.out.printf("⚠ Generation %d has %,d employees, expected %,d%n",
+                        payrollSystem.getRoster().getGeneration(), payrollSystem.getRoster().size(), employees);
+                }
+            }
+            running.set(false);
+            payroll.join();
+
+            LatencyHistogram latency = watcher.getReloadLatency();
+            System.out.printf("📊 %d reloads (%d failed), now at generation %d%n",
+                watcher.getReloads(), watcher.getFailures(), payrollSystem.getRoster().getGeneration());
+            System.out.printf("   Last change to publish: mean %d ms, p50 %d ms, max %d ms (includes the settle time)%n",
+                latency.getMeanNanos() / 1_000_000, latency.getPercentileNanos(0.50) / 1_000_000,
+                latency.getMaxNanos() / 1_000_000);
+            System.out.printf("   %d payroll runs over %d generations, %d ran on a changed roster%n",
+                runs.get(), generationsSeen.get(), mismatches.get());
+
+            // A careless export rewrites the file in place; a roster already taken must not change.
+            // The watcher may publish half a file on the way, so wait for the whole of it
+            Roster held = payrollSystem.getRoster();
+            String before = describe(held);
+            SyntheticEmployees.writeCsv(csv, size / 2, 7);
+            while (payrollSystem.getRoster().size() != size / 2) Thread.sleep(10);
+            System.out.println(describe(held).equals(before)
+                ? "✅ Roster taken before an in-place rewrite is unchanged"
+                : "❌ Roster taken before an in-place rewrite changed");
+        } finally {
+            Files.deleteIfExists(csv);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Summarises the text of every employee of a roster, to tell whether the roster changed.
+     */
+    private static String describe(Roster roster) {
+        int hash = 0;
+        for (Employee employee : roster.getEmployees()) {
+            hash = 31 * hash + (employee.getEmployeeNumber() + employee.getFullName() + employee.getPosition()).hashCode();
+        }
+        return roster.size() + "/" + hash;
+    }
+}
@@ -0,0 +1,199 @@
+package benchmark;
+
+import model.Employee;
+import model.PayrollResult;
+import service.JournalRunSummary;
+import service.JournaledPayrollRun;
+import service.PayrollCalculator;
+import service.PayrollJournal;
+import utils.PayslipWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Measures what the write-ahead journal costs a payroll run and checks that a run resumed
+ * after a crash issues every payslip exactly once.
+ * The plain run computes every employee and writes the payslips to one file; the journaled
+ * runs do the same and also journal every result and payslip-issued marker, forcing the
+ * journal to disk every batch. A batch of 1 forces after every employee and only runs over
+ * part of the roster. The crash test cuts a finished journal at a random byte, resumes the
+ * run and compares the compacted ledger and the payslips, in one batched file or one file per
+ * employee, with those of an uninterrupted run. Finally a roster that repeats an employee
+ * number must be rejected before anything is journaled.
+ * Usage: {@code JournalBenchmark [employees] [crashes]}
+ */
+public class JournalBenchmark {
+    private static final String PERIOD = "2024-06";
+    private static final int FSYNC_EACH_LIMIT = 5_000;
+    private static final int CRASH_TEST_EMPLOYEES = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int crashes = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        List<Employee> employees = SyntheticEmployees.generate(size, 42);
+        double[] hours = SyntheticEmployees.generateHours(size, 42);
+        PayrollCalculator calculator = new PayrollCalculator();
+        Path directory = Files.createTempDirectory("payroll-journal");
+
+        try {
+            for (int round = 0; round < 3; round++) {
+                System.out.printf("Round %d:%n", round + 1);
+                long plainNanos = plainRun(employees, hours, calculator, directory.resolve("payslips.txt"));
+                System.out.printf("  %-22s %,10.0f employees/s%n", "Plain run", size / (plainNanos / 1e9));
+                for (int batchSize : new int[]{1, 64, 1024}) {
+                    int count = batchSize == 1 ? Math.min(size, FSYNC_EACH_LIMIT) : size;
+                    JournalRunSummary summary = journaledRun(employees.subList(0, count), Arrays.copyOf(hours, count),
+                        calculator, batchSize, directory);
+                    System.out.printf("  %-22s %,10.0f employees/s (%.2fx plain), journal %.1f MB/s, %d syncs, %.0f%% of run in sync%n",
+                        "Journaled, batch " + batchSize, summary.getEmployeesPerSecond(),
+                        summary.getEmployeesPerSecond() / (size / (plainNanos / 1e9)),
+                        summary.getJournalMegabytesPerSecond(), summary.getJournalSyncs(),
+                        100.0 * summary.getSyncNanos() / summary.getWallTimeNanos());
+                }
+            }
+            crashTest(employees.subList(0, Math.min(size, CRASH_TEST_EMPLOYEES)), calculator, crashes, directory);
+            duplicateTest(employees.subList(0, Math.min(size, 100)), calculator, directory);
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private static long plainRun(List<Employee> employees, double[] hours, PayrollCalculator calculator,
+                                 Path payslipFile) throws IOException {
+        long start = System.nanoTime();
+        PayrollResult scratch = new PayrollResult();
+        try (PayslipWriter payslips = PayslipWriter.toFile(payslipFile)) {
+            for (int i = 0; i < employees.size(); i++) {
+                payslips.write(calculator.computePayroll(employees.get(i), hours[i], scratch));
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static JournalRunSummary journaledRun(List<Employee> employees, double[] hours, PayrollCalculator calculator,
+                                                  int batchSize, Path directory) throws IOException {
+        Path journalPath = directory.resolve("payroll.journal");
+        Files.deleteIfExists(journalPath);
+        try (PayrollJournal journal = PayrollJournal.open(journalPath, PERIOD);
+             PayslipWriter payslips = PayslipWriter.toFile(directory.resolve("payslips.txt"))) {
+            return new JournaledPayrollRun(calculator, batchSize).run(employees, hours, journal, payslips);
+        }
+    }
+
+    /**
+     * Checks that a roster repeating an employee number is rejected before anything is journaled,
+     * rather than having the second employee with that number skipped as already issued.
+     */
+    private static void duplicateTest(List<Employee> employees, PayrollCalculator calculator, Path directory)
+            throws IOException {
+        List<Employee> roster = new ArrayList<>(employees);
+        roster.add(employees.get(0));
+        try (PayrollJournal journal = PayrollJournal.open(directory.resolve("duplicate.journal"), PERIOD)) {
+            try {
+                new JournaledPayrollRun(calculator).run(roster, new double[roster.size()], journal, null);
+                System.out.println("❌ A roster with a repeated employee number was run");
+            } catch (IllegalArgumentException e) {
+                System.out.println(journal.getRecordsWritten() == 0
+                    ? "✅ Repeated employee number rejected before the run: " + e.getMessage()
+                    : "❌ Repeated employee number rejected after journaling");
+            }
+        }
+    }
+
+    private static void crashTest(List<Employee> employees, PayrollCalculator calculator, int crashes,
+                                  Path directory) throws IOException {
+        double[] hours = SyntheticEmployees.generateHours(employees.size(), 42);
+        JournaledPayrollRun run = new JournaledPayrollRun(calculator, 64);
+
+        Path cleanJournal = directory.resolve("clean.journal");
+        Path cleanLedger = directory.resolve("clean-ledger.csv");
+        Path cleanPayslips = directory.resolve("clean-payslips.txt");
+        try (PayrollJournal journal = PayrollJournal.open(cleanJournal, PERIOD);
+             PayslipWriter payslips = PayslipWriter.toFile(cleanPayslips)) {
+            run.run(employees, hours, journal, payslips);
+            journal.compact(cleanLedger);
+        }
+        byte[] expectedLedger = Files.readAllBytes(cleanLedger);
+        byte[] expectedPayslips = Files.readAllBytes(cleanPayslips);
+
+        Random random = new Random(7);
+        int passed = 0;
+        for (int crash = 1; crash <= crashes; crash++) {
+            // Alternate between one batched payslip file and a file per employee
+            boolean batched = crash % 2 == 1;
+            Path journalPath = directory.resolve("crashed.journal");
+            Path payslipPath = directory.resolve(batched ? "payslips-" + crash + ".txt" : "payslips-" + crash);
+            try (PayrollJournal journal = PayrollJournal.open(journalPath, PERIOD);
+                 PayslipWriter payslips = batched ? PayslipWriter.toFile(payslipPath) : PayslipWriter.toDirectory(payslipPath)) {
+                run.run(employees, hours, journal, payslips);
+            }
+
+            // Pretend the process died part way: keep a random prefix of the journal, usually mid-record.
+            // Payslips written after the cut stay behind, as they would after a crash
+            long cut;
+            try (RandomAccessFile file = new RandomAccessFile(journalPath.toFile(), "rw")) {
+                cut = 1 + (long) (random.nextDouble() * (file.length() - 1));
+                file.setLength(cut);
+            }
+
+            Path ledger = directory.resolve("ledger-" + crash + ".csv");
+            JournalRunSummary summary;
+            try (PayrollJournal journal = PayrollJournal.open(journalPath, PERIOD);
+                 PayslipWriter payslips = batched
+                     ? PayslipWriter.resumeFile(payslipPath, journal.getPayslipFileLength())
+                     : PayslipWriter.toDirectory(payslipPath)) {
+                summary = run.run(employees, hours, journal, payslips);
+                journal.compact(ledger);
+            }
+            byte[] payslipBytes = batched ? Files.readAllBytes(payslipPath) : concatenate(payslipPath, employees);
+            boolean ledgerMatches = Arrays.equals(expectedLedger, Files.readAllBytes(ledger));
+            boolean payslipsMatch = Arrays.equals(expectedPayslips, payslipBytes);
+            boolean ok = summary.getEmployeesComputed() + summary.getEmployeesSkipped() == employees.size()
+                && ledgerMatches && payslipsMatch;
+            if (ok) passed++;
+            System.out.printf("Crash %d (%s): cut at byte %,d, resumed with %,d skipped and %,d recomputed, ledger %s, payslips %s%n",
+                crash, batched ? "payslip file" : "payslip directory", cut, summary.getEmployeesSkipped(),
+                summary.getEmployeesComputed(), ledgerMatches ? "matches" : "DIFFERS", payslipsMatch ? "match" : "DIFFER");
+            Files.delete(journalPath);
+        }
+        System.out.printf("%s %d of %d resumed runs produced the same ledger and payslips as an uninterrupted run%n",
+            passed == crashes ? "✅" : "❌", passed, crashes);
+    }
+
+    /**
+     * Joins the payslip files of a directory in roster order; a missing file fails the comparison.
+     */
+    private static byte[] concatenate(Path payslipDirectory, List<Employee> employees) throws IOException {
+        long files;
+        try (Stream<Path> listing = Files.list(payslipDirectory)) {
+            files = listing.count();
+        }
+        if (files != employees.size()) return new byte[0];
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Employee employee : employees) {
+            Path file = payslipDirectory.resolve("payslip_" + employee.getEmployeeNumber() + ".txt");
+            if (!Files.exists(file)) return new byte[0];
+            out.write(Files.readAllBytes(file));
+        }
+        return out.toByteArray();
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(path)) {
+                for (Path child : children) deleteRecursively(child);
+            }
+        }
+        Files.deleteIfExists(path);
+    }
+}
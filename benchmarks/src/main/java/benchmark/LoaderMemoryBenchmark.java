@@ -0,0 +1,80 @@
+package benchmark;
+
+import model.Employee;
+import service.PayrollCalculator;
+import service.PayrollSystem;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+/**
+ * Compares peak heap and time of loading the whole roster with streaming it.
+ * Run each mode in its own JVM with the same -Xmx so the peaks do not influence each other.
+ * Usage: {@code LoaderMemoryBenchmark <eager|stream> [rows] [csvPath]}
+ */
+public class LoaderMemoryBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String mode = args.length > 0 ? args[0] : "stream";
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        Path csv = Paths.get(args.length > 2 ? args[2] : "synthetic_employees_" + rows + ".csv");
+
+        if (!Files.exists(csv)) {
+            System.out.printf("Writing %,d synthetic rows to %s%n", rows, csv);
+            SyntheticEmployees.writeCsv(csv, rows, 42);
+        }
+
+        PayrollSystem payrollSystem = new PayrollSystem();
+        PayrollCalculator calculator = new PayrollCalculator();
+        System.gc();
+        resetPeakHeap();
+
+        long start = System.nanoTime();
+        double totalNet = 0;
+        long count = 0;
+        if (mode.equals("eager")) {
+            payrollSystem.loadEmployeeData(csv.toString());
+            for (Employee emp : payrollSystem.getEmployees()) {
+                totalNet += calculator.computeNetSalary(emp, 160);
+                count++;
+            }
+        } else {
+            try (Stream<Employee> employees = payrollSystem.streamEmployeeData(csv.toString())) {
+                for (Employee emp : (Iterable<Employee>) employees::iterator) {
+                    totalNet += calculator.computeNetSalary(emp, 160);
+                    count++;
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("Mode: %s, rows: %,d, time: %.2f s, peak heap: %,d MB (net total %.2f)%n",
+            mode, count, elapsed / 1_000_000_000.0, peakHeap() / (1024 * 1024), totalNet);
+    }
+
+    /**
+     * Resets the peak usage of every heap memory pool.
+     */
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+        }
+    }
+
+    /**
+     * Sums the peak usage of every heap memory pool since the last reset.
+     * @return Peak heap usage in bytes
+     */
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) peak += pool.getPeakUsage().getUsed();
+        }
+        return peak;
+    }
+}
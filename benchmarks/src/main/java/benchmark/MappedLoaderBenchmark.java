@@ -0,0 +1,147 @@
+package benchmark;
+
+import model.Employee;
+import service.PayrollSystem;
+import com.opencsv.exceptions.CsvException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Compares the opencsv loader with the memory-mapped loader at 100k and 1M rows.
+ * Checks that both loaders produce the same employees before timing them, first on small files
+ * with quoting the mapped loader splits itself and quoting it leaves to opencsv.
+ * Usage: {@code MappedLoaderBenchmark [rows...]}
+ */
+public class MappedLoaderBenchmark {
+    private static final int ROUNDS = 5;
+    private static final String HEADER = "Employee #,Last Name,First Name,Birthday,Address,Phone Number,TIN #,SSS #,"
+        + "Philhealth #,Pag-ibig #,Status,Position,Immediate Supervisor,Basic Salary,Rice Subsidy,"
+        + "Phone Allowance,Clothing Allowance,Gross Semi-monthly Rate,Hourly Rate\n";
+
+    public static void main(String[] args) throws Exception {
+        Logger.getLogger(PayrollSystem.class.getName()).setLevel(Level.SEVERE);
+        int[] sizes = args.length > 0
+            ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+            : new int[]{100_000, 1_000_000};
+        verifyQuoting();
+
+        for (int rows : sizes) {
+            Path csv = Paths.get("synthetic_employees_" + rows + ".csv");
+            if (!Files.exists(csv)) SyntheticEmployees.writeCsv(csv, rows, 42);
+
+            List<Employee> loaded = load(csv, true);
+            verify(load(csv, false), loaded);
+            if (!loaded.isEmpty() && loaded.get(0).getClass() == Employee.class) {
+                throw new IllegalStateException(csv + " was not split by the mapped loader");
+            }
+
+            long[] opencsv = new long[ROUNDS];
+            long[] mapped = new long[ROUNDS];
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                load(csv, false);
+                opencsv[round] = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                List<Employee> employees = load(csv, true);
+                double total = 0;
+                for (Employee emp : employees) total += emp.getBasicSalary(); // Touch the parsed amounts
+                mapped[round] = System.nanoTime() - start;
+                if (total < 0) System.out.println(total);
+            }
+            Arrays.sort(opencsv);
+            Arrays.sort(mapped);
+            double opencsvMillis = opencsv[ROUNDS / 2] / 1_000_000.0;
+            double mappedMillis = mapped[ROUNDS / 2] / 1_000_000.0;
+            System.out.printf("%,10d rows  opencsv %9.1f ms  mapped %9.1f ms  speedup %5.2fx%n",
+                rows, opencsvMillis, mappedMillis, opencsvMillis / mappedMillis);
+        }
+    }
+
+    /**
+     * Loads small files with tricky quoting through both loaders and checks they agree, field by field.
+     * The first file stays within the quoting the mapped loader splits itself; each of the others
+     * needs opencsv's own rules, and the last one is rejected by opencsv, so both loaders must fail.
+     */
+    private static void verifyQuoting() throws Exception {
+        String plain = row("\"10001\"", "\"Garcia\"", "\"Valero \"\"Carpark\"\", Makati\"")
+            + row("10002", "\"Lim\"", "\"Line one\nLine two\"") + row("10003", "Aquino", "\"\"") + "short,row\n";
+        String[][] cases = {
+            {"plain", plain},
+            {"backslash escape", plain + row("10004", "\"Reyes\"", "\"Quezon \\\"City\\\"\"")},
+            {"text after closing quote", plain + row("10005", "\"Dela\" Cruz", "Pasig")},
+            {"space before opening quote", plain + row("10006", " \"Santos\"", "Taguig")},
+            {"carriage return inside quotes", plain + row("10007", "Tan", "\"Line one\r\nLine two\"")},
+        };
+        Path csv = Files.createTempFile("quoting", ".csv");
+        try {
+            for (String[] quoting : cases) {
+                Files.write(csv, (HEADER + quoting[1]).getBytes(StandardCharsets.UTF_8));
+                List<Employee> mapped = load(csv, true);
+                verify(load(csv, false), mapped);
+                boolean split = mapped.get(0).getClass() != Employee.class;
+                if (split != (quoting == cases[0])) {
+                    throw new IllegalStateException("Quoting case \"" + quoting[0] + "\" was "
+                        + (split ? "" : "not ") + "split by the mapped loader");
+                }
+            }
+
+            Files.write(csv, (HEADER + plain + row("10008", "O\"Neil", "Manila")).getBytes(StandardCharsets.UTF_8));
+            for (boolean mapped : new boolean[]{false, true}) {
+                try {
+                    load(csv, mapped);
+                    throw new IllegalStateException("An unterminated quote was accepted by the "
+                        + (mapped ? "mapped" : "opencsv") + " loader");
+                } catch (IOException | CsvException e) {
+                    // Rejected, as expected
+                }
+            }
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+        System.out.printf("✅ Both loaders agree on %d quoting cases and reject an unterminated quote%n", cases.length);
+    }
+
+    /**
+     * Builds one employee row with the given employee number, last name and address as raw CSV text.
+     */
+    private static String row(String number, String lastName, String address) {
+        return number + "," + lastName + ",Ana,01/01/1990," + address + ",0917-000-0000,123-456-789-000,"
+            + "34-1234567-8,123456789012,123456789012,Regular,HR Manager,N/A,\"90,000\",1500,2000,1000,500,1000\n";
+    }
+
+    /**
+     * Loads a file with one of the two loaders.
+     */
+    private static List<Employee> load(Path csv, boolean mapped) throws Exception {
+        PayrollSystem payrollSystem = new PayrollSystem();
+        if (mapped) {
+            payrollSystem.loadEmployeeDataMapped(csv.toString());
+        } else {
+            payrollSystem.loadEmployeeData(csv.toString());
+        }
+        return payrollSystem.getEmployees();
+    }
+
+    /**
+     * Checks that both loaders produced the same employees.
+     */
+    private static void verify(List<Employee> expected, List<Employee> actual) {
+        if (expected.size() != actual.size()) {
+            throw new IllegalStateException("Loaded " + actual.size() + " employees, expected " + expected.size());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            if (!expected.get(i).toString().equals(actual.get(i).toString())) {
+                throw new IllegalStateException("Employee " + i + " differs:\n" + expected.get(i) + "\n" + actual.get(i));
+            }
+        }
+    }
+}
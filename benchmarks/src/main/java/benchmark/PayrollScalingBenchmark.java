@@ -0,0 +1,71 @@
+package benchmark;
+
+import model.Employee;
+import service.ParallelPayrollEngine;
+import service.PayrollRun;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures how the parallel payroll engine scales from one core to every available core.
+ * Also checks that every parallelism level produces byte-identical output.
+ * Usage: {@code PayrollScalingBenchmark [employees] [iterations]}
+ */
+public class PayrollScalingBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int maxParallelism = Runtime.getRuntime().availableProcessors();
+
+        List<Employee> employees = SyntheticEmployees.generate(size, 42);
+        double[] hours = SyntheticEmployees.generateHours(size, 42);
+
+        System.out.printf("Roster: %,d employees, %d iterations per level%n", size, iterations);
+        System.out.printf("%-12s %14s %16s %10s %10s%n", "Parallelism", "Median (ms)", "Employees/s", "Speedup", "Output");
+
+        String baselineOutput = null;
+        double baselineMillis = 0;
+        for (int parallelism = 1; parallelism <= maxParallelism; parallelism = nextLevel(parallelism, maxParallelism)) {
+            try (ParallelPayrollEngine engine = new ParallelPayrollEngine(parallelism)) {
+                // Warm up so the JIT has compiled the calculators before timing
+                for (int i = 0; i < 3; i++) engine.computePayroll(employees, hours);
+
+                long[] samples = new long[iterations];
+                PayrollRun run = null;
+                for (int i = 0; i < iterations; i++) {
+                    long start = System.nanoTime();
+                    run = engine.computePayroll(employees, hours);
+                    samples[i] = System.nanoTime() - start;
+                }
+                Arrays.sort(samples);
+                double medianMillis = samples[iterations / 2] / 1_000_000.0;
+
+                StringWriter output = new StringWriter();
+                run.writeCsv(output);
+                if (baselineOutput == null) {
+                    baselineOutput = output.toString();
+                    baselineMillis = medianMillis;
+                }
+
+                System.out.printf("%-12d %14.2f %,16.0f %9.2fx %10s%n", parallelism, medianMillis,
+                    size / (medianMillis / 1000.0), baselineMillis / medianMillis,
+                    baselineOutput.equals(output.toString()) ? "identical" : "DIFFERS");
+            }
+        }
+    }
+
+    /**
+     * Doubles the parallelism level, finishing exactly on the number of available cores.
+     * @param parallelism Current level
+     * @param maxParallelism Number of available cores
+     * @return Next level to measure, or a value above the maximum when done
+     */
+    private static int nextLevel(int parallelism, int maxParallelism) {
+        if (parallelism == maxParallelism) return maxParallelism + 1;
+        return Math.min(parallelism * 2, maxParallelism);
+    }
+}
@@ -0,0 +1,127 @@
+package benchmark;
+
+import service.PayrollCalculator;
+import service.PayrollHttpServer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Load-tests the payroll HTTP service on the local machine and reports latency percentiles.
+ * A synthetic roster is written to a temporary file and served on a free port; concurrent
+ * clients then call each endpoint, and the single-employee phase is repeated while the roster
+ * is reloaded every quarter second to show that reloads do not stall requests.
+ * Usage: {@code PayrollServiceLoadTest [employees] [clients] [requestsPerClient]}
+ */
+public class PayrollServiceLoadTest {
+    private static final long RELOAD_INTERVAL_MILLIS = 250;
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+        // Serve the way Main --serve does
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+
+        Path directory = Files.createTempDirectory("payroll-load");
+        Path employeeFile = directory.resolve("employee_data.csv");
+        SyntheticEmployees.writeCsv(employeeFile, size, 42);
+
+        try (PayrollHttpServer server = new PayrollHttpServer(employeeFile.toString(), new PayrollCalculator(), 0);
+             ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            server.start();
+            String base = "http://localhost:" + server.getPort();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clientThreads).build();
+            IntFunction<String> employeePayroll = i -> base + "/employees/" + randomEmployee(size) + "/payroll?hours=" + (120 + i % 81);
+            IntFunction<String> employeePayslip = i -> base + "/employees/" + randomEmployee(size) + "/payslip?hours=160";
+            IntFunction<String> teamPayroll = i -> base + "/payroll?hours=160&position=HR+Manager&status=Regular";
+
+            System.out.printf("📊 %,d employees, %d clients x %d requests%n", size, clients, requests);
+            run("warm-up", client, clientThreads, clients, requests, employeePayroll);
+            run("employee payroll", client, clientThreads, clients, requests, employeePayroll);
+            run("employee payslip", client, clientThreads, clients, requests, employeePayslip);
+            run("position payroll", client, clientThreads, clients, Math.max(1, requests / 50), teamPayroll);
+            run("full roster stream", client, clientThreads, Math.min(clients, 4), 2, i -> base + "/payroll?hours=160");
+
+            AtomicBoolean reloading = new AtomicBoolean(true);
+            AtomicInteger reloads = new AtomicInteger();
+            Future<?> reloader = clientThreads.submit(() -> {
+                HttpRequest reload = HttpRequest.newBuilder(URI.create(base + "/roster/reload"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build();
+                while (reloading.get()) {
+                    client.send(reload, HttpResponse.BodyHandlers.discarding());
+                    reloads.incrementAndGet();
+                    Thread.sleep(RELOAD_INTERVAL_MILLIS);
+                }
+                return null;
+            });
+            run("payroll during reloads", client, clientThreads, clients, requests, employeePayroll);
+            reloading.set(false);
+            reloader.get();
+            System.out.printf("   %d reloads completed, now serving generation %d%n",
+                reloads.get(), server.getRoster().getGeneration());
+        } finally {
+            Files.deleteIfExists(employeeFile);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static String randomEmployee(int size) {
+        return String.valueOf(10001 + ThreadLocalRandom.current().nextInt(size));
+    }
+
+    /**
+     * Runs one phase: every client sends its requests back to back, and each latency is kept
+     * so percentiles are exact.
+     */
+    private static void run(String phase, HttpClient client, ExecutorService clientThreads, int clients, int requests,
+                            IntFunction<String> uri) throws Exception {
+        long[][] latencies = new long[clients][requests];
+        AtomicInteger failures = new AtomicInteger();
+        long[] bytes = new long[clients];
+        List<Future<?>> running = new ArrayList<>(clients);
+        long start = System.nanoTime();
+        for (int c = 0; c < clients; c++) {
+            int clientIndex = c;
+            running.add(clientThreads.submit(() -> {
+                for (int i = 0; i < requests; i++) {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(uri.apply(i))).build();
+                    long sent = System.nanoTime();
+                    HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    latencies[clientIndex][i] = System.nanoTime() - sent;
+                    bytes[clientIndex] += response.body().length;
+                    if (response.statusCode() != 200) failures.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : running) future.get();
+        long wall = System.nanoTime() - start;
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("%-24s %,9.0f req/s  p50 %7.2f ms  p90 %7.2f ms  p99 %7.2f ms  max %8.2f ms  %,7.1f MB  %d failed%n",
+            phase, all.length / (wall / 1e9), percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99),
+            all[all.length - 1] / 1e6, Arrays.stream(bytes).sum() / 1e6, failures.get());
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,104 @@
+package benchmark;
+
+import model.Employee;
+import model.PayrollResult;
+import service.PayrollCalculator;
+import utils.PayslipGenerator;
+import utils.PayslipRenderer;
+import utils.PayslipWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Compares payslips per second of the printf-based generator with the buffered renderer.
+ * Both write to files so console speed does not distort the result, and the renderer's
+ * output is checked against the generator's before timing.
+ * Usage: {@code PayslipBenchmark [employees]}
+ */
+public class PayslipBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        List<Employee> employees = SyntheticEmployees.generate(size, 42);
+        double[] hours = SyntheticEmployees.generateHours(size, 42);
+        PayrollCalculator calculator = new PayrollCalculator();
+        PayrollResult[] results = new PayrollResult[size];
+        for (int i = 0; i < size; i++) {
+            results[i] = calculator.computePayroll(employees.get(i), hours[i]);
+        }
+
+        verifyAmounts();
+        verify(results);
+
+        PrintStream console = System.out;
+        Path printfFile = Paths.get("payslips_printf.txt");
+        Path rendererFile = Paths.get("payslips_renderer.txt");
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            try (PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(printfFile.toFile()), 1 << 16),
+                    false, StandardCharsets.UTF_8.name())) {
+                System.setOut(out);
+                for (PayrollResult result : results) PayslipGenerator.generatePayslip(result);
+            } finally {
+                System.setOut(console);
+            }
+            long printfNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            try (PayslipWriter writer = PayslipWriter.toFile(rendererFile)) {
+                for (PayrollResult result : results) writer.write(result);
+            }
+            long rendererNanos = System.nanoTime() - start;
+
+            System.out.printf("Round %d: printf %,.0f payslips/s, renderer %,.0f payslips/s (%.1fx)%n", round + 1,
+                size / (printfNanos / 1e9), size / (rendererNanos / 1e9), printfNanos / (double) rendererNanos);
+        }
+        System.out.println("Output identical: " + Files.mismatch(printfFile, rendererFile));
+    }
+
+    /**
+     * Checks the renderer's amount formatting against printf on values the synthetic roster
+     * may not produce: zeros of both signs, rounding ties, tiny negatives and huge amounts.
+     */
+    private static void verifyAmounts() {
+        double[] amounts = {0.0, -0.0, -0.001, 0.005, 1.005, 2.675, 0.125, -1234.5, 99.995, 1e15, 123456789.01};
+        StringBuilder rendered = new StringBuilder();
+        for (double amount : amounts) {
+            rendered.setLength(0);
+            PayslipRenderer.appendFixed2(rendered, amount, 12);
+            if (!String.format("%12.2f", amount).contentEquals(rendered)) {
+                throw new IllegalStateException("Amount " + amount + " renders as \"" + rendered + "\"");
+            }
+        }
+    }
+
+    /**
+     * Checks the renderer against the printf generator for every result.
+     */
+    private static void verify(PayrollResult[] results) throws Exception {
+        PrintStream console = System.out;
+        StringBuilder rendered = new StringBuilder();
+        for (PayrollResult result : results) {
+            ByteArrayOutputStream captured = new ByteArrayOutputStream();
+            System.setOut(new PrintStream(captured, true, StandardCharsets.UTF_8.name()));
+            try {
+                PayslipGenerator.generatePayslip(result);
+            } finally {
+                System.setOut(console);
+            }
+            rendered.setLength(0);
+            PayslipRenderer.render(result, rendered);
+            if (!captured.toString(StandardCharsets.UTF_8.name()).contentEquals(rendered)) {
+                throw new IllegalStateException("Renderer output differs for employee " + result.getEmployee().getEmployeeNumber());
+            }
+        }
+    }
+}
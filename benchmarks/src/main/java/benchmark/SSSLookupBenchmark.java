@@ -0,0 +1,111 @@
+package benchmark;
+
+import utils.SSSCalculator;
+import utils.SSSContributionTable;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Compares the table-driven SSS lookup with the original if-chain.
+ * Checks the table against points of the published 2023 schedule, then checks that both
+ * lookups agree on every probed salary below {@link #LEGACY_LIMIT} before timing them.
+ * Usage: {@code SSSLookupBenchmark [rateFile]}
+ */
+public class SSSLookupBenchmark {
+    private static final int SALARIES = 1 << 20;
+    private static final int ROUNDS = 15;
+
+    /**
+     * Salaries below which the original if-chain is known; lookups are compared and timed below it.
+     */
+    public static final int LEGACY_LIMIT = 13_750;
+
+    /**
+     * Salary and employee contribution pairs from the published 2023 schedule, above the
+     * known if-chain and at its edges.
+     */
+    private static final double[][] PUBLISHED_2023 = {
+        {4249.99, 180.00}, {4250.00, 202.50}, {13749.99, 607.50}, {13750.00, 630.00},
+        {20249.99, 900.00}, {20250.00, 922.50}, {24749.99, 1102.50}, {24750.00, 1125.00},
+        {29749.99, 1327.50}, {29750.00, 1350.00}, {100000.00, 1350.00}
+    };
+
+    public static void main(String[] args) throws Exception {
+        SSSContributionTable table = args.length > 0
+            ? SSSContributionTable.load(Paths.get(args[0]))
+            : SSSCalculator.getTable(LocalDate.of(2023, 1, 1));
+
+        for (double[] point : PUBLISHED_2023) {
+            if (table.getContribution(point[0]) != point[1]) {
+                throw new IllegalStateException("Contribution at salary " + point[0] + " is "
+                    + table.getContribution(point[0]) + ", the 2023 schedule says " + point[1]);
+            }
+        }
+
+        Random random = new Random(42);
+        double[] salaries = new double[SALARIES];
+        for (int i = 0; i < SALARIES; i++) {
+            salaries[i] = random.nextInt(LEGACY_LIMIT * 100) / 100.0;
+        }
+
+        for (double salary : salaries) {
+            if (table.getContribution(salary) != legacyContribution(salary)) {
+                throw new IllegalStateException("Lookup mismatch at salary " + salary);
+            }
+        }
+
+        double sink = 0;
+        long[] legacy = new long[ROUNDS];
+        long[] tableDriven = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (double salary : salaries) sink += legacyContribution(salary);
+            legacy[round] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (double salary : salaries) sink += table.getContribution(salary);
+            tableDriven[round] = System.nanoTime() - start;
+        }
+        Arrays.sort(legacy);
+        Arrays.sort(tableDriven);
+
+        System.out.printf("Table %s (effective %s), %d brackets, %,d salaries below PHP %,d%n",
+            table.getVersion(), table.getEffectiveDate(), table.getBracketCount(), SALARIES, LEGACY_LIMIT);
+        System.out.printf("%-14s %10.2f ns/lookup%n", "if-chain", legacy[ROUNDS / 2] / (double) SALARIES);
+        System.out.printf("%-14s %10.2f ns/lookup%n", "table lookup", tableDriven[ROUNDS / 2] / (double) SALARIES);
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    /**
+     * The 2023 if-chain that SSSCalculator used before it became table-driven, as far as it
+     * survives in the original source: the chain breaks off after the PHP 13,749.99 bracket.
+     * @param salary The employee's gross monthly salary, below {@link #LEGACY_LIMIT}.
+     * @return The contribution from the original chain of comparisons.
+     */
+    public static double legacyContribution(double salary) {
+        if (salary < 4250) return 180.00;
+        if (salary <= 4749.99) return 202.50;
+        if (salary <= 5249.99) return 225.00;
+        if (salary <= 5749.99) return 247.50;
+        if (salary <= 6249.99) return 270.00;
+        if (salary <= 6749.99) return 292.50;
+        if (salary <= 7249.99) return 315.00;
+        if (salary <= 7749.99) return 337.50;
+        if (salary <= 8249.99) return 360.00;
+        if (salary <= 8749.99) return 382.50;
+        if (salary <= 9249.99) return 405.00;
+        if (salary <= 9749.99) return 427.50;
+        if (salary <= 10249.99) return 450.00;
+        if (salary <= 10749.99) return 472.50;
+        if (salary <= 11249.99) return 495.00;
+        if (salary <= 11749.99) return 517.50;
+        if (salary <= 12249.99) return 540.00;
+        if (salary <= 12749.99) return 562.50;
+        if (salary <= 13249.99) return 585.00;
+        if (salary <= 13749.99) return 607.50;
+        throw new IllegalArgumentException("The original if-chain ends below PHP 13,750: " + salary);
+    }
+}
@@ -0,0 +1,136 @@
+package benchmark;
+
+import model.Employee;
+import model.EmployeeStore;
+import service.MultiPeriodReport;
+import service.PayrollAggregator;
+import service.PayrollCalculator;
+import service.PayrollScenario;
+import service.PayrollSimulator;
+import service.ScenarioResult;
+import service.SimulationReport;
+import utils.RateSet;
+import utils.SSSContributionTable;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Times what-if payroll scenarios over one in-memory roster and checks that the simulated
+ * baseline matches a real payroll run to the centavo.
+ * The scenario set mixes a raise for one position, a raise for everyone, a higher PhilHealth
+ * rate, a draft SSS schedule, a 160-hour standard month and all of them combined, plus a
+ * sweep of raises so enough scenarios run to keep every worker busy. The named scenarios are
+ * then run over a quarter of three monthly periods, which must agree with simulating each
+ * month on its own.
+ * Usage: {@code SimulationBenchmark [employees] [parallelism] [output.csv]}
+ */
+public class SimulationBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        List<Employee> employees = SyntheticEmployees.generate(size, 42);
+        double[] hours = SyntheticEmployees.generateHours(size, 42);
+        EmployeeStore store = EmployeeStore.of(employees);
+        PayrollCalculator calculator = new PayrollCalculator();
+
+        PayrollScenario baseline = PayrollScenario.baseline(calculator);
+        String position = mostCommonPosition(employees);
+        RateSet rates = calculator.getRates();
+        RateSet philHealth5 = new RateSet(rates.getVersion() + "-ph5", rates.getEffectiveDate(), rates.getSssTable(),
+            0.05, rates.getPhilHealthEmployeeShare(), rates.getPagIbigRate(), rates.getPagIbigCap(), rates.getTaxTable());
+        RateSet draftSss = new RateSet(rates.getVersion() + "-sss", rates.getEffectiveDate(), raised(rates.getSssTable(), 0.10),
+            rates.getPhilHealthRate(), rates.getPhilHealthEmployeeShare(), rates.getPagIbigRate(), rates.getPagIbigCap(),
+            rates.getTaxTable());
+        RateSet both = new RateSet(rates.getVersion() + "-ph5-sss", rates.getEffectiveDate(), draftSss.getSssTable(),
+            0.05, rates.getPhilHealthEmployeeShare(), rates.getPagIbigRate(), rates.getPagIbigCap(), rates.getTaxTable());
+
+        List<PayrollScenario> scenarios = new ArrayList<>();
+        scenarios.add(baseline.withPositionRaise("5% raise: " + position, position, 0.05));
+        scenarios.add(baseline.withRaise("3% raise for everyone", 0.03));
+        scenarios.add(baseline.withRates("PhilHealth 5%", philHealth5));
+        scenarios.add(baseline.withRates("SSS schedule +10%", draftSss));
+        scenarios.add(baseline.withStandardMonthlyHours("160-hour month", 160));
+        scenarios.add(baseline.withRates("Combined", both).withPositionRaise("Combined", position, 0.05)
+            .withRaise("Combined", 0.03));
+        for (int percent = 1; percent <= 10; percent++) {
+            scenarios.add(baseline.withRaise(percent + "% raise sweep", percent / 100.0));
+        }
+
+        try (PayrollSimulator simulator = new PayrollSimulator(parallelism);
+             PayrollSimulator single = new PayrollSimulator(1);
+             PayrollAggregator aggregator = new PayrollAggregator(parallelism, calculator)) {
+            SimulationReport report = null;
+            for (int round = 0; round < 10; round++) {
+                long start = System.nanoTime();
+                single.simulate(store, hours, baseline, List.of());
+                long baselineNanos = System.nanoTime() - start;
+                report = simulator.simulate(store, hours, baseline, scenarios);
+                int count = scenarios.size() + 1;
+                System.out.printf("Round %d: baseline alone %.1f ms; %d scenarios %.1f ms wall, %.1f ms per scenario (%.1f ms of worker time)%n",
+                    round + 1, baselineNanos / 1e6, count, report.getWallTimeNanos() / 1e6,
+                    report.getWallTimeNanos() / 1e6 / count, cpuNanos(report) / 1e6 / count);
+            }
+
+            long realNet = aggregator.aggregate(store, hours).getTotal().getNetSalary();
+            System.out.println(realNet == report.getBaseline().getTotal().getNetSalary()
+                ? "✅ Simulated baseline matches the payroll run to the centavo"
+                : "❌ Simulated baseline differs from the payroll run");
+            report.display();
+            if (args.length > 2) {
+                report.writeCsv(Paths.get(args[2]));
+                System.out.println("✅ Scenario deltas written to " + args[2]);
+            }
+
+            List<String> months = List.of("January", "February", "March");
+            List<double[]> hoursByMonth = List.of(hours, SyntheticEmployees.generateHours(size, 43),
+                SyntheticEmployees.generateHours(size, 44));
+            List<PayrollScenario> named = scenarios.subList(0, 6);
+            long start = System.nanoTime();
+            MultiPeriodReport quarter = simulator.simulatePeriods(store, months, hoursByMonth, baseline, named);
+            long quarterNanos = System.nanoTime() - start;
+            boolean matches = true;
+            for (int month = 0; month < months.size(); month++) {
+                SimulationReport alone = simulator.simulate(store, hoursByMonth.get(month), baseline, named);
+                matches &= quarter.getTotal(baseline, month).getNetSalary() == alone.getBaseline().getTotal().getNetSalary();
+                for (int i = 0; i < named.size(); i++) {
+                    matches &= quarter.getTotal(named.get(i), month).getNetSalary()
+                        == alone.getScenarios().get(i).getTotal().getNetSalary();
+                }
+            }
+            System.out.printf("Quarter: %d scenarios over %d months in %.1f ms%n", named.size() + 1, months.size(),
+                quarterNanos / 1e6);
+            System.out.println(matches
+                ? "✅ Every month of the quarter matches simulating that month alone"
+                : "❌ The quarter differs from simulating each month alone");
+            quarter.display();
+        }
+    }
+
+    private static long cpuNanos(SimulationReport report) {
+        long nanos = report.getBaseline().getComputeNanos();
+        for (ScenarioResult result : report.getScenarios()) nanos += result.getComputeNanos();
+        return nanos;
+    }
+
+    private static String mostCommonPosition(List<Employee> employees) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Employee employee : employees) counts.merge(employee.getPosition(), 1, Integer::sum);
+        return counts.entrySet().stream().max(Map.Entry.comparingByValue()).orElseThrow().getKey();
+    }
+
+    private static SSSContributionTable raised(SSSContributionTable table, double raise) {
+        double[] bounds = new double[table.getBracketCount()];
+        double[] contributions = new double[table.getBracketCount()];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = table.getUpperBound(i);
+            contributions[i] = Math.round(table.getContribution(i) * (1 + raise) * 100) / 100.0;
+        }
+        return new SSSContributionTable(table.getVersion() + "-draft", table.getEffectiveDate(), bounds, contributions,
+            Math.round(table.getMaxContribution() * (1 + raise) * 100) / 100.0);
+    }
+}
@@ -0,0 +1,41 @@
+package benchmark;
+
+import service.PayrollSystem;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Measures cold-start time to a loaded roster from the CSV file and from the binary snapshot.
+ * Run each mode in a fresh JVM so class loading and JIT warm-up are part of the measurement;
+ * run {@code snapshot} once beforehand (or after {@code csv}) so the snapshot exists.
+ * Usage: {@code SnapshotStartupBenchmark <csv|snapshot> [rows]}
+ */
+public class SnapshotStartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Logger.getLogger(PayrollSystem.class.getName()).setLevel(Level.SEVERE);
+        String mode = args.length > 0 ? args[0] : "snapshot";
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        Path csv = Paths.get("synthetic_employees_" + rows + ".csv");
+        if (!Files.exists(csv)) SyntheticEmployees.writeCsv(csv, rows, 42);
+
+        long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+        long start = System.nanoTime();
+        PayrollSystem payrollSystem = new PayrollSystem();
+        if (mode.equals("csv")) {
+            payrollSystem.loadEmployeeData(csv.toString());
+        } else {
+            payrollSystem.loadEmployeeDataCached(csv.toString());
+        }
+        long loadMillis = (System.nanoTime() - start) / 1_000_000;
+        long sinceJvmStart = System.currentTimeMillis() - jvmStart;
+
+        System.out.printf("Mode: %s, employees: %,d, load: %d ms, since JVM start: %d ms%n",
+            mode, payrollSystem.getEmployees().size(), loadMillis, sinceJvmStart);
+    }
+}
@@ -0,0 +1,174 @@
+package benchmark;
+
+import model.Employee;
+import service.PayrollCalculator;
+import com.opencsv.CSVWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic employee rosters for benchmarks.
+ * Values follow the shape of the MotorPH employee master file so results are
+ * reproducible on any machine for a given size and seed.
+ */
+public class SyntheticEmployees {
+    private static final String[] CSV_HEADER = {
+        "Employee #", "Last Name", "First Name", "Birthday", "Address", "Phone Number", "TIN #", "SSS #",
+        "Philhealth #", "Pag-ibig #", "Status", "Position", "Immediate Supervisor", "Basic Salary", "Rice Subsidy",
+        "Phone Allowance", "Clothing Allowance", "Gross Semi-monthly Rate", "Hourly Rate"
+    };
+    private static final String[] POSITIONS = {
+        "Chief Executive Officer", "HR Manager", "HR Team Leader", "HR Rank and File", "Accounting Head",
+        "Payroll Manager", "Payroll Team Leader", "Payroll Rank and File", "Account Manager",
+        "Account Team Leader", "Account Rank and File", "Sales & Marketing", "Supply Chain and Logistics",
+        "Customer Service and Relations", "IT Operations and Systems"
+    };
+    private static final double[] BASIC_SALARIES = {
+        90000, 62670, 52670, 42975, 52670, 50825, 38475, 24000, 53500, 42975, 22500, 52670, 52670, 52670, 90000
+    };
+    private static final String[] LAST_NAMES = {
+        "Garcia", "Lim", "Aquino", "Reyes", "Hernandez", "Villanueva", "San Jose", "Romualdez", "Atienza",
+        "Alvaro", "Salcedo", "Lopez", "Farala", "Martinez", "Romero", "Mata", "De Leon", "Bautista"
+    };
+    private static final String[] FIRST_NAMES = {
+        "Manuel III", "Antonio", "Bianca Sofia", "Isabella", "Eduard", "Andrea Mae", "Brad", "Alice",
+        "Rosie", "Roderick", "Anthony", "Josie", "Martha", "Leila", "Fredrick", "Christian", "Selena"
+    };
+
+    private SyntheticEmployees() {
+    }
+
+    /**
+     * Writes a synthetic employee master file from the command line.
+     * Usage: {@code SyntheticEmployees <employees> <output.csv> [seed]}
+     * @param args Number of employees, output path and optional seed
+     * @throws IOException if writing fails
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: SyntheticEmployees <employees> <output.csv> [seed]");
+            return;
+        }
+        int size = Integer.parseInt(args[0]);
+        Path path = Paths.get(args[1]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+
+        long start = System.nanoTime();
+        writeCsv(path, size, seed);
+        System.out.printf("✅ Wrote %,d synthetic employees to %s (seed %d) in %.2f s%n",
+            size, path, seed, (System.nanoTime() - start) / 1e9);
+    }
+
+    /**
+     * Generates a roster of synthetic employees.
+     * @param size Number of employees to generate
+     * @param seed Random seed, so the same size and seed give the same roster
+     * @return Generated roster
+     */
+    public static List<Employee> generate(int size, long seed) {
+        Random random = new Random(seed);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(generateEmployee(random, i));
+        }
+        return employees;
+    }
+
+    /**
+     * Writes a synthetic employee master file in the same layout as employee_data.csv.
+     * Employees are generated one at a time, so files far larger than the heap can be written.
+     * @param path Path of the CSV file to write
+     * @param size Number of employees to generate
+     * @param seed Random seed, so the same size and seed give the same file
+     * @throws IOException if writing fails
+     */
+    public static void writeCsv(Path path, int size, long seed) throws IOException {
+        Random random = new Random(seed);
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+             CSVWriter writer = new CSVWriter(out)) {
+            writer.writeNext(CSV_HEADER);
+            for (int i = 0; i < size; i++) {
+                writer.writeNext(generateRow(random, i));
+            }
+        }
+    }
+
+    /**
+     * Generates hours worked for every employee of a roster.
+     * @param size Number of employees
+     * @param seed Random seed
+     * @return Hours worked between 120 and 200 per employee
+     */
+    public static double[] generateHours(int size, long seed) {
+        Random random = new Random(seed);
+        double[] hours = new double[size];
+        for (int i = 0; i < size; i++) {
+            hours[i] = 120 + random.nextInt(81);
+        }
+        return hours;
+    }
+
+    /**
+     * Generates one synthetic employee.
+     * @param random Source of randomness
+     * @param index Position of the employee in the roster
+     * @return Generated employee
+     */
+    private static Employee generateEmployee(Random random, int index) {
+        String[] row = generateRow(random, index);
+        return new Employee(row[0], row[1], row[2], row[3], row[4], row[5], row[6], row[7], row[8], row[9],
+            row[10], row[11], row[12], parseAmount(row[13]), parseAmount(row[14]), parseAmount(row[15]),
+            parseAmount(row[16]));
+    }
+
+    /**
+     * Generates one synthetic row of the employee master file.
+     * Amounts use thousands separators like the real file.
+     * @param random Source of randomness
+     * @param index Position of the employee in the roster
+     * @return The 19 columns of the row
+     */
+    private static String[] generateRow(Random random, int index) {
+        int position = random.nextInt(POSITIONS.length);
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String supervisorLastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        double basicSalary = BASIC_SALARIES[position] + random.nextInt(20) * 500;
+        double phoneAllowance = basicSalary >= 50000 ? 2000 : basicSalary >= 30000 ? 1000 : 500;
+        double clothingAllowance = basicSalary >= 50000 ? 1000 : 500;
+
+        return new String[]{
+            String.valueOf(10001 + index), lastName, firstName,
+            String.format("%02d/%02d/19%02d", 1 + random.nextInt(12), 1 + random.nextInt(28), 60 + random.nextInt(40)),
+            (100 + random.nextInt(900)) + " Synthetic St., Quezon City, Metro Manila",
+            String.format("9%02d-%03d-%03d", random.nextInt(100), random.nextInt(1000), random.nextInt(1000)),
+            String.format("%03d-%03d-%03d-000", index / 1_000_000 % 1000, index / 1000 % 1000, index % 1000),
+            String.format("%02d-%07d-%d", index / 10_000_000 % 100, index % 10_000_000, random.nextInt(10)),
+            String.valueOf(100_000_000_000L + index),
+            String.valueOf(600_000_000_000L + index),
+            random.nextInt(4) == 0 ? "Probationary" : "Regular",
+            POSITIONS[position],
+            supervisorLastName + ", " + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+            String.format("%,.0f", basicSalary), "1,500", String.format("%,.0f", phoneAllowance),
+            String.format("%,.0f", clothingAllowance), String.format("%,.0f", basicSalary / 2),
+            String.format("%.2f", basicSalary / PayrollCalculator.DEFAULT_STANDARD_MONTHLY_HOURS)
+        };
+    }
+
+    /**
+     * Parses an amount written with thousands separators.
+     * @param value Amount text
+     * @return Parsed amount
+     */
+    private static double parseAmount(String value) {
+        return Double.parseDouble(value.replace(",", ""));
+    }
+}
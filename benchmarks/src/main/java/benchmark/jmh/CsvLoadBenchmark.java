@@ -0,0 +1,99 @@
+package benchmark.jmh;
+
+import benchmark.SyntheticEmployees;
+import model.Employee;
+import model.EmployeeStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import service.PayrollSystem;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Times loading a synthetic employee master file through every loader of PayrollSystem.
+ * The file is generated once per trial into a temporary directory and removed afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CsvLoadBenchmark {
+
+    @Param({"1000", "100000"})
+    public int employees;
+
+    private Path directory;
+    private String csvPath;
+    private String cachedCsvPath;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("motorph-bench");
+        Path csv = directory.resolve("employee_data.csv");
+        SyntheticEmployees.writeCsv(csv, employees, 42);
+        csvPath = csv.toString();
+
+        // A separate copy for the cached loader, whose snapshot is written on the first load
+        Path cached = directory.resolve("employee_data_cached.csv");
+        Files.copy(csv, cached);
+        cachedCsvPath = cached.toString();
+        new PayrollSystem().loadEmployeeDataCached(cachedCsvPath);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public List<Employee> openCsv() throws Exception {
+        PayrollSystem payrollSystem = new PayrollSystem();
+        payrollSystem.loadEmployeeData(csvPath);
+        return payrollSystem.getEmployees();
+    }
+
+    @Benchmark
+    public long streaming() throws Exception {
+        try (Stream<Employee> stream = new PayrollSystem().streamEmployeeData(csvPath)) {
+            return stream.count();
+        }
+    }
+
+    @Benchmark
+    public List<Employee> mapped() throws Exception {
+        PayrollSystem payrollSystem = new PayrollSystem();
+        payrollSystem.loadEmployeeDataMapped(csvPath);
+        return payrollSystem.getEmployees();
+    }
+
+    @Benchmark
+    public EmployeeStore columnarStore() throws Exception {
+        return new PayrollSystem().loadEmployeeStore(csvPath);
+    }
+
+    @Benchmark
+    public List<Employee> snapshot() throws Exception {
+        PayrollSystem payrollSystem = new PayrollSystem();
+        payrollSystem.loadEmployeeDataCached(cachedCsvPath);
+        return payrollSystem.getEmployees();
+    }
+}
@@ -0,0 +1,77 @@
+package benchmark.jmh;
+
+import benchmark.SyntheticEmployees;
+import model.Employee;
+import model.PayrollResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import service.PayrollCalculator;
+import utils.PayslipGenerator;
+import utils.PayslipRenderer;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times producing one payslip with the printf-based generator and with the buffered renderer.
+ * The generator prints to a discarding stream, so only formatting cost is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PayslipRenderBenchmark {
+    private static final int RESULTS = 1024;
+
+    private PayrollResult[] results;
+    private PayslipRenderer renderer;
+    private PrintStream console;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<Employee> employees = SyntheticEmployees.generate(RESULTS, 42);
+        double[] hours = SyntheticEmployees.generateHours(RESULTS, 42);
+        PayrollCalculator payrollCalculator = new PayrollCalculator();
+        results = new PayrollResult[RESULTS];
+        for (int i = 0; i < RESULTS; i++) {
+            results[i] = payrollCalculator.computePayroll(employees.get(i), hours[i]);
+        }
+        renderer = new PayslipRenderer();
+        console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(console);
+    }
+
+    private PayrollResult nextResult() {
+        next = (next + 1) & (RESULTS - 1);
+        return results[next];
+    }
+
+    @Benchmark
+    public void printfGenerator() {
+        PayslipGenerator.generatePayslip(nextResult());
+    }
+
+    @Benchmark
+    public CharSequence renderer() {
+        return renderer.render(nextResult());
+    }
+}
@@ -0,0 +1,91 @@
+package benchmark.jmh;
+
+import benchmark.SyntheticEmployees;
+import model.Employee;
+import model.EmployeeStore;
+import model.PayrollResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import service.ParallelPayrollEngine;
+import service.PayrollCalculator;
+import service.PayrollRun;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times payroll for a whole synthetic roster of 1k, 100k and 1M employees.
+ * Compares the per-employee loop, the loop with a reused result, the parallel engine
+ * and the columnar store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RosterBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int employees;
+
+    private List<Employee> roster;
+    private EmployeeStore store;
+    private double[] hoursWorked;
+    private double[] netSalaries;
+    private PayrollCalculator payrollCalculator;
+    private ParallelPayrollEngine engine;
+
+    @Setup
+    public void setUp() {
+        roster = SyntheticEmployees.generate(employees, 42);
+        hoursWorked = SyntheticEmployees.generateHours(employees, 42);
+        store = EmployeeStore.of(roster);
+        netSalaries = new double[employees];
+        payrollCalculator = new PayrollCalculator();
+        engine = new ParallelPayrollEngine();
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.close();
+    }
+
+    @Benchmark
+    public double[] sequential() {
+        for (int i = 0; i < employees; i++) {
+            netSalaries[i] = payrollCalculator.computeNetSalary(roster.get(i), hoursWorked[i]);
+        }
+        return netSalaries;
+    }
+
+    @Benchmark
+    public double[] sequentialReusedResult() {
+        PayrollResult result = new PayrollResult();
+        for (int i = 0; i < employees; i++) {
+            netSalaries[i] = payrollCalculator.computePayroll(roster.get(i), hoursWorked[i], result).getNetSalary();
+        }
+        return netSalaries;
+    }
+
+    @Benchmark
+    public PayrollRun parallel() {
+        return engine.computePayroll(roster, hoursWorked);
+    }
+
+    @Benchmark
+    public double[] columnar() {
+        payrollCalculator.computeNetSalaries(store, hoursWorked, netSalaries);
+        return netSalaries;
+    }
+}
@@ -0,0 +1,97 @@
+package benchmark.jmh;
+
+import benchmark.SSSLookupBenchmark;
+import model.Employee;
+import model.PayrollResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import service.PayrollCalculator;
+import utils.SSSCalculator;
+import utils.TaxCalculator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times payroll for one employee and the contribution lookups behind it.
+ * The salary parameter places the employee in a low, middle or top bracket. The mixed
+ * lookups walk random salaries so the if-chain cannot ride on branch prediction; they stay
+ * below {@link SSSLookupBenchmark#LEGACY_LIMIT}, where the original if-chain is known.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SingleEmployeeBenchmark {
+    private static final int MIXED_SALARIES = 1024;
+
+    @Param({"18000", "45000", "90000"})
+    public double basicSalary;
+
+    private Employee employee;
+    private PayrollCalculator payrollCalculator;
+    private PayrollResult result;
+    private double hoursWorked;
+    private double[] mixedSalaries;
+
+    @Setup
+    public void setUp() {
+        employee = new Employee("10001", "Garcia", "Manuel III", "10/11/1983", "Valero Carpark Building, Makati City",
+            "966-860-270", "442-605-657-000", "44-4506057-3", "820126853951", "691295330870", "Regular",
+            "Chief Executive Officer", "N/A", basicSalary, 1500, 2000, 1000);
+        payrollCalculator = new PayrollCalculator();
+        result = new PayrollResult();
+        hoursWorked = 160;
+
+        Random random = new Random(42);
+        mixedSalaries = new double[MIXED_SALARIES];
+        for (int i = 0; i < MIXED_SALARIES; i++) {
+            mixedSalaries[i] = random.nextInt(SSSLookupBenchmark.LEGACY_LIMIT * 100) / 100.0;
+        }
+    }
+
+    @Benchmark
+    public double computeNetSalary() {
+        return payrollCalculator.computeNetSalary(employee, hoursWorked);
+    }
+
+    @Benchmark
+    public PayrollResult computePayroll() {
+        return payrollCalculator.computePayroll(employee, hoursWorked, result);
+    }
+
+    @Benchmark
+    public double withholdingTax() {
+        return TaxCalculator.computeWithholdingTax(basicSalary);
+    }
+
+    @Benchmark
+    public double sssTable() {
+        return SSSCalculator.getSSSContribution(basicSalary);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MIXED_SALARIES)
+    public void sssTableMixed(Blackhole blackhole) {
+        for (double salary : mixedSalaries) blackhole.consume(SSSCalculator.getSSSContribution(salary));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MIXED_SALARIES)
+    public void sssIfChainMixed(Blackhole blackhole) {
+        for (double salary : mixedSalaries) blackhole.consume(SSSLookupBenchmark.legacyContribution(salary));
+    }
+}